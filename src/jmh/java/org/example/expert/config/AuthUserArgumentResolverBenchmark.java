@@ -0,0 +1,37 @@
+package org.example.expert.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Auth AuthUser 파라미터가 있는 컨트롤러 메서드마다 부르는 resolveArgument
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthUserArgumentResolverBenchmark {
+
+    private final AuthUserArgumentResolver resolver = new AuthUserArgumentResolver();
+    private ServletWebRequest webRequest;
+
+    @Setup
+    public void setUp() {
+        // JwtFilter 가 넣어 두는 attribute 와 같은 모양
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/me/todos");
+        request.setAttribute("userId", 1L);
+        request.setAttribute("email", "user@test.com");
+        request.setAttribute("userRole", "USER");
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public Object resolveArgument() {
+        return resolver.resolveArgument(null, null, webRequest, null);
+    }
+}
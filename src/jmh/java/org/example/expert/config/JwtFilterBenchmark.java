@@ -0,0 +1,55 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 필요한 요청마다 거치는 JwtFilter.doFilter (토큰 검증, claims 를 request attribute 로 옮기기)
+ * 요청/응답 객체는 재사용하고 체인은 아무것도 하지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtFilter jwtFilter;
+    private MockHttpServletRequest userRequest;
+    private MockHttpServletRequest adminRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = JwtBenchmark.newJwtUtil();
+        jwtFilter = new JwtFilter(jwtUtil, new ObjectMapper());
+
+        userRequest = new MockHttpServletRequest("GET", "/todos/1");
+        userRequest.addHeader("Authorization", jwtUtil.createToken(1L, "user@test.com", UserRole.USER));
+        adminRequest = new MockHttpServletRequest("PATCH", "/admin/users/2");
+        adminRequest.addHeader("Authorization", jwtUtil.createToken(2L, "admin@test.com", UserRole.ADMIN));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object userRequest() throws Exception {
+        jwtFilter.doFilter(userRequest, response, NO_OP_CHAIN);
+        return userRequest.getAttribute("userId");
+    }
+
+    @Benchmark
+    public Object adminRequest() throws Exception {
+        jwtFilter.doFilter(adminRequest, response, NO_OP_CHAIN);
+        return adminRequest.getAttribute("userId");
+    }
+}
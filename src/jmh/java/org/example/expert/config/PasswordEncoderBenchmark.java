@@ -0,0 +1,35 @@
+package org.example.expert.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가입(encode)과 로그인/비밀번호 변경(matches) 의 bcrypt 비용. cost 10 이라 호출당 수십 ms 단위다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder();
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        encoded = passwordEncoder.encode("Password1");
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode("Password1");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("Password1", encoded);
+    }
+}
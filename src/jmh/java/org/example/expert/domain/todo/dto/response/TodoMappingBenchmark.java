@@ -0,0 +1,57 @@
+package org.example.expert.domain.todo.dto.response;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → TodoResponse 변환 (TodoService 가 쓰는 TodoResponse.from). 단건 조회와 커서 페이지(getMyTodos) 한 장 분량
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoMappingBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private Todo todo;
+    private List<Todo> page;
+
+    @Setup
+    public void setUp() {
+        User user = new User("user@test.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        LocalDateTime now = LocalDateTime.now();
+
+        page = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            Todo entity = new Todo("title " + id, "contents " + id, "Sunny", user);
+            ReflectionTestUtils.setField(entity, "id", id);
+            ReflectionTestUtils.setField(entity, "createdAt", now);
+            ReflectionTestUtils.setField(entity, "modifiedAt", now);
+            page.add(entity);
+        }
+        todo = page.get(0);
+    }
+
+    @Benchmark
+    public TodoResponse single() {
+        return TodoResponse.from(todo);
+    }
+
+    @Benchmark
+    public List<TodoResponse> page() {
+        return page.stream().map(TodoResponse::from).toList();
+    }
+}
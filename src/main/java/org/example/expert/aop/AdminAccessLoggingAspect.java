@@ -1,32 +1,40 @@
 package org.example.expert.aop;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.example.expert.domain.audit.pipeline.AdminAccessAuditor;
+import org.example.expert.domain.audit.pipeline.AdminAccessEvent;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
 
+/**
+ * 어드민 API 감사 기록. 요청/응답 객체 참조와 시각만 담아 AdminAccessAuditor 에 넘기고,
+ * 직렬화와 저장은 백그라운드에서 한다. 요청 지연이 본문 크기에 따라 늘지 않는다.
+ */
 @Slf4j
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class AdminAccessLoggingAspect {
 
-    private final ObjectMapper objectMapper;
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String STREAM_BODY = "(stream)";
 
-    @Around("execution(* org.example.expert.domain.comment.controller.CommentAdminController.deleteComment(..)) || " +
-            "execution(* org.example.expert.domain.user.controller.UserAdminController.changeUserRole(..))")
+    private final AdminAccessAuditor adminAccessAuditor;
+
+    // 일괄 작업 엔드포인트도 요청 한 번에 한 번만 기록된다
+    @Around("execution(* org.example.expert.domain..controller.*AdminController.*(..))")
     public Object logAdminAccess(ProceedingJoinPoint joinPoint) throws Throwable {
-        // 1. 요청 정보 수집
         ServletRequestAttributes attributes =
                 (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
 
@@ -36,71 +44,60 @@ public class AdminAccessLoggingAspect {
         }
 
         HttpServletRequest request = attributes.getRequest();
-
-        Long userId = (Long) request.getAttribute("userId");
-        String uri = request.getRequestURI();
-        String requestTime = LocalDateTime.now().format(FORMATTER);
-
-        // 2. RequestBody 로깅
-        String requestBody = extractRequestBody(joinPoint.getArgs());
-
-        log.info("📩 [ADMIN_API_REQUEST] userId={}, uri={}, time={}, requestBody={}",
-                userId, uri, requestTime, requestBody);
-
-        // 3. 메서드 실행
-        long startTime = System.currentTimeMillis();
-        Object result = null;
+        long occurredAt = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         try {
-            result = joinPoint.proceed();
-
-            // 4. ResponseBody 로깅
-            String responseBody = serializeResponse(result);
-            long executionTime = System.currentTimeMillis() - startTime;
-
-            log.info("📬 [ADMIN_API_RESPONSE] userId={}, uri={}, executionTime={}ms, responseBody={}",
-                    userId, uri, executionTime, responseBody);
-
+            Object result = joinPoint.proceed();
+            adminAccessAuditor.record(newEvent(request, joinPoint.getArgs(), result, null, occurredAt, startTime));
             return result;
-
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("❌ [ADMIN_API_ERROR] userId={}, uri={}, executionTime={}ms, error={}",
-                    userId, uri, executionTime, e.getMessage());
+            adminAccessAuditor.record(newEvent(request, joinPoint.getArgs(), null, e, occurredAt, startTime));
             throw e;
         }
     }
 
+    private AdminAccessEvent newEvent(HttpServletRequest request, Object[] args, Object result, Exception error,
+                                      long occurredAt, long startTime) {
+        Object responseBody = result;
+        Integer status = error == null ? 200 : null;
+        if (result instanceof ResponseEntity<?> entity) {
+            responseBody = entity.getBody() instanceof StreamingResponseBody ? STREAM_BODY : entity.getBody();
+            status = entity.getStatusCode().value();
+        }
+        return new AdminAccessEvent(
+                (Long) request.getAttribute("userId"),
+                (String) request.getAttribute("email"),
+                request.getMethod(),
+                request.getRequestURI(),
+                findRequestBody(args),
+                responseBody,
+                status,
+                error == null ? null : error.getMessage(),
+                occurredAt,
+                System.nanoTime() - startTime
+        );
+    }
+
     /**
-     * RequestBody 추출
+     * @RequestBody 나 DTO 객체 찾기 (기본 타입, 로그인 정보, 스트리밍 입력 제외)
      */
-    private String extractRequestBody(Object[] args) {
-        try {
-            for (Object arg : args) {
-                // @RequestBody나 DTO 객체 찾기 (기본 타입 제외)
-                if (arg != null && !isSimpleType(arg)) {
-                    return objectMapper.writeValueAsString(arg);
-                }
+    private Object findRequestBody(Object[] args) {
+        for (Object arg : args) {
+            if (arg != null && !isSimpleType(arg) && !isNonBodyArgument(arg)) {
+                return arg;
             }
-        } catch (Exception e) {
-            log.warn("RequestBody 요청 실패: {}", e.getMessage());
         }
-        return "Not Available";
+        return null;
     }
 
     /**
-     * ResponseBody 직렬화
+     * 로그인 정보, 스트리밍 입력 등 직렬화하지 않는 인자
      */
-    private String serializeResponse(Object response) {
-        try {
-            if (response == null) {
-                return "null";
-            }
-            return objectMapper.writeValueAsString(response);
-        } catch (Exception e) {
-            log.warn("ResponseBody 응답 실패: {}", e.getMessage());
-            return "Not Available";
-        }
+    private boolean isNonBodyArgument(Object obj) {
+        return obj instanceof AuthUser ||
+                obj instanceof InputStream ||
+                obj instanceof MediaType;
     }
 
     /**
@@ -113,4 +110,4 @@ public class AdminAccessLoggingAspect {
                 obj instanceof Character ||
                 obj.getClass().isPrimitive();
     }
-}
\ No newline at end of file
+}
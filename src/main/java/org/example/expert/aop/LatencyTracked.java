@@ -0,0 +1,15 @@
+package org.example.expert.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드 지연시간 히스토그램 대상. domain.*.service, client 패키지는 붙이지 않아도 측정된다.
+ * 그 밖의 빈에서 측정이 필요하면 클래스나 메서드에 붙인다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LatencyTracked {
+}
@@ -0,0 +1,39 @@
+package org.example.expert.aop;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.metrics.LatencyHistogram;
+import org.example.expert.metrics.MethodLatencyRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스/외부 클라이언트 public 메서드 지연시간을 히스토그램에 기록한다.
+ * 호출마다 nanoTime 두 번과 히스토그램 셀 증가만 하고 문자열이나 태그 객체를 만들지 않는다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodLatencyAspect {
+
+    private final MethodLatencyRegistry methodLatencyRegistry;
+
+    @Around("execution(public * *(..)) && (within(org.example.expert.domain.*.service..*)"
+            + " || within(org.example.expert.client..*)"
+            + " || @within(org.example.expert.aop.LatencyTracked)"
+            + " || @annotation(org.example.expert.aop.LatencyTracked))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!methodLatencyRegistry.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        LatencyHistogram histogram = methodLatencyRegistry.histogram(((MethodSignature) joinPoint.getSignature()).getMethod());
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+}
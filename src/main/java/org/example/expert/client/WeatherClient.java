@@ -2,6 +2,7 @@ package org.example.expert.client;
 
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,9 +18,14 @@ import java.time.format.DateTimeFormatter;
 public class WeatherClient {
 
     private final RestTemplate restTemplate;
+    private final String baseUrl;
 
-    public WeatherClient(RestTemplateBuilder builder) {
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            @Value("${weather.base-url:https://f-api.github.io}") String baseUrl
+    ) {
         this.restTemplate = builder.build();
+        this.baseUrl = baseUrl;
     }
 
     public String getTodayWeather() {
@@ -49,7 +55,7 @@ public class WeatherClient {
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
@@ -0,0 +1,63 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * db.concurrency-limit.enabled 면 DataSource 를 ConnectionLimitingDataSource 로 감싼다.
+ * permits 가 0 이면 Hikari maximum-pool-size 를 쓴다. 다른 DataSource 래퍼(SQL 집계)보다 안쪽에 둔다.
+ *
+ * 바깥은 LazyConnectionDataSourceProxy 라서 트랜잭션을 시작할 때가 아니라 첫 SQL 에서 커넥션(과 허가)을 잡는다.
+ * saveTodo 처럼 트랜잭션 안에서 날씨 API 를 먼저 부르는 요청이 그 대기 동안 커넥션을 쥐고 있지 않는다.
+ */
+@Slf4j
+@Component
+public class ConnectionLimitPostProcessor implements BeanPostProcessor, PriorityOrdered, EnvironmentAware {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private boolean enabled;
+    private int permits;
+    private Duration acquireTimeout;
+
+    // PriorityOrdered BeanPostProcessor 는 생성자 주입 처리기보다 먼저 만들어지므로 Environment 에서 직접 읽는다
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.enabled = environment.getProperty("db.concurrency-limit.enabled", Boolean.class, false);
+        this.permits = environment.getProperty("db.concurrency-limit.permits", Integer.class, 0);
+        this.acquireTimeout = environment.getProperty("db.concurrency-limit.acquire-timeout", Duration.class,
+                Duration.ofSeconds(30));
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof LazyConnectionDataSourceProxy) {
+            return bean;
+        }
+        int limit = permits;
+        if (limit <= 0 && bean instanceof HikariDataSource hikari) {
+            limit = hikari.getMaximumPoolSize();
+        }
+        // Hikari 는 풀을 열 때까지 maximum-pool-size 미설정을 -1 로 두고, 그때 기본값 10 을 쓴다
+        if (limit <= 0) {
+            limit = DEFAULT_POOL_SIZE;
+        }
+        log.info("DB 동시 접근 한도: {} (DataSource={})", limit, beanName);
+        return new LazyConnectionDataSourceProxy(new ConnectionLimitingDataSource(dataSource, limit, acquireTimeout));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
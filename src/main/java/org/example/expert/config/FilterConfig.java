@@ -1,10 +1,14 @@
 package org.example.expert.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.metrics.SqlStatementFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
 @Configuration
 @RequiredArgsConstructor
@@ -21,4 +25,21 @@ public class FilterConfig {
 
         return registrationBean;
     }
+
+    // JwtFilter 바로 앞에서 요청 전체의 SQL 을 센다
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(
+            MeterRegistry meterRegistry,
+            @Value("${sql.stats.enabled:true}") boolean enabled,
+            @Value("${sql.stats.header:false}") boolean header,
+            @Value("${sql.stats.repeat-threshold:10}") int repeatThreshold
+    ) {
+        FilterRegistrationBean<SqlStatementFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new SqlStatementFilter(meterRegistry, header, repeatThreshold));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        registrationBean.setEnabled(enabled);
+
+        return registrationBean;
+    }
 }
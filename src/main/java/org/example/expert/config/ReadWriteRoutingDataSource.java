@@ -0,0 +1,237 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본으로, 나머지는 primary 로 보낸다.
+ *
+ * 복제본은 라운드 로빈으로 고르고, 헬스 체크에 실패했거나 커넥션을 주지 못한 복제본은 다시 살아날 때까지 뺀다.
+ * 쓸 수 있는 복제본이 없으면 primary 에서 읽는다.
+ * read-your-writes 창(RecentWriters)이 열린 사용자(JwtFilter 가 넣은 요청 속성 userId)는 읽기도 primary 에서 한다.
+ * 복제 지연 때문에 방금 자기가 쓴 내용이 안 보이는 일을 막는다. 요청 스레드의 쓰기 트랜잭션은 커밋될 때 창을 연다.
+ *
+ * 복제본에서 읽은 트랜잭션은 isReplicaRead() 로 알 수 있다. 로컬 캐시는 방금 쓰기로 비운 키만 이때 채우지 않는다
+ * (ReplicaFillGuard. 아직 따라잡지 못한 복제본 값으로 TTL 동안 다시 채우게 된다).
+ *
+ * readOnly 여부는 트랜잭션 동기화가 시작된 뒤에 알 수 있으므로 LazyConnectionDataSourceProxy 로 감싸 첫 SQL 에서 커넥션을 고르게 한다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+    // 복제본 커넥션을 받은 트랜잭션에 묶는 리소스 키
+    private static final Object REPLICA_READ = new Object();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final RecentWriters recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources, RecentWriters recentWriters) {
+        this.primary = primary;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+        this.recentWriters = recentWriters;
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 복제본마다 interval 간격으로 커넥션을 받아 isValid(timeout) 를 확인한다
+     */
+    public void startHealthChecks(Duration interval, Duration timeout) {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(() -> checkHealth(timeout),
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void checkHealth(Duration timeout) {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid((int) Math.max(1, timeout.toSeconds()))) {
+                    markUp(replica);
+                } else {
+                    markDown(replica, null);
+                }
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return PRIMARY;
+        }
+        Long userId = currentUserId();
+        if (userId != null && recentWriters.isRecentWriter(userId)) {
+            return PRIMARY;
+        }
+        Replica replica = nextHealthyReplica();
+        if (replica == null) {
+            return PRIMARY;
+        }
+        bindReplicaRead();
+        return replica.key;
+    }
+
+    /**
+     * 지금 트랜잭션이 복제본에서 읽었는지. 복제 지연이 있는 값으로 로컬 캐시를 채우지 않을 때 쓴다
+     */
+    public static boolean isReplicaRead() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_READ);
+    }
+
+    /**
+     * 복제본에서 커넥션을 못 받으면 그 복제본을 빼고 primary 에서 읽는다
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        Replica replica = replicaOf(key);
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            markDown(replica, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    public int getHealthyReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋된 뒤부터 창을 연다. 트랜잭션 밖의 커넥션(기본 설정 조회 등)은 쓰기로 보지 않는다
+     */
+    private void trackWrite() {
+        Long userId = currentUserId();
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        recentWriters.markWritten(userId);
+    }
+
+    private static void bindReplicaRead() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(REPLICA_READ)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REPLICA_READ, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_READ);
+            }
+        });
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private Replica replicaOf(Object key) {
+        for (Replica replica : replicas) {
+            if (replica.key.equals(key)) {
+                return replica;
+            }
+        }
+        throw new IllegalStateException("알 수 없는 복제본: " + key);
+    }
+
+    private void markUp(Replica replica) {
+        if (!replica.healthy) {
+            replica.healthy = true;
+            log.info("복제본 복구: {}", replica.key);
+        }
+    }
+
+    private void markDown(Replica replica, Exception cause) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("복제본 제외: {} ({})", replica.key, cause == null ? "isValid=false" : cause.getMessage());
+        }
+    }
+
+    private static Long currentUserId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return attributes.getAttribute("userId", RequestAttributes.SCOPE_REQUEST) instanceof Long userId ? userId : null;
+    }
+
+    private static class Replica {
+
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
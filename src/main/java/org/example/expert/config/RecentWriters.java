@@ -0,0 +1,47 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 방금 쓰기를 커밋한 사용자 (read-your-writes 창)
+ * ReadWriteRoutingDataSource 는 창이 열린 사용자의 읽기 전용 트랜잭션도 primary 로 보낸다.
+ *
+ * 요청 스레드의 쓰기 트랜잭션은 라우팅이 커밋 시점에 연다. 요청 속성이 없는 스레드에서 커밋되는 쓰기
+ * (CommentInsertBatcher 의 묶음 INSERT, 일괄 가입 스트리밍)는 쓰기를 받은 서비스가 markWritten 으로 직접 연다.
+ */
+@Component
+public class RecentWriters {
+
+    private final Cache<Long, Boolean> writers;
+
+    public RecentWriters(@Value("${db.replica.read-your-writes-window:5s}") Duration window) {
+        this.writers = Caffeine.newBuilder().expireAfterWrite(window).build();
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에, 밖이면(이미 커밋된 쓰기) 바로 창을 연다
+     */
+    public void markWritten(long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            writers.put(userId, Boolean.TRUE);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                writers.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+
+    public boolean isRecentWriter(long userId) {
+        return writers.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * db.replica.enabled 면 DataSource 를 ReadWriteRoutingDataSource 로 감싼다.
+ * 복제본 풀은 primary Hikari 설정(계정, 드라이버, 풀 크기)을 복사하고 URL 만 db.replica.urls 로 바꾼다.
+ *
+ * 동시 접근 한도(ConnectionLimitPostProcessor)보다 바깥, SQL 집계보다 안쪽에 둔다.
+ * 한도가 켜져 있으면 primary 쪽에만 걸린다.
+ */
+@Slf4j
+@Component
+public class ReplicaRoutingPostProcessor implements BeanPostProcessor, Ordered, DisposableBean {
+
+    private final boolean enabled;
+    private final List<String> urls;
+    private final RecentWriters recentWriters;
+    private final Duration healthCheckInterval;
+    private final Duration healthCheckTimeout;
+    private final List<ReadWriteRoutingDataSource> created = new ArrayList<>();
+
+    public ReplicaRoutingPostProcessor(
+            @Value("${db.replica.enabled:false}") boolean enabled,
+            @Value("${db.replica.urls:}") List<String> urls,
+            RecentWriters recentWriters,
+            @Value("${db.replica.health-check-interval:5s}") Duration healthCheckInterval,
+            @Value("${db.replica.health-check-timeout:2s}") Duration healthCheckTimeout
+    ) {
+        this.enabled = enabled;
+        this.urls = urls.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        this.recentWriters = recentWriters;
+        this.healthCheckInterval = healthCheckInterval;
+        this.healthCheckTimeout = healthCheckTimeout;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || urls.isEmpty() || !(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        DataSource primary = bean instanceof LazyConnectionDataSourceProxy lazy ? lazy.getTargetDataSource() : dataSource;
+        if (primary instanceof ReadWriteRoutingDataSource) {
+            return bean;
+        }
+        HikariDataSource primaryPool = unwrapHikari(primary);
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            if (primaryPool != null) {
+                primaryPool.copyStateTo(config);
+            }
+            config.setJdbcUrl(urls.get(i));
+            config.setPoolName("replica-" + i);
+            config.setReadOnly(true);
+            // 복제본이 내려가 있어도 기동은 되게 한다. 헬스 체크가 살아날 때까지 라우팅에서 뺀다
+            config.setInitializationFailTimeout(-1);
+            replicas.add(new HikariDataSource(config));
+        }
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replicas, recentWriters);
+        routing.startHealthChecks(healthCheckInterval, healthCheckTimeout);
+        created.add(routing);
+        log.info("읽기 전용 트랜잭션을 복제본 {} 개로 라우팅 (DataSource={})", replicas.size(), beanName);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (ReadWriteRoutingDataSource routing : created) {
+            routing.close();
+        }
+    }
+
+    // ConnectionLimitPostProcessor(HIGHEST_PRECEDENCE) 다음, SqlStatementDataSourcePostProcessor(LOWEST_PRECEDENCE) 이전
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
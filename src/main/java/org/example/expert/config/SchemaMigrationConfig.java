@@ -0,0 +1,24 @@
+package org.example.expert.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * SchemaMigrations 를 EntityManagerFactory 보다 먼저 실행한다 (ddl-auto 의 ALTER/검증보다 앞)
+ */
+@Configuration
+public class SchemaMigrationConfig {
+
+    @Bean
+    public SchemaMigrations schemaMigrations(DataSource dataSource) {
+        return new SchemaMigrations(dataSource);
+    }
+
+    @Bean
+    static EntityManagerFactoryDependsOnPostProcessor schemaMigrationsBeforeJpa() {
+        return new EntityManagerFactoryDependsOnPostProcessor("schemaMigrations");
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ddl-auto(update/validate) 가 하지 못하는 기존 데이터 정리와 제약 추가.
+ *
+ * Hibernate 가 스키마를 고치거나 검증하기 전에 실행하고(SchemaMigrationConfig), 끝난 항목은 schema_migrations 에 남겨
+ * 다음 기동부터 건너뛴다. 대상 테이블이 아직 없는 새 DB 에서는 할 일이 없으므로 기록만 하고 Hibernate 가 엔티티대로 만든다.
+ * 트랜잭션 밖에서 실행되므로 복제본 라우팅이 켜져 있어도 primary 로 간다.
+ */
+@Slf4j
+public class SchemaMigrations implements InitializingBean {
+
+    private static final String CREATE_HISTORY =
+            "CREATE TABLE IF NOT EXISTS schema_migrations (id VARCHAR(100) NOT NULL PRIMARY KEY, applied_at TIMESTAMP NOT NULL)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchemaMigrations(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        migrate();
+    }
+
+    public void migrate() {
+        jdbcTemplate.execute(CREATE_HISTORY);
+        Set<String> applied = new HashSet<>(jdbcTemplate.queryForList("SELECT id FROM schema_migrations", String.class));
+        for (Migration migration : migrations()) {
+            if (applied.contains(migration.id())) {
+                continue;
+            }
+            log.info("스키마 마이그레이션 실행: {}", migration.id());
+            migration.action().run();
+            try {
+                jdbcTemplate.update("INSERT INTO schema_migrations (id, applied_at) VALUES (?, ?)",
+                        migration.id(), LocalDateTime.now());
+            } catch (DuplicateKeyException e) {
+                // 동시에 뜬 다른 인스턴스가 먼저 기록했다. 각 단계는 다시 실행해도 결과가 같다
+            }
+        }
+    }
+
+    private List<Migration> migrations() {
+        return List.of(
+                new Migration("managers-unique-todo-user", this::uniqueManagers),
+                new Migration("managers-todo-modified-at", this::backfillManagerTodoModifiedAt)
+        );
+    }
+
+    /**
+     * (todo_id, user_id) 중복 담당자를 가장 먼저 등록된 행만 남기고 지운 뒤 uk_managers_todo_user 를 건다.
+     * 중복이 남아 있으면 Hibernate 의 ALTER 가 실패를 로그만 남기고 넘어가 제약 없이 뜨게 된다.
+     */
+    private void uniqueManagers() {
+        if (!tableExists("managers")) {
+            return;
+        }
+        // MySQL 은 DELETE 대상 테이블을 서브쿼리에서 바로 읽지 못하므로 파생 테이블로 한 번 감싼다
+        int deleted = jdbcTemplate.update("DELETE FROM managers WHERE id NOT IN " +
+                "(SELECT id FROM (SELECT MIN(id) AS id FROM managers GROUP BY todo_id, user_id) kept)");
+        if (deleted > 0) {
+            log.warn("중복 담당자 {} 건 삭제", deleted);
+        }
+        if (!hasUniqueIndex("managers", Set.of("todo_id", "user_id"))) {
+            jdbcTemplate.execute("ALTER TABLE managers ADD CONSTRAINT uk_managers_todo_user UNIQUE (todo_id, user_id)");
+        }
+    }
+
+    /**
+     * GET /users/me/todos 정렬 키(managers.todo_modified_at)를 todos.modified_at 으로 채우고 NOT NULL 로 바꾼다.
+     * ddl-auto: update 는 컬럼을 NULL 로만 추가하므로, 기존 담당 일정이 keyset 조건(todo_modified_at < ?)에서 빠지고
+     * 첫 페이지에서도 맨 뒤로 밀린다.
+     */
+    private void backfillManagerTodoModifiedAt() {
+        if (!tableExists("managers")) {
+            return;
+        }
+        if (!columnExists("managers", "todo_modified_at")) {
+            jdbcTemplate.execute("ALTER TABLE managers ADD COLUMN todo_modified_at DATETIME(6)");
+        }
+        int updated = jdbcTemplate.update("UPDATE managers SET todo_modified_at = " +
+                "(SELECT t.modified_at FROM todos t WHERE t.id = managers.todo_id) WHERE todo_modified_at IS NULL");
+        log.info("담당자 정렬 키 {} 건 채움", updated);
+        jdbcTemplate.execute("ALTER TABLE managers MODIFY COLUMN todo_modified_at DATETIME(6) NOT NULL");
+    }
+
+    private boolean tableExists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (ResultSet tables = connection.getMetaData().getTables(connection.getCatalog(), null, table, null)) {
+                return tables.next();
+            }
+        }));
+    }
+
+    private boolean columnExists(String table, String column) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (ResultSet columns = connection.getMetaData().getColumns(connection.getCatalog(), null, table, column)) {
+                return columns.next();
+            }
+        }));
+    }
+
+    private boolean hasUniqueIndex(String table, Set<String> columns) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Map<String, Set<String>> indexes = new HashMap<>();
+            try (ResultSet rows = metaData.getIndexInfo(connection.getCatalog(), null, table, true, false)) {
+                while (rows.next()) {
+                    String column = rows.getString("COLUMN_NAME");
+                    if (column != null) {
+                        indexes.computeIfAbsent(rows.getString("INDEX_NAME"), name -> new HashSet<>())
+                                .add(column.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return indexes.containsValue(columns);
+        }));
+    }
+
+    private record Migration(String id, Runnable action) {
+    }
+}
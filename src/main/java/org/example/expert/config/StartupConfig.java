@@ -0,0 +1,22 @@
+package org.example.expert.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * spring.main.lazy-initialization (prod 프로필) 에서도 기동 시점에 만들 빈
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * EntityManagerFactory 를 첫 요청까지 미루면 Hibernate 메타모델 구성과 스키마 검증(ddl-auto: validate)을
+     * 첫 요청이 떠안고, 스키마가 어긋나도 기동은 성공한 것처럼 보인다. 포트를 열기 전에 끝낸다.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerPersistenceFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(EntityManagerFactory.class);
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.config;
+
+import jakarta.servlet.ServletConnection;
+import jakarta.servlet.ServletRequest;
+import org.apache.coyote.Processor;
+import org.apache.coyote.http11.Http11NioProtocol;
+import org.apache.coyote.http11.Http11Processor;
+import org.apache.tomcat.util.net.AbstractEndpoint.Handler.SocketState;
+import org.apache.tomcat.util.net.SocketWrapperBase;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 연결 하나의 소켓 쓰기 타임아웃만 바꿀 수 있는 Tomcat HTTP/1.1 NIO 프로토콜 (TomcatConfig 가 등록한다)
+ * 커넥터의 connection-timeout 은 기본값 그대로 두고, SSE 요청만 limitWriteTimeout 으로 자기 연결의 블로킹 쓰기를 짧게 묶는다.
+ * Tomcat 은 connection-timeout 을 읽기/쓰기 타임아웃으로 같이 쓰므로 커넥터 전체를 줄이면 느린 업로드까지 끊긴다.
+ * 연결이 다음 요청에 다시 쓰이면 커넥터 값으로 되돌린다.
+ */
+public class StreamingHttp11NioProtocol extends Http11NioProtocol {
+
+    /**
+     * Tomcat 이 아닌 요청(MockMvc 등)이면 아무것도 하지 않는다
+     *
+     * @return 쓰기 타임아웃을 바꿨으면 true
+     */
+    public static boolean limitWriteTimeout(ServletRequest request, Duration timeout) {
+        if (request.getServletConnection() instanceof StreamingConnection connection) {
+            connection.socketWrapper().setWriteTimeout(timeout.toMillis());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected Processor createProcessor() {
+        return new StreamingProcessor(this);
+    }
+
+    private static final class StreamingProcessor extends Http11Processor {
+
+        private final StreamingHttp11NioProtocol protocol;
+
+        private StreamingProcessor(StreamingHttp11NioProtocol protocol) {
+            super(protocol, protocol.getAdapter());
+            this.protocol = protocol;
+        }
+
+        @Override
+        public SocketState service(SocketWrapperBase<?> socketWrapper) throws IOException {
+            socketWrapper.setWriteTimeout(protocol.getConnectionTimeout());
+            return super.service(socketWrapper);
+        }
+
+        @Override
+        protected SocketState dispatchEndRequest() {
+            getSocketWrapper().setWriteTimeout(protocol.getConnectionTimeout());
+            return super.dispatchEndRequest();
+        }
+
+        @Override
+        protected ServletConnection getServletConnection() {
+            return new StreamingConnection(super.getServletConnection(), getSocketWrapper());
+        }
+    }
+
+    private record StreamingConnection(ServletConnection delegate, SocketWrapperBase<?> socketWrapper)
+            implements ServletConnection {
+
+        @Override
+        public String getConnectionId() {
+            return delegate.getConnectionId();
+        }
+
+        @Override
+        public String getProtocol() {
+            return delegate.getProtocol();
+        }
+
+        @Override
+        public String getProtocolConnectionId() {
+            return delegate.getProtocolConnectionId();
+        }
+
+        @Override
+        public boolean isSecure() {
+            return delegate.isSecure();
+        }
+    }
+}
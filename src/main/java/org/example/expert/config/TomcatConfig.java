@@ -0,0 +1,19 @@
+package org.example.expert.config;
+
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TomcatConfig {
+
+    /**
+     * 커넥터 설정(connection-timeout 등)은 Spring Boot 기본값을 그대로 쓰고,
+     * SSE 연결만 쓰기 타임아웃을 줄일 수 있게 프로토콜 구현만 바꾼다
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> streamingProtocolCustomizer() {
+        return factory -> factory.setProtocol(StreamingHttp11NioProtocol.class.getName());
+    }
+}
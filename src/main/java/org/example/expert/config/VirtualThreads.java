@@ -0,0 +1,36 @@
+package org.example.expert.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드 ThreadFactory. 빌드 toolchain 이 17 이라 JDK 21 API (Thread.ofVirtual) 는 리플렉션으로 찾고,
+ * 17 에서 실행하면 null 을 돌려준다. spring.threads.virtual.enabled 가 켜졌을 때만 쓴다.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    /**
+     * @return name-0, name-1 ... 이름의 가상 스레드를 만드는 factory. JDK 21 미만이면 null
+     */
+    public static ThreadFactory factory(String name) {
+        if (!isSupported()) {
+            return null;
+        }
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Method nameMethod = builderType.getMethod("name", String.class, long.class);
+            builder = nameMethod.invoke(builder, name + "-", 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 ThreadFactory 를 만들 수 없습니다.", e);
+        }
+    }
+}
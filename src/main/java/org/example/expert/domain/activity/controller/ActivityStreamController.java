@@ -0,0 +1,39 @@
+package org.example.expert.domain.activity.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.activity.stream.ActivityStreamHub;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.cache.TodoOwnerCache;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+public class ActivityStreamController {
+
+    private final ActivityStreamHub activityStreamHub;
+    private final TodoOwnerCache todoOwnerCache;
+
+    /**
+     * 전체 일정 활동 피드
+     */
+    @GetMapping(value = "/todos/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAll(HttpServletRequest request) {
+        return activityStreamHub.openSseStream(null, request);
+    }
+
+    /**
+     * 일정 하나의 활동 피드. RESYNC 이벤트를 받으면 클라이언트는 일정/댓글/담당자를 다시 조회한다.
+     */
+    @GetMapping(value = "/todos/{todoId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTodo(@PathVariable long todoId, HttpServletRequest request) {
+        if (!todoOwnerCache.exists(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        return activityStreamHub.openSseStream(todoId, request);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.activity.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정/댓글/담당자 쓰기 후 발행되는 도메인 이벤트
+ * 서비스는 ApplicationEventPublisher 로 발행하고, 구독 측은 커밋 이후에 받는다.
+ */
+@Getter
+public class TodoActivityEvent {
+
+    public enum Type {
+        TODO_CREATED, TODO_UPDATED, TODO_DELETED, COMMENT_CREATED, COMMENT_DELETED, MANAGER_ADDED, MANAGER_REMOVED
+    }
+
+    private final Type type;
+    private final Long todoId;
+    private final Long targetId; // 댓글/담당자 id (일정 이벤트는 todoId 와 같음)
+    private final Long actorId;  // 요청한 유저 id (어드민 작업은 null)
+    private final LocalDateTime occurredAt;
+
+    public TodoActivityEvent(Type type, Long todoId, Long targetId, Long actorId) {
+        this.type = type;
+        this.todoId = todoId;
+        this.targetId = targetId;
+        this.actorId = actorId;
+        this.occurredAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.activity.stream;
+
+import org.example.expert.domain.activity.event.TodoActivityEvent;
+
+import java.io.IOException;
+
+/**
+ * 구독자 한 명에게 실제로 쓰는 쪽 (SSE 연결). 느리거나 블로킹될 수 있다.
+ */
+public interface ActivitySink {
+
+    void send(long sequence, TodoActivityEvent event) throws IOException;
+
+    /**
+     * 버퍼가 넘쳐 이벤트가 유실되었으니 다시 조회하라는 신호
+     */
+    void sendResync() throws IOException;
+
+    void sendHeartbeat() throws IOException;
+
+    void close();
+}
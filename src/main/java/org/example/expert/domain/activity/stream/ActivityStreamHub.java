@@ -0,0 +1,222 @@
+package org.example.expert.domain.activity.stream;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.ServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.StreamingHttp11NioProtocol;
+import org.example.expert.config.VirtualThreads;
+import org.example.expert.domain.activity.event.TodoActivityEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 내 pub/sub
+ * 쓰기 스레드는 dispatch 큐에 offer 만 하고 바로 돌아가며,
+ * dispatcher 스레드가 구독자 버퍼로 fan-out, sender 풀이 실제 SSE 전송을 맡는다.
+ * 전송 하나가 send-timeout 을 넘긴 구독자는 끊어서 느린 클라이언트가 sender 스레드를 붙잡아 두지 못하게 한다.
+ */
+@Slf4j
+@Component
+public class ActivityStreamHub {
+
+    private final int subscriberBufferSize;
+    private final int senderThreads;
+    private final int maxEventsPerDrain;
+    private final Duration sendTimeout;
+    private final Duration heartbeatInterval;
+    private final Duration streamTimeout;
+    private final boolean virtualThreads;
+
+    private final BlockingQueue<TodoActivityEvent> dispatchQueue;
+    private final Map<Long, Set<ActivitySubscriber>> todoSubscribers = new ConcurrentHashMap<>();
+    private final Set<ActivitySubscriber> globalSubscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong slowDisconnects = new AtomicLong();
+    private volatile boolean resyncAll;
+
+    private ExecutorService senders;
+    private ScheduledExecutorService heartbeatScheduler;
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    public ActivityStreamHub(
+            @Value("${activity.stream.dispatch-queue-capacity:10000}") int dispatchQueueCapacity,
+            @Value("${activity.stream.subscriber-buffer-size:256}") int subscriberBufferSize,
+            @Value("${activity.stream.sender-threads:4}") int senderThreads,
+            @Value("${activity.stream.max-events-per-drain:64}") int maxEventsPerDrain,
+            @Value("${activity.stream.send-timeout:5s}") Duration sendTimeout,
+            @Value("${activity.stream.heartbeat-interval:15s}") Duration heartbeatInterval,
+            @Value("${activity.stream.timeout:30m}") Duration streamTimeout,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.dispatchQueue = new ArrayBlockingQueue<>(dispatchQueueCapacity);
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.senderThreads = senderThreads;
+        this.maxEventsPerDrain = maxEventsPerDrain;
+        this.sendTimeout = sendTimeout;
+        this.heartbeatInterval = heartbeatInterval;
+        this.streamTimeout = streamTimeout;
+        this.virtualThreads = virtualThreads;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        ThreadFactory virtualSenders = virtualThreads ? VirtualThreads.factory("activity-sender") : null;
+        // 가상 스레드면 전송마다 스레드를 써서 느린 구독자 하나가 sender 를 붙잡아도 다른 구독자가 밀리지 않는다
+        senders = virtualSenders != null
+                ? Executors.newCachedThreadPool(virtualSenders)
+                : Executors.newFixedThreadPool(senderThreads, daemonThreads("activity-sender"));
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("activity-heartbeat"));
+        heartbeatScheduler.scheduleAtFixedRate(this::heartbeat,
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        long checkMillis = Math.max(10, sendTimeout.toMillis() / 2);
+        heartbeatScheduler.scheduleAtFixedRate(this::expireSlowSends, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+        dispatcher = daemonThreads("activity-dispatcher").newThread(this::dispatchLoop);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        dispatcher.interrupt();
+        heartbeatScheduler.shutdownNow();
+        senders.shutdownNow();
+        globalSubscribers.forEach(ActivitySubscriber::close);
+        todoSubscribers.values().forEach(subscribers -> subscribers.forEach(ActivitySubscriber::close));
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋 후 (트랜잭션 밖이면 즉시) 호출된다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(TodoActivityEvent event) {
+        publish(event);
+    }
+
+    public void publish(TodoActivityEvent event) {
+        if (!dispatchQueue.offer(event)) {
+            // 쓰기 스레드를 막지 않기 위해 버리고, 모든 구독자에게 RESYNC 를 보낸다
+            droppedEvents.incrementAndGet();
+            resyncAll = true;
+        }
+    }
+
+    /**
+     * 이 SSE 연결의 소켓 쓰기 타임아웃을 send-timeout 으로 줄인다. 막힌 전송은 그 시간 뒤 IOException 으로 풀린다
+     */
+    public SseEmitter openSseStream(Long todoId, ServletRequest request) {
+        StreamingHttp11NioProtocol.limitWriteTimeout(request, sendTimeout);
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        ActivitySubscriber subscriber = subscribe(todoId, new SseActivitySink(emitter));
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        return emitter;
+    }
+
+    public ActivitySubscriber subscribe(Long todoId, ActivitySink sink) {
+        ActivitySubscriber subscriber = new ActivitySubscriber(todoId, sink, subscriberBufferSize, maxEventsPerDrain,
+                this::scheduleDrain, this::unsubscribe);
+        if (todoId == null) {
+            globalSubscribers.add(subscriber);
+        } else {
+            todoSubscribers.computeIfAbsent(todoId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        return subscriber;
+    }
+
+    public int getSubscriberCount() {
+        return globalSubscribers.size() + todoSubscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    public long getSlowDisconnects() {
+        return slowDisconnects.get();
+    }
+
+    private void unsubscribe(ActivitySubscriber subscriber) {
+        if (subscriber.getTodoId() == null) {
+            globalSubscribers.remove(subscriber);
+            return;
+        }
+        todoSubscribers.computeIfPresent(subscriber.getTodoId(), (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                TodoActivityEvent event = dispatchQueue.take();
+                if (resyncAll) {
+                    resyncAll = false;
+                    forEachSubscriber(ActivitySubscriber::requestResync);
+                }
+                long seq = sequence.incrementAndGet();
+
+                Set<ActivitySubscriber> subscribers = todoSubscribers.get(event.getTodoId());
+                if (subscribers != null) {
+                    subscribers.forEach(subscriber -> subscriber.offer(seq, event));
+                }
+                globalSubscribers.forEach(subscriber -> subscriber.offer(seq, event));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("활동 이벤트 fan-out 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void heartbeat() {
+        forEachSubscriber(ActivitySubscriber::requestHeartbeat);
+    }
+
+    private void expireSlowSends() {
+        long now = System.nanoTime();
+        long timeoutNanos = sendTimeout.toNanos();
+        forEachSubscriber(subscriber -> {
+            if (subscriber.expireSlowSend(now, timeoutNanos)) {
+                slowDisconnects.incrementAndGet();
+                log.info("전송이 {}ms 를 넘긴 구독자를 끊음: todoId={}", sendTimeout.toMillis(), subscriber.getTodoId());
+            }
+        });
+    }
+
+    private void forEachSubscriber(java.util.function.Consumer<ActivitySubscriber> action) {
+        globalSubscribers.forEach(action);
+        todoSubscribers.values().forEach(subscribers -> subscribers.forEach(action));
+    }
+
+    private void scheduleDrain(ActivitySubscriber subscriber) {
+        try {
+            senders.execute(subscriber::drain);
+        } catch (RejectedExecutionException e) {
+            subscriber.close();
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicLong count = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
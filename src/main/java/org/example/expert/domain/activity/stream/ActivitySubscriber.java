@@ -0,0 +1,186 @@
+package org.example.expert.domain.activity.stream;
+
+import lombok.Getter;
+import org.example.expert.domain.activity.event.TodoActivityEvent;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 구독자별 bounded 버퍼
+ * 버퍼가 넘치면 쌓인 이벤트를 버리고 RESYNC 한 번으로 대신한다. (느린 구독자가 메모리를 잡아두지 않도록)
+ * 버퍼 비우기는 sender 스레드에서 구독자당 하나씩만 실행된다.
+ *
+ * sender 풀을 여러 구독자가 나눠 쓰므로 한 번에 maxEventsPerDrain 개까지만 보내고 나머지는 다시 예약한다.
+ * 전송 하나가 send-timeout 을 넘기면 hub 의 감시 작업이 이 구독자를 끊고 (expireSlowSend),
+ * 막힌 소켓 쓰기는 SSE 연결에만 건 같은 시간의 소켓 쓰기 타임아웃으로 IOException 이 되어 sender 스레드가 풀린다.
+ */
+public class ActivitySubscriber {
+
+    @Getter
+    private final Long todoId; // null 이면 전체 피드
+    private final ActivitySink sink;
+    private final BlockingQueue<Envelope> buffer;
+    private final Consumer<ActivitySubscriber> drainScheduler;
+    private final Consumer<ActivitySubscriber> onClosed;
+    private final int maxEventsPerDrain;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean sinkClosed = new AtomicBoolean();
+    private final Object sendLock = new Object();
+    private Thread sender; // sendLock
+    private long sendStartedNanos; // sendLock
+    private volatile boolean resyncPending;
+    private volatile boolean heartbeatPending;
+    private volatile boolean closed;
+
+    ActivitySubscriber(Long todoId, ActivitySink sink, int bufferSize, int maxEventsPerDrain,
+                       Consumer<ActivitySubscriber> drainScheduler, Consumer<ActivitySubscriber> onClosed) {
+        this.todoId = todoId;
+        this.sink = sink;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.maxEventsPerDrain = maxEventsPerDrain;
+        this.drainScheduler = drainScheduler;
+        this.onClosed = onClosed;
+    }
+
+    /**
+     * dispatcher 스레드에서 호출된다. 절대 블로킹하지 않는다.
+     *
+     * @return 버퍼가 넘쳐 이벤트를 버렸으면 false
+     */
+    boolean offer(long sequence, TodoActivityEvent event) {
+        boolean accepted = buffer.offer(new Envelope(sequence, event));
+        if (!accepted) {
+            buffer.clear();
+            resyncPending = true;
+        }
+        scheduleDrain();
+        return accepted;
+    }
+
+    void requestResync() {
+        buffer.clear();
+        resyncPending = true;
+        scheduleDrain();
+    }
+
+    void requestHeartbeat() {
+        heartbeatPending = true;
+        scheduleDrain();
+    }
+
+    void close() {
+        if (detach()) {
+            closeSink();
+        }
+    }
+
+    /**
+     * 감시 스레드에서 호출된다. 진행 중인 전송이 timeoutNanos 를 넘겼으면 구독을 끊고 sender 스레드를 인터럽트한다.
+     * 막힌 전송과 같은 락을 잡을 수 있으므로 sink.close() 는 여기서 하지 않고 전송이 풀린 sender 스레드가 한다.
+     * Tomcat 의 블로킹 쓰기는 인터럽트를 무시하므로 SSE 전송을 실제로 푸는 것은 연결의 소켓 쓰기 타임아웃이다
+     * (ActivityStreamHub.openSseStream 이 send-timeout 으로 줄인다). 여기서는 더 이상 이벤트를 쌓지 않게 떼어 낸다.
+     *
+     * @return 끊었으면 true
+     */
+    boolean expireSlowSend(long nowNanos, long timeoutNanos) {
+        synchronized (sendLock) {
+            if (sender == null || nowNanos - sendStartedNanos < timeoutNanos || !detach()) {
+                return false;
+            }
+            sender.interrupt();
+            return true;
+        }
+    }
+
+    private boolean detach() {
+        if (closed) {
+            return false;
+        }
+        closed = true;
+        buffer.clear();
+        onClosed.accept(this);
+        return true;
+    }
+
+    private void closeSink() {
+        if (sinkClosed.compareAndSet(false, true)) {
+            sink.close();
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    private void scheduleDrain() {
+        if (!closed && draining.compareAndSet(false, true)) {
+            drainScheduler.accept(this);
+        }
+    }
+
+    /**
+     * sender 스레드에서 실행된다.
+     */
+    void drain() {
+        try {
+            if (resyncPending) {
+                resyncPending = false;
+                beginSend();
+                sink.sendResync();
+                endSend();
+            }
+            Envelope envelope;
+            int sent = 0;
+            while (!closed && sent < maxEventsPerDrain && (envelope = buffer.poll()) != null) {
+                beginSend();
+                sink.send(envelope.sequence, envelope.event);
+                endSend();
+                sent++;
+            }
+            if (heartbeatPending) {
+                heartbeatPending = false;
+                beginSend();
+                sink.sendHeartbeat();
+                endSend();
+            }
+        } catch (IOException | RuntimeException e) {
+            // 연결이 끊긴 구독자
+            endSend();
+            close();
+        } finally {
+            draining.set(false);
+            // expireSlowSend 가 남긴 인터럽트가 풀의 다음 작업으로 새지 않게 지운다
+            Thread.interrupted();
+        }
+        if (closed) {
+            closeSink();
+            return;
+        }
+
+        // drain 도중 새로 들어온 작업이 있으면 다시 예약
+        if (!closed && (!buffer.isEmpty() || resyncPending || heartbeatPending)) {
+            scheduleDrain();
+        }
+    }
+
+    private void beginSend() {
+        synchronized (sendLock) {
+            sender = Thread.currentThread();
+            sendStartedNanos = System.nanoTime();
+        }
+    }
+
+    private void endSend() {
+        synchronized (sendLock) {
+            sender = null;
+        }
+    }
+
+    private record Envelope(long sequence, TodoActivityEvent event) {
+    }
+}
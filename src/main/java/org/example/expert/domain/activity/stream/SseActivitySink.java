@@ -0,0 +1,38 @@
+package org.example.expert.domain.activity.stream;
+
+import org.example.expert.domain.activity.event.TodoActivityEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+public class SseActivitySink implements ActivitySink {
+
+    private final SseEmitter emitter;
+
+    public SseActivitySink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(long sequence, TodoActivityEvent event) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(String.valueOf(sequence))
+                .name(event.getType().name())
+                .data(event));
+    }
+
+    @Override
+    public void sendResync() throws IOException {
+        emitter.send(SseEmitter.event().name("RESYNC").data(""));
+    }
+
+    @Override
+    public void sendHeartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+}
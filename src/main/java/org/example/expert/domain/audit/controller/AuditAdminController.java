@@ -0,0 +1,34 @@
+package org.example.expert.domain.audit.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AdminAuditRecordResponse;
+import org.example.expert.domain.audit.service.AdminAuditQueryService;
+import org.example.expert.domain.common.dto.CursorPageResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequiredArgsConstructor
+public class AuditAdminController {
+
+    private final AdminAuditQueryService adminAuditQueryService;
+
+    /**
+     * 어드민 API 호출 기록. from/to 는 ISO-8601 (예: 2024-01-01T00:00:00)
+     */
+    @GetMapping("/admin/audit")
+    public ResponseEntity<CursorPageResponse<AdminAuditRecordResponse>> getAuditRecords(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(adminAuditQueryService.getAuditRecords(userId, from, to, cursor, limit));
+    }
+}
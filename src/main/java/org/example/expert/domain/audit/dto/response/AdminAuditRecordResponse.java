@@ -0,0 +1,35 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AdminAuditRecordResponse {
+
+    private final Long userId;
+    private final String email;
+    private final String httpMethod;
+    private final String uri;
+    private final Integer status;       // 예외로 끝난 경우 null
+    private final String requestBody;
+    private final String responseBody;
+    private final String errorMessage;
+    private final long executionTimeMs;
+    private final LocalDateTime occurredAt;
+
+    public AdminAuditRecordResponse(Long userId, String email, String httpMethod, String uri, Integer status,
+                                    String requestBody, String responseBody, String errorMessage,
+                                    long executionTimeMs, LocalDateTime occurredAt) {
+        this.userId = userId;
+        this.email = email;
+        this.httpMethod = httpMethod;
+        this.uri = uri;
+        this.status = status;
+        this.requestBody = requestBody;
+        this.responseBody = responseBody;
+        this.errorMessage = errorMessage;
+        this.executionTimeMs = executionTimeMs;
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.expert.domain.audit.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 어드민 API 호출 기록. AdminAccessAuditor 가 백그라운드에서 JDBC 배치로 INSERT 한다.
+ * 본문은 admin.audit.max-body-length 까지만 저장된다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "admin_access_logs", indexes = {
+        @Index(name = "idx_admin_access_logs_occurred_at", columnList = "occurred_at"),
+        @Index(name = "idx_admin_access_logs_user_id", columnList = "user_id, id")
+})
+public class AdminAccessLog {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "user_id")
+    private Long userId;
+    private String email;
+    @Column(length = 10)
+    private String httpMethod;
+    @Column(length = 500)
+    private String uri;
+    private Integer status;       // 예외로 끝난 경우 null
+    @Lob
+    private String requestBody;
+    @Lob
+    private String responseBody;
+    @Column(length = 500)
+    private String errorMessage;
+    private long executionTimeMs;
+    @Column(name = "occurred_at")
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,39 @@
+package org.example.expert.domain.audit.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.audit.enums.AdminAuditAction;
+import org.example.expert.domain.common.entity.Timestamped;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 어드민 일괄 작업 감사 기록. 행마다가 아니라 처리한 배치(chunk)마다 한 건 남긴다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "admin_audit_logs", indexes = @Index(name = "idx_admin_audit_logs_admin_id", columnList = "admin_id, id"))
+public class AdminAuditLog extends Timestamped {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "admin_id")
+    private Long adminId;
+    @Enumerated(EnumType.STRING)
+    private AdminAuditAction action;
+    private String criteria;     // 예: userId=3, role=ADMIN
+    private int affectedCount;
+    @Lob
+    private String targetIds;    // 배치에서 처리한 id 목록 (쉼표 구분)
+
+    public AdminAuditLog(Long adminId, AdminAuditAction action, String criteria, int affectedCount, List<Long> targetIds) {
+        this.adminId = adminId;
+        this.action = action;
+        this.criteria = criteria;
+        this.affectedCount = affectedCount;
+        this.targetIds = targetIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
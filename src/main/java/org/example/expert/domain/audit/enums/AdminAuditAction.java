@@ -0,0 +1,5 @@
+package org.example.expert.domain.audit.enums;
+
+public enum AdminAuditAction {
+    COMMENT_BULK_DELETE, COMMENT_BULK_DELETE_BY_USER, COMMENT_BULK_DELETE_BY_TODO, USER_BULK_ROLE_CHANGE, USER_BULK_PROVISION
+}
@@ -0,0 +1,9 @@
+package org.example.expert.domain.audit.enums;
+
+/**
+ * 감사 링 버퍼가 가득 찼을 때의 동작
+ */
+public enum AuditOverflowPolicy {
+    DROP,   // 바로 버리고 drop 카운터만 올린다. 요청 지연에 영향 없음
+    WAIT    // admin.audit.offer-timeout 까지 빈 칸을 기다린 뒤에도 없으면 버린다
+}
@@ -0,0 +1,9 @@
+package org.example.expert.domain.audit.enums;
+
+/**
+ * 어드민 API 감사 기록 저장 위치
+ */
+public enum AuditSinkType {
+    JOURNAL,    // 메모리 매핑 append-only 저널 (GET /admin/audit 로 조회)
+    DATABASE    // admin_access_logs 테이블
+}
@@ -0,0 +1,193 @@
+package org.example.expert.domain.audit.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.audit.enums.AuditSinkType;
+import org.example.expert.domain.audit.repository.AdminAccessLogJdbcRepository.AdminAccessLogInsert;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * 어드민 감사 기록 append-only 저널
+ * segment-size 크기의 메모리 매핑 세그먼트에 이어 쓰고, 가득 차면 다음 세그먼트로 넘긴다.
+ * 오래된 세그먼트는 전체 크기(retention-size)나 마지막 기록 시각(retention-age)을 넘으면 지운다.
+ *
+ * 기록 시각(journalTime)은 occurredAt 을 단조 증가하도록 맞춘 값이라 세그먼트/블록이 시간 순으로 정렬되고,
+ * 시간·userId 조회는 희소 인덱스로 필요한 블록만 읽는다.
+ * append 는 감사 소비 스레드 하나에서만 호출하고, query 는 여러 스레드에서 동시에 호출해도 된다.
+ */
+@Slf4j
+@Component
+public class AdminAuditJournal {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final int indexInterval;
+    private final long retentionBytes;
+    private final long retentionAgeMillis;
+
+    private final CopyOnWriteArrayList<JournalSegment> segments = new CopyOnWriteArrayList<>();
+    private JournalSegment active;
+    private long lastJournalTime;
+    private ByteBuffer scratch = ByteBuffer.allocate(16 * 1024);
+
+    public AdminAuditJournal(
+            @Value("${admin.audit.sink:JOURNAL}") AuditSinkType sink,
+            @Value("${admin.audit.journal.dir:./data/audit-journal}") String directory,
+            @Value("${admin.audit.journal.segment-size:64MB}") DataSize segmentSize,
+            @Value("${admin.audit.journal.index-interval:64KB}") DataSize indexInterval,
+            @Value("${admin.audit.journal.retention-size:1GB}") DataSize retentionSize,
+            @Value("${admin.audit.journal.retention-age:30d}") Duration retentionAge
+    ) {
+        this.enabled = sink == AuditSinkType.JOURNAL;
+        this.directory = Path.of(directory);
+        this.segmentSize = (int) Math.min(segmentSize.toBytes(), Integer.MAX_VALUE);
+        this.indexInterval = (int) indexInterval.toBytes();
+        this.retentionBytes = retentionSize.toBytes();
+        this.retentionAgeMillis = retentionAge.toMillis();
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        List<Path> logFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            logFiles = files.filter(path -> path.getFileName().toString().endsWith(JournalSegment.LOG_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (int i = 0; i < logFiles.size(); i++) {
+            boolean last = i == logFiles.size() - 1;
+            JournalSegment segment = JournalSegment.open(directory, JournalSegment.parseBaseOffset(logFiles.get(i)),
+                    segmentSize, indexInterval, last);
+            segments.add(segment);
+            lastJournalTime = Math.max(lastJournalTime, segment.lastTime());
+        }
+        if (segments.isEmpty()) {
+            segments.add(JournalSegment.create(directory, 0, segmentSize, indexInterval));
+        }
+        active = segments.get(segments.size() - 1);
+        enforceRetention();
+        log.info("감사 저널 열기: dir={}, segments={}, endOffset={}", directory, segments.size(), active.endOffset());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        for (JournalSegment segment : segments) {
+            segment.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return 기록한 건수. 한 세그먼트보다 큰 레코드는 기록하지 않는다
+     */
+    public int append(List<AdminAccessLogInsert> logs) {
+        int written = 0;
+        try {
+            for (AdminAccessLogInsert entry : logs) {
+                long occurredAt = entry.occurredAt().atZone(ZONE).toInstant().toEpochMilli();
+                long journalTime = Math.max(lastJournalTime, occurredAt);
+                scratch = JournalSegment.encode(scratch, journalTime, occurredAt, entry.userId(), entry.status(),
+                        entry.executionTimeMs(), Arrays.asList(entry.email(), entry.httpMethod(), entry.uri(),
+                                entry.requestBody(), entry.responseBody(), entry.errorMessage()));
+
+                if (!active.append(scratch, journalTime, entry.userId())) {
+                    if (active.isEmpty()) {
+                        log.warn("감사 기록이 세그먼트보다 커서 버립니다: {} bytes", scratch.remaining());
+                        continue;
+                    }
+                    roll();
+                    if (!active.append(scratch, journalTime, entry.userId())) {
+                        log.warn("감사 기록이 세그먼트보다 커서 버립니다: {} bytes", scratch.remaining());
+                        continue;
+                    }
+                }
+                lastJournalTime = journalTime;
+                written++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        enforceRetention();
+        return written;
+    }
+
+    /**
+     * journalTime 이 [from, to) 인 기록을 시간 순으로 최대 limit 건. userId 가 null 이면 전체.
+     *
+     * @param after 이 offset 이후의 기록만 (이전 페이지의 마지막 offset, 처음이면 -1)
+     */
+    public List<AuditJournalEntry> query(Long userId, long from, long to, long after, int limit) {
+        List<AuditJournalEntry> result = new ArrayList<>(Math.min(limit, 1024));
+        if (!enabled || limit <= 0) {
+            return result;
+        }
+        for (JournalSegment segment : segments) {
+            if (segment.endOffset() <= after) {
+                continue;
+            }
+            boolean more = segment.scan(userId, from, to, after, entry -> {
+                result.add(entry);
+                return result.size() < limit;
+            });
+            if (!more) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    private void roll() throws IOException {
+        active.seal();
+        JournalSegment next = JournalSegment.create(directory, active.endOffset(), segmentSize, indexInterval);
+        segments.add(next);
+        active = next;
+    }
+
+    private void enforceRetention() {
+        long total = segments.stream().mapToLong(JournalSegment::size).sum();
+        long expireBefore = System.currentTimeMillis() - retentionAgeMillis;
+        while (segments.size() > 1) {
+            JournalSegment oldest = segments.get(0);
+            if (total <= retentionBytes && oldest.lastTime() >= expireBefore) {
+                break;
+            }
+            segments.remove(0);
+            total -= oldest.size();
+            try {
+                oldest.delete();
+            } catch (IOException e) {
+                log.warn("감사 저널 세그먼트 삭제 실패: base={}, error={}", oldest.baseOffset(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.expert.domain.audit.journal;
+
+/**
+ * 저널에서 읽은 감사 기록 한 건
+ *
+ * @param offset      저널 전체에서의 위치. 다음 조회의 after 로 쓴다
+ * @param journalTime 저널 기록 시각 (epoch millis, 단조 증가). 시간 조건은 이 값 기준
+ * @param occurredAt  요청이 들어온 시각 (epoch millis)
+ */
+public record AuditJournalEntry(
+        long offset,
+        long journalTime,
+        long occurredAt,
+        Long userId,
+        String email,
+        String httpMethod,
+        String uri,
+        Integer status,
+        String requestBody,
+        String responseBody,
+        String errorMessage,
+        long executionTimeMs
+) {
+}
@@ -0,0 +1,445 @@
+package org.example.expert.domain.audit.journal;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+/**
+ * 저널 세그먼트 한 개. {baseOffset}.log 파일 전체를 메모리 매핑하고 앞에서부터 레코드를 이어 쓴다.
+ *
+ * <pre>
+ * 레코드: int length | int crc32c | long journalTime | long occurredAt | long userId | int status | long executionTimeMs
+ *         | 문자열 6개 (int byteLength, -1 이면 null | UTF-8)
+ * </pre>
+ * length 가 0 이거나 crc 가 맞지 않으면 거기서 데이터가 끝난 것으로 본다. (비정상 종료 후 복구)
+ *
+ * 희소 인덱스: index-interval 바이트마다 블록을 나누고 블록 시작 위치, 첫 journalTime, 블록에 나온 userId 목록을 둔다.
+ * 쓰기는 저널 소비 스레드 하나만 하고, 읽기 스레드는 volatile size/blockCount 까지만 본다.
+ */
+class JournalSegment {
+
+    static final String LOG_SUFFIX = ".log";
+    static final String INDEX_SUFFIX = ".idx";
+
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8 + 4 + 8;
+    private static final long NULL_USER = Long.MIN_VALUE;
+
+    private final long baseOffset;
+    private final Path logPath;
+    private final Path indexPath;
+    private final int capacity;
+    private final int indexInterval;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private volatile int size;
+    private volatile long firstTime = Long.MAX_VALUE;
+    private volatile long lastTime = Long.MIN_VALUE;
+    private volatile boolean sealed;
+
+    // 블록 인덱스. blocks[0..blockCount) 가 읽기 스레드에 보이고, 마지막 블록은 sealed 전까지 열려 있다
+    private volatile Block[] blocks = new Block[16];
+    private volatile int blockCount;
+    private final Set<Long> openBlockUsers = new HashSet<>();
+
+    private JournalSegment(long baseOffset, Path directory, int capacity, int indexInterval, boolean writable) throws IOException {
+        this.baseOffset = baseOffset;
+        this.logPath = directory.resolve(fileName(baseOffset) + LOG_SUFFIX);
+        this.indexPath = directory.resolve(fileName(baseOffset) + INDEX_SUFFIX);
+        this.indexInterval = indexInterval;
+        if (writable) {
+            this.channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.capacity = (int) Math.max(capacity, channel.size());
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, this.capacity);
+        } else {
+            this.channel = FileChannel.open(logPath, StandardOpenOption.READ);
+            this.capacity = (int) channel.size();
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, this.capacity);
+        }
+    }
+
+    static JournalSegment create(Path directory, long baseOffset, int capacity, int indexInterval) throws IOException {
+        return new JournalSegment(baseOffset, directory, capacity, indexInterval, true);
+    }
+
+    /**
+     * 기존 세그먼트를 연다. 닫힌 세그먼트는 .idx 를 읽고, 마지막(쓰던) 세그먼트나 .idx 가 없으면 레코드를 훑어 복구한다.
+     */
+    static JournalSegment open(Path directory, long baseOffset, int capacity, int indexInterval, boolean active) throws IOException {
+        JournalSegment segment = new JournalSegment(baseOffset, directory, capacity, indexInterval, active);
+        if (!active && Files.exists(segment.indexPath) && segment.loadIndex()) {
+            segment.sealed = true;
+            return segment;
+        }
+        segment.recover();
+        if (!active) {
+            segment.seal();
+        }
+        return segment;
+    }
+
+    static long parseBaseOffset(Path logFile) {
+        String name = logFile.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - LOG_SUFFIX.length()));
+    }
+
+    private static String fileName(long baseOffset) {
+        return String.format("%020d", baseOffset);
+    }
+
+    long baseOffset() {
+        return baseOffset;
+    }
+
+    long endOffset() {
+        return baseOffset + size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long firstTime() {
+        return firstTime;
+    }
+
+    long lastTime() {
+        return lastTime;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return 자리가 없으면 false (세그먼트를 넘겨야 한다)
+     */
+    boolean append(ByteBuffer record, long journalTime, Long userId) {
+        int length = record.remaining();
+        int position = size;
+        // 뒤에 끝 표시(int 0)를 쓸 자리를 남긴다
+        if (position + length + 4 > capacity) {
+            return false;
+        }
+        buffer.put(position, record, record.position(), length);
+
+        if (blockCount == 0 || position - blocks[blockCount - 1].position >= indexInterval) {
+            closeOpenBlock();
+            addBlock(new Block(position, journalTime));
+        }
+        openBlockUsers.add(userId == null ? NULL_USER : userId);
+
+        if (firstTime == Long.MAX_VALUE) {
+            firstTime = journalTime;
+        }
+        lastTime = journalTime;
+        size = position + length; // 읽기 스레드에 공개
+        return true;
+    }
+
+    /**
+     * 더 이상 쓰지 않는다. 끝 표시를 쓰고 디스크에 내린 뒤 인덱스 파일을 남긴다.
+     */
+    void seal() throws IOException {
+        if (sealed) {
+            return;
+        }
+        if (buffer.isReadOnly()) {
+            closeOpenBlock();
+            sealed = true;
+            return;
+        }
+        if (size + 4 <= capacity) {
+            buffer.putInt(size, 0);
+        }
+        closeOpenBlock();
+        buffer.force();
+        writeIndex();
+        sealed = true;
+    }
+
+    void force() {
+        if (!buffer.isReadOnly()) {
+            buffer.force();
+        }
+    }
+
+    void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    void delete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(logPath);
+        Files.deleteIfExists(indexPath);
+    }
+
+    /**
+     * journalTime 이 [from, to) 이고 offset 이 after 보다 큰 레코드를 순서대로 넘긴다.
+     *
+     * @return visitor 가 false 를 돌려 중단했으면 false
+     */
+    boolean scan(Long userId, long from, long to, long after, EntryVisitor visitor) {
+        int visibleSize = size;
+        int count = blockCount;
+        Block[] snapshot = blocks;
+        if (count == 0 || firstTime >= to || lastTime < from) {
+            return true;
+        }
+
+        int start = findStartBlock(snapshot, count, from, after);
+        for (int i = start; i < count; i++) {
+            Block block = snapshot[i];
+            if (block.firstTime >= to) {
+                return false; // 시간 순이므로 이후 세그먼트도 볼 필요 없다
+            }
+            // 열린 블록(userIds == null)은 어떤 유저든 있을 수 있다
+            if (userId != null && block.userIds != null && Arrays.binarySearch(block.userIds, userId) < 0) {
+                continue;
+            }
+            int end = i + 1 < count ? Math.min(snapshot[i + 1].position, visibleSize) : visibleSize;
+            int position = block.position;
+            while (position < end) {
+                int length = buffer.getInt(position);
+                long journalTime = buffer.getLong(position + 8);
+                if (journalTime >= to) {
+                    return false;
+                }
+                long offset = baseOffset + position;
+                if (journalTime >= from && offset > after) {
+                    long recordUser = buffer.getLong(position + 24);
+                    if (userId == null || recordUser == userId) {
+                        if (!visitor.visit(decode(position, offset))) {
+                            return false;
+                        }
+                    }
+                }
+                position += length;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * from 이전에 시작한 마지막 블록부터 본다. (같은 시각의 레코드가 앞 블록 끝에 있을 수 있다)
+     */
+    private int findStartBlock(Block[] snapshot, int count, long from, long after) {
+        int low = 0;
+        int high = count - 1;
+        int found = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (snapshot[mid].firstTime < from) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // after 이전 블록은 건너뛴다
+        long afterPosition = after - baseOffset;
+        while (found + 1 < count && snapshot[found + 1].position <= afterPosition) {
+            found++;
+        }
+        return found;
+    }
+
+    private AuditJournalEntry decode(int position, long offset) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(position + 8);
+        long journalTime = view.getLong();
+        long occurredAt = view.getLong();
+        long userId = view.getLong();
+        int status = view.getInt();
+        long executionTimeMs = view.getLong();
+        return new AuditJournalEntry(
+                offset,
+                journalTime,
+                occurredAt,
+                userId == NULL_USER ? null : userId,
+                readString(view),
+                readString(view),
+                readString(view),
+                status < 0 ? null : status,
+                readString(view),
+                readString(view),
+                readString(view),
+                executionTimeMs
+        );
+    }
+
+    /**
+     * 레코드를 encode 해서 target 에 담는다. target 이 모자라면 더 큰 버퍼를 만들어 돌려준다.
+     */
+    static ByteBuffer encode(ByteBuffer target, long journalTime, long occurredAt, Long userId, Integer status,
+                             long executionTimeMs, List<String> strings) {
+        byte[][] encoded = new byte[strings.size()][];
+        int length = HEADER_SIZE;
+        for (int i = 0; i < strings.size(); i++) {
+            String value = strings.get(i);
+            encoded[i] = value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+            length += 4 + (encoded[i] == null ? 0 : encoded[i].length);
+        }
+
+        ByteBuffer out = target.capacity() >= length ? target.clear() : ByteBuffer.allocate(Math.max(length, target.capacity() * 2));
+        out.putInt(length);
+        out.putInt(0); // crc 자리
+        out.putLong(journalTime);
+        out.putLong(occurredAt);
+        out.putLong(userId == null ? NULL_USER : userId);
+        out.putInt(status == null ? -1 : status);
+        out.putLong(executionTimeMs);
+        for (byte[] bytes : encoded) {
+            if (bytes == null) {
+                out.putInt(-1);
+            } else {
+                out.putInt(bytes.length);
+                out.put(bytes);
+            }
+        }
+        out.flip();
+
+        CRC32C crc = new CRC32C();
+        crc.update(out.array(), 8, length - 8);
+        out.putInt(4, (int) crc.getValue());
+        return out;
+    }
+
+    private static String readString(ByteBuffer view) {
+        int length = view.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void recover() {
+        int position = 0;
+        CRC32C crc = new CRC32C();
+        ByteBuffer view = buffer.duplicate();
+        while (position + HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(position);
+            if (length < HEADER_SIZE || position + length > capacity) {
+                break;
+            }
+            crc.reset();
+            view.limit(position + length).position(position + 8);
+            crc.update(view);
+            view.limit(capacity);
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                break;
+            }
+            long journalTime = buffer.getLong(position + 8);
+            long userId = buffer.getLong(position + 24);
+
+            if (blockCount == 0 || position - blocks[blockCount - 1].position >= indexInterval) {
+                closeOpenBlock();
+                addBlock(new Block(position, journalTime));
+            }
+            openBlockUsers.add(userId);
+            if (firstTime == Long.MAX_VALUE) {
+                firstTime = journalTime;
+            }
+            lastTime = journalTime;
+            position += length;
+        }
+        size = position;
+    }
+
+    private void addBlock(Block block) {
+        Block[] current = blocks;
+        if (blockCount == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[blockCount] = block;
+        blocks = current;
+        blockCount = blockCount + 1;
+    }
+
+    private void closeOpenBlock() {
+        if (blockCount > 0 && blocks[blockCount - 1].userIds == null) {
+            blocks[blockCount - 1].userIds = openBlockUsers.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+        openBlockUsers.clear();
+    }
+
+    private void writeIndex() throws IOException {
+        Path temp = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+            out.writeInt(size);
+            out.writeLong(firstTime);
+            out.writeLong(lastTime);
+            out.writeInt(blockCount);
+            for (int i = 0; i < blockCount; i++) {
+                Block block = blocks[i];
+                out.writeInt(block.position);
+                out.writeLong(block.firstTime);
+                out.writeInt(block.userIds.length);
+                for (long userId : block.userIds) {
+                    out.writeLong(userId);
+                }
+            }
+        }
+        Files.move(temp, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private boolean loadIndex() {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(indexPath))) {
+            int indexedSize = in.readInt();
+            if (indexedSize > capacity) {
+                return false;
+            }
+            long indexedFirst = in.readLong();
+            long indexedLast = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                Block block = new Block(in.readInt(), in.readLong());
+                long[] userIds = new long[in.readInt()];
+                for (int u = 0; u < userIds.length; u++) {
+                    userIds[u] = in.readLong();
+                }
+                block.userIds = userIds;
+                addBlock(block);
+            }
+            firstTime = indexedFirst;
+            lastTime = indexedLast;
+            size = indexedSize;
+            return true;
+        } catch (IOException e) {
+            blocks = new Block[16];
+            blockCount = 0;
+            return false;
+        }
+    }
+
+    interface EntryVisitor {
+        boolean visit(AuditJournalEntry entry);
+    }
+
+    private static class Block {
+        private final int position;
+        private final long firstTime;
+        private volatile long[] userIds; // null 이면 아직 열린 블록
+
+        private Block(int position, long firstTime) {
+            this.position = position;
+            this.firstTime = firstTime;
+        }
+    }
+}
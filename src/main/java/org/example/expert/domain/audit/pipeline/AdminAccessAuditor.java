@@ -0,0 +1,222 @@
+package org.example.expert.domain.audit.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.audit.enums.AuditOverflowPolicy;
+import org.example.expert.domain.audit.journal.AdminAuditJournal;
+import org.example.expert.domain.audit.repository.AdminAccessLogJdbcRepository;
+import org.example.expert.domain.audit.repository.AdminAccessLogJdbcRepository.AdminAccessLogInsert;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 어드민 API 감사 파이프라인
+ * 요청 스레드는 AdminAccessEvent 를 링 버퍼에 넣기만 하고(record), 직렬화·본문 자르기·INSERT 는
+ * 소비 스레드가 batch-size 단위로 처리한다. 버퍼가 가득 차면 overflow-policy 에 따라 버리고 drop 카운터를 올린다.
+ * 저장 위치는 admin.audit.sink (JOURNAL: AdminAuditJournal, DATABASE: admin_access_logs)
+ */
+@Slf4j
+@Component
+public class AdminAccessAuditor {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final AdminAccessLogJdbcRepository adminAccessLogJdbcRepository;
+    private final AdminAuditJournal adminAuditJournal;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pollIntervalNanos;
+    private final int maxBodyLength;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final long offerTimeoutNanos;
+    private final AuditRingBuffer<AdminAccessEvent> buffer;
+
+    private final Counter overflowDrops;
+    private final Counter failedDrops;
+    private final Counter persisted;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AdminAccessAuditor(
+            AdminAccessLogJdbcRepository adminAccessLogJdbcRepository,
+            AdminAuditJournal adminAuditJournal,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${admin.audit.enabled:true}") boolean enabled,
+            @Value("${admin.audit.capacity:8192}") int capacity,
+            @Value("${admin.audit.batch-size:200}") int batchSize,
+            @Value("${admin.audit.poll-interval:50ms}") Duration pollInterval,
+            @Value("${admin.audit.max-body-length:4096}") int maxBodyLength,
+            @Value("${admin.audit.overflow-policy:DROP}") AuditOverflowPolicy overflowPolicy,
+            @Value("${admin.audit.offer-timeout:5ms}") Duration offerTimeout
+    ) {
+        this.adminAccessLogJdbcRepository = adminAccessLogJdbcRepository;
+        this.adminAuditJournal = adminAuditJournal;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.maxBodyLength = maxBodyLength;
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.buffer = new AuditRingBuffer<>(capacity);
+
+        this.overflowDrops = Counter.builder("admin.audit.dropped").tag("reason", "overflow").register(meterRegistry);
+        this.failedDrops = Counter.builder("admin.audit.dropped").tag("reason", "error").register(meterRegistry);
+        this.persisted = Counter.builder("admin.audit.persisted").register(meterRegistry);
+        Gauge.builder("admin.audit.queue.size", buffer, AuditRingBuffer::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::runLoop, "admin-access-auditor");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * 요청 스레드에서 호출한다. 직렬화나 I/O 없이 버퍼에 넣기만 한다.
+     *
+     * @return 버퍼에 넣었으면 true, 버렸으면 false
+     */
+    public boolean record(AdminAccessEvent event) {
+        if (!running) {
+            return false;
+        }
+        if (buffer.offer(event)) {
+            return true;
+        }
+        if (overflowPolicy == AuditOverflowPolicy.WAIT) {
+            long deadline = System.nanoTime() + offerTimeoutNanos;
+            while (System.nanoTime() - deadline < 0) {
+                LockSupport.parkNanos(10_000);
+                if (buffer.offer(event)) {
+                    return true;
+                }
+            }
+        }
+        overflowDrops.increment();
+        return false;
+    }
+
+    /**
+     * 지금까지 버린 이벤트 수 (버퍼 초과 + 저장 실패)
+     */
+    public long getDroppedCount() {
+        return (long) (overflowDrops.count() + failedDrops.count());
+    }
+
+    public int getQueueSize() {
+        return buffer.size();
+    }
+
+    private void runLoop() {
+        List<AdminAccessEvent> batch = new ArrayList<>(batchSize);
+        while (true) {
+            buffer.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                if (!running) {
+                    // stop() 이후 마지막으로 한 번 더 비운다
+                    if (buffer.drainTo(batch, batchSize) == 0) {
+                        return;
+                    }
+                } else {
+                    LockSupport.parkNanos(this, pollIntervalNanos);
+                    continue;
+                }
+            }
+            persist(batch);
+            batch.clear();
+        }
+    }
+
+    private void persist(List<AdminAccessEvent> batch) {
+        try {
+            List<AdminAccessLogInsert> logs = batch.stream().map(this::toInsert).toList();
+            if (adminAuditJournal.isEnabled()) {
+                int written = adminAuditJournal.append(logs);
+                persisted.increment(written);
+                failedDrops.increment(logs.size() - written);
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> adminAccessLogJdbcRepository.insertAll(logs));
+            persisted.increment(batch.size());
+        } catch (RuntimeException e) {
+            failedDrops.increment(batch.size());
+            log.warn("어드민 감사 기록 저장 실패: size={}, error={}", batch.size(), e.getMessage());
+        }
+    }
+
+    private AdminAccessLogInsert toInsert(AdminAccessEvent event) {
+        return new AdminAccessLogInsert(
+                event.userId(),
+                event.email(),
+                event.httpMethod(),
+                truncate(event.uri(), 450),
+                event.status(),
+                serialize(event.requestBody()),
+                serialize(event.responseBody()),
+                truncate(event.errorMessage(), 450), // 컬럼 길이 500
+                TimeUnit.NANOSECONDS.toMillis(event.elapsedNanos()),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(event.occurredAtMillis()), ZONE)
+        );
+    }
+
+    private String serialize(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof String text) {
+            return truncate(text, maxBodyLength);
+        }
+        CappedStringWriter writer = new CappedStringWriter(maxBodyLength);
+        try {
+            objectMapper.writeValue(writer, body);
+            return writer.toString();
+        } catch (Exception e) {
+            return "(serialization failed: " + e.getMessage() + ")";
+        }
+    }
+
+    private String truncate(String value, int limit) {
+        if (value == null || value.length() <= limit) {
+            return value;
+        }
+        return value.substring(0, limit) + "...(truncated, " + value.length() + " chars)";
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.audit.pipeline;
+
+/**
+ * 요청 스레드에서 만드는 감사 이벤트. 직렬화하지 않은 요청/응답 객체 참조만 들고 있고
+ * JSON 변환과 시각 포맷은 소비 스레드에서 한다. (컨트롤러가 돌려준 DTO 는 이후 변경되지 않는다)
+ */
+public record AdminAccessEvent(
+        Long userId,
+        String email,
+        String httpMethod,
+        String uri,
+        Object requestBody,      // null 이면 본문 없음
+        Object responseBody,
+        Integer status,          // 예외로 끝난 경우 null
+        String errorMessage,
+        long occurredAtMillis,
+        long elapsedNanos
+) {
+}
@@ -0,0 +1,89 @@
+package org.example.expert.domain.audit.pipeline;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 다중 생산자/단일 소비자 링 버퍼. 락 없이 칸마다 순번으로 상태를 구분한다.
+ * 칸 i 의 순번이 t 이면 생산자 t 가 쓸 수 있고, t + 1 이면 소비자가 읽을 수 있다.
+ * offer 는 CAS 한 번과 쓰기 두 번이며, 가득 차면 기다리지 않고 false 를 돌려준다.
+ */
+class AuditRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+
+    // 소비 스레드만 쓴다. size() 를 위해 volatile
+    private volatile long head;
+
+    AuditRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("capacity 는 2 이상이어야 합니다.");
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int size() {
+        return (int) Math.max(0, Math.min(capacity, tail.get() - head));
+    }
+
+    /**
+     * @return 가득 차서 넣지 못했으면 false
+     */
+    boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, position + 1); // 이 쓰기 이후에 소비자가 element 를 본다
+                    return true;
+                }
+            } else if (diff < 0) {
+                // 소비자가 아직 한 바퀴 전 값을 읽지 않았다
+                return false;
+            }
+            // diff > 0: 다른 생산자가 이 칸을 가져갔다. 새 tail 로 다시 시도
+        }
+    }
+
+    /**
+     * 소비 스레드 전용. 최대 max 개를 꺼내 to 에 담는다. 생산자가 칸을 잡고 아직 쓰지 않았으면 거기서 멈춘다.
+     *
+     * @return 꺼낸 개수
+     */
+    int drainTo(List<? super E> to, int max) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            to.add(slots.get(index));
+            slots.lazySet(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.expert.domain.audit.pipeline;
+
+import java.io.Writer;
+
+/**
+ * 앞의 limit 글자만 보관하고 나머지는 길이만 센다. 큰 응답을 직렬화해도 문자열 전체를 만들지 않는다.
+ */
+class CappedStringWriter extends Writer {
+
+    private final int limit;
+    private final StringBuilder buffer;
+    private long length;
+
+    CappedStringWriter(int limit) {
+        this.limit = limit;
+        this.buffer = new StringBuilder(Math.min(limit, 256));
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int count) {
+        int room = limit - buffer.length();
+        if (room > 0) {
+            buffer.append(chars, offset, Math.min(room, count));
+        }
+        length += count;
+    }
+
+    @Override
+    public void write(String value, int offset, int count) {
+        int room = limit - buffer.length();
+        if (room > 0) {
+            buffer.append(value, offset, offset + Math.min(room, count));
+        }
+        length += count;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        if (length <= limit) {
+            return buffer.toString();
+        }
+        return buffer + "...(truncated, " + length + " chars)";
+    }
+}
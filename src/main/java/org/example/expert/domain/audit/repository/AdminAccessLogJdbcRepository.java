@@ -0,0 +1,57 @@
+package org.example.expert.domain.audit.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * admin_access_logs 일괄 INSERT (감사 파이프라인 소비 스레드 전용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AdminAccessLogJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO admin_access_logs (user_id, email, http_method, uri, status, request_body, response_body, " +
+            "error_message, execution_time_ms, occurred_at) " +
+            "VALUES (:userId, :email, :httpMethod, :uri, :status, :requestBody, :responseBody, " +
+            ":errorMessage, :executionTimeMs, :occurredAt)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<AdminAccessLogInsert> logs) {
+        SqlParameterSource[] params = logs.stream()
+                .map(log -> new MapSqlParameterSource()
+                        .addValue("userId", log.userId())
+                        .addValue("email", log.email())
+                        .addValue("httpMethod", log.httpMethod())
+                        .addValue("uri", log.uri())
+                        .addValue("status", log.status())
+                        .addValue("requestBody", log.requestBody())
+                        .addValue("responseBody", log.responseBody())
+                        .addValue("errorMessage", log.errorMessage())
+                        .addValue("executionTimeMs", log.executionTimeMs())
+                        .addValue("occurredAt", log.occurredAt()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_SQL, params);
+    }
+
+    public record AdminAccessLogInsert(
+            Long userId,
+            String email,
+            String httpMethod,
+            String uri,
+            Integer status,
+            String requestBody,
+            String responseBody,
+            String errorMessage,
+            long executionTimeMs,
+            LocalDateTime occurredAt
+    ) {
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.audit.repository;
+
+import org.example.expert.domain.audit.entity.AdminAuditLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AdminAuditLogRepository extends JpaRepository<AdminAuditLog, Long> {
+}
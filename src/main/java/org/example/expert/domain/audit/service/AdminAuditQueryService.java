@@ -0,0 +1,102 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AdminAuditRecordResponse;
+import org.example.expert.domain.audit.journal.AdminAuditJournal;
+import org.example.expert.domain.audit.journal.AuditJournalEntry;
+import org.example.expert.domain.common.dto.CursorPageResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 감사 저널 조회. 시간 범위와 userId 로 희소 인덱스를 타고 필요한 블록만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminAuditQueryService {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final AdminAuditJournal adminAuditJournal;
+
+    @Value("${admin.audit.query.default-limit:100}")
+    private int defaultLimit;
+    @Value("${admin.audit.query.max-limit:1000}")
+    private int maxLimit;
+    @Value("${admin.audit.query.default-range:7d}")
+    private Duration defaultRange;
+
+    /**
+     * to 가 없으면 지금, from 이 없으면 to 에서 default-range 전부터. 시간 순으로 limit 건씩.
+     * nextCursor 는 마지막 기록의 저널 offset 이다.
+     */
+    public CursorPageResponse<AdminAuditRecordResponse> getAuditRecords(Long userId, LocalDateTime from, LocalDateTime to,
+                                                                        String cursor, Integer limit) {
+        if (!adminAuditJournal.isEnabled()) {
+            throw new InvalidRequestException("감사 저널이 비활성화되어 있습니다.");
+        }
+        int pageSize = resolveLimit(limit);
+        LocalDateTime end = to == null ? LocalDateTime.now() : to;
+        LocalDateTime start = from == null ? end.minus(defaultRange) : from;
+        if (!start.isBefore(end)) {
+            throw new InvalidRequestException("from 은 to 보다 앞서야 합니다.");
+        }
+
+        List<AuditJournalEntry> entries = adminAuditJournal.query(userId, toEpochMilli(start), toEpochMilli(end),
+                decodeCursor(cursor), pageSize + 1);
+
+        String nextCursor = null;
+        if (entries.size() > pageSize) {
+            entries = entries.subList(0, pageSize);
+            nextCursor = String.valueOf(entries.get(pageSize - 1).offset());
+        }
+        return new CursorPageResponse<>(entries.stream().map(this::toResponse).toList(), nextCursor);
+    }
+
+    private AdminAuditRecordResponse toResponse(AuditJournalEntry entry) {
+        return new AdminAuditRecordResponse(
+                entry.userId(),
+                entry.email(),
+                entry.httpMethod(),
+                entry.uri(),
+                entry.status(),
+                entry.requestBody(),
+                entry.responseBody(),
+                entry.errorMessage(),
+                entry.executionTimeMs(),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.occurredAt()), ZONE)
+        );
+    }
+
+    private long decodeCursor(String cursor) {
+        if (cursor == null) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("유효하지 않은 cursor 입니다.");
+        }
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return defaultLimit;
+        }
+        if (limit < 1) {
+            throw new InvalidRequestException("limit 은 1 이상이어야 합니다.");
+        }
+        return Math.min(limit, maxLimit);
+    }
+
+    private long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
@@ -9,9 +9,12 @@ import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.cache.UserResponseCache;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.event.UserSignedUpEvent;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,8 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final UserResponseCache userResponseCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
@@ -42,6 +47,9 @@ public class AuthService {
                 userRole
         );
         User savedUser = userRepository.save(newUser);
+        // 가입 전에 이 id 로 조회돼서 negative 캐시에 남아 있을 수 있다
+        userResponseCache.evict(savedUser.getId());
+        eventPublisher.publishEvent(new UserSignedUpEvent(savedUser.getId(), savedUser.getEmail()));
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
 
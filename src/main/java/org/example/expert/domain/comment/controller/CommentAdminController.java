@@ -1,10 +1,14 @@
 package org.example.expert.domain.comment.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
 import org.example.expert.domain.comment.service.CommentAdminService;
-import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RestController;
+import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.BulkOperationResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,4 +20,22 @@ public class CommentAdminController {
     public void deleteComment(@PathVariable long commentId) {
         commentAdminService.deleteComment(commentId);
     }
+
+    @PostMapping("/admin/comments/bulk-delete")
+    public ResponseEntity<BulkOperationResponse> deleteComments(
+            @Valid @RequestBody CommentBulkDeleteRequest commentBulkDeleteRequest,
+            @Auth AuthUser authUser
+    ) {
+        return ResponseEntity.ok(commentAdminService.deleteComments(authUser.getId(), commentBulkDeleteRequest.getCommentIds()));
+    }
+
+    @DeleteMapping("/admin/users/{userId}/comments")
+    public ResponseEntity<BulkOperationResponse> deleteCommentsByUser(@PathVariable long userId, @Auth AuthUser authUser) {
+        return ResponseEntity.ok(commentAdminService.deleteCommentsByUser(authUser.getId(), userId));
+    }
+
+    @DeleteMapping("/admin/todos/{todoId}/comments")
+    public ResponseEntity<BulkOperationResponse> deleteCommentsByTodo(@PathVariable long todoId, @Auth AuthUser authUser) {
+        return ResponseEntity.ok(commentAdminService.deleteCommentsByTodo(authUser.getId(), todoId));
+    }
 }
@@ -0,0 +1,18 @@
+package org.example.expert.domain.comment.dto;
+
+import lombok.Getter;
+
+/**
+ * 일괄 삭제 대상 댓글의 (id, todoId). 엔티티를 로딩하지 않고 캐시 무효화/이벤트 발행에 필요한 값만 읽는다.
+ */
+@Getter
+public class CommentRef {
+
+    private final Long id;
+    private final Long todoId;
+
+    public CommentRef(Long id, Long todoId) {
+        this.id = id;
+        this.todoId = todoId;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.comment.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBulkDeleteRequest {
+
+    @NotEmpty
+    private List<@NotNull Long> commentIds;
+}
@@ -10,7 +10,10 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 댓글 목록 keyset 페이지네이션: WHERE todo_id = ? AND (created_at, id) > (?, ?) ORDER BY created_at, id
+        @Index(name = "idx_comments_todo_created_id", columnList = "todo_id, created_at, id")
+})
 public class Comment extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
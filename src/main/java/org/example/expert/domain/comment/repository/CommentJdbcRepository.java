@@ -0,0 +1,52 @@
+package org.example.expert.domain.comment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 엔티티를 거치지 않는 댓글 INSERT 경로
+ * MySQL 에서는 rewriteBatchedStatements=true 로 multi-row INSERT 한 번이 된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at) " +
+            "VALUES (:contents, :userId, :todoId, :createdAt, :modifiedAt)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 입력 순서와 같은 순서의 생성된 id 목록
+     */
+    public List<Long> insertAll(List<CommentInsert> comments) {
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] params = comments.stream()
+                .map(comment -> new MapSqlParameterSource()
+                        .addValue("contents", comment.contents())
+                        .addValue("userId", comment.userId())
+                        .addValue("todoId", comment.todoId())
+                        .addValue("createdAt", now)
+                        .addValue("modifiedAt", now))
+                .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SQL, params, keyHolder, new String[]{"id"});
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    public record CommentInsert(String contents, long userId, long todoId) {
+    }
+}
@@ -1,14 +1,68 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.CommentRef;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.dto.TodoActivityTime;
+import org.example.expert.domain.todo.dto.TodoCount;
+import org.example.expert.domain.common.dto.ListVersion;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
     List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findFirstPageByTodoIdWithUser(@Param("todoId") Long todoId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findPageByTodoIdWithUserAfter(
+            @Param("todoId") Long todoId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("SELECT new org.example.expert.domain.common.dto.ListVersion(COUNT(c), MAX(c.id), MAX(c.modifiedAt)) " +
+            "FROM Comment c WHERE c.todo.id = :todoId")
+    ListVersion findListVersionByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoCount(c.todo.id, COUNT(c)) " +
+            "FROM Comment c WHERE c.todo.id IN :todoIds GROUP BY c.todo.id")
+    List<TodoCount> countByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoActivityTime(c.todo.id, MAX(c.createdAt)) " +
+            "FROM Comment c WHERE c.todo.id IN :todoIds GROUP BY c.todo.id")
+    List<TodoActivityTime> findLatestCreatedAtByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.CommentRef(c.id, c.todo.id) " +
+            "FROM Comment c WHERE c.id IN :commentIds")
+    List<CommentRef> findRefsByIdIn(@Param("commentIds") Collection<Long> commentIds);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.CommentRef(c.id, c.todo.id) " +
+            "FROM Comment c WHERE c.user.id = :userId AND c.id > :afterId ORDER BY c.id")
+    List<CommentRef> findRefsByUserIdAfter(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.CommentRef(c.id, c.todo.id) " +
+            "FROM Comment c WHERE c.todo.id = :todoId AND c.id > :afterId ORDER BY c.id")
+    List<CommentRef> findRefsByTodoIdAfter(@Param("todoId") Long todoId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.id IN :commentIds")
+    int deleteAllByIds(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.todo.id = :todoId")
+    int deleteAllByTodoId(@Param("todoId") Long todoId);
 }
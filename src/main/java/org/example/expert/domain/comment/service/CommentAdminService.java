@@ -1,22 +1,132 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.activity.event.TodoActivityEvent;
+import org.example.expert.domain.audit.entity.AdminAuditLog;
+import org.example.expert.domain.audit.enums.AdminAuditAction;
+import org.example.expert.domain.audit.repository.AdminAuditLogRepository;
+import org.example.expert.domain.comment.dto.CommentRef;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.cache.ResourceVersionCache;
+import org.example.expert.domain.common.dto.BulkOperationResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.util.BulkIds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongFunction;
 
 @Service
 @RequiredArgsConstructor
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final ResourceVersionCache resourceVersionCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AdminAuditLogRepository adminAuditLogRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${admin.bulk.max-ids:10000}")
+    private int bulkMaxIds;
+    @Value("${admin.bulk.chunk-size:500}")
+    private int bulkChunkSize;
 
     @Transactional
     public void deleteComment(long commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new InvalidRequestException("없는 댓글입니다."));
         commentRepository.delete(comment);
+        resourceVersionCache.evict(ResourceVersionCache.commentsKey(comment.getTodo().getId()));
+        eventPublisher.publishEvent(new TodoActivityEvent(
+                TodoActivityEvent.Type.COMMENT_DELETED, comment.getTodo().getId(), commentId, null));
+    }
+
+    /**
+     * id 목록 일괄 삭제. chunk 마다 (id, todoId) SELECT 한 번 + DELETE 한 번을 자체 트랜잭션으로 실행한다.
+     */
+    public BulkOperationResponse deleteComments(long adminId, List<Long> commentIds) {
+        List<Long> ids = BulkIds.distinct(commentIds, bulkMaxIds);
+
+        long deleted = 0;
+        int batches = 0;
+        Set<Long> foundIds = new HashSet<>();
+        for (List<Long> chunk : BulkIds.chunk(ids, bulkChunkSize)) {
+            List<CommentRef> refs = transactionTemplate.execute(status -> deleteChunk(
+                    adminId, AdminAuditAction.COMMENT_BULK_DELETE, null, commentRepository.findRefsByIdIn(chunk)));
+            refs.forEach(ref -> foundIds.add(ref.getId()));
+            deleted += refs.size();
+            batches += refs.isEmpty() ? 0 : 1;
+        }
+
+        List<Long> missingIds = ids.stream().filter(id -> !foundIds.contains(id)).toList();
+        return new BulkOperationResponse(deleted, batches, missingIds);
+    }
+
+    public BulkOperationResponse deleteCommentsByUser(long adminId, long userId) {
+        return sweep(adminId, AdminAuditAction.COMMENT_BULK_DELETE_BY_USER, "userId=" + userId,
+                afterId -> commentRepository.findRefsByUserIdAfter(userId, afterId, PageRequest.of(0, bulkChunkSize)));
+    }
+
+    public BulkOperationResponse deleteCommentsByTodo(long adminId, long todoId) {
+        return sweep(adminId, AdminAuditAction.COMMENT_BULK_DELETE_BY_TODO, "todoId=" + todoId,
+                afterId -> commentRepository.findRefsByTodoIdAfter(todoId, afterId, PageRequest.of(0, bulkChunkSize)));
+    }
+
+    /**
+     * id 순으로 chunk 씩 끊어서 지운다. 한 트랜잭션이 오래 락을 잡지 않도록 chunk 마다 커밋한다.
+     */
+    private BulkOperationResponse sweep(long adminId, AdminAuditAction action, String criteria,
+                                        LongFunction<List<CommentRef>> nextChunk) {
+        long deleted = 0;
+        int batches = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<CommentRef> refs = transactionTemplate.execute(status ->
+                    deleteChunk(adminId, action, criteria, nextChunk.apply(from)));
+            if (refs.isEmpty()) {
+                break;
+            }
+            deleted += refs.size();
+            batches++;
+            if (refs.size() < bulkChunkSize) {
+                break;
+            }
+            afterId = refs.get(refs.size() - 1).getId();
+        }
+        return new BulkOperationResponse(deleted, batches, List.of());
+    }
+
+    private List<CommentRef> deleteChunk(long adminId, AdminAuditAction action, String criteria, List<CommentRef> refs) {
+        if (refs.isEmpty()) {
+            return refs;
+        }
+        List<Long> commentIds = new ArrayList<>(refs.size());
+        Set<Long> todoIds = new LinkedHashSet<>();
+        for (CommentRef ref : refs) {
+            commentIds.add(ref.getId());
+            todoIds.add(ref.getTodoId());
+        }
+
+        commentRepository.deleteAllByIds(commentIds);
+        adminAuditLogRepository.save(new AdminAuditLog(adminId, action, criteria, commentIds.size(), commentIds));
+
+        // 일괄 삭제는 댓글마다가 아니라 일정마다 한 번 알린다 (targetId 없음)
+        for (Long todoId : todoIds) {
+            resourceVersionCache.evict(ResourceVersionCache.commentsKey(todoId));
+            eventPublisher.publishEvent(new TodoActivityEvent(
+                    TodoActivityEvent.Type.COMMENT_DELETED, todoId, null, null));
+        }
+        return refs;
     }
 }
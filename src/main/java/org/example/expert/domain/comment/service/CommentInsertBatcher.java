@@ -0,0 +1,261 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentJdbcRepository;
+import org.example.expert.domain.comment.repository.CommentJdbcRepository.CommentInsert;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 댓글 INSERT group commit
+ * 여러 요청의 INSERT 를 max-latency 동안 모아 트랜잭션 한 번(multi-row INSERT)으로 커밋하고,
+ * 각 호출자에게는 자신의 생성 id 를 돌려준다.
+ */
+@Slf4j
+@Component
+public class CommentInsertBatcher {
+
+    private static final int MYSQL_NO_REFERENCED_ROW = 1452;
+    private static final String H2_REFERENTIAL_INTEGRITY_PARENT_MISSING = "23506";
+    private static final String OUTCOME_UNKNOWN = "댓글 저장 결과를 확인하지 못했습니다. 목록을 확인한 뒤 다시 시도해 주세요.";
+
+    private final CommentJdbcRepository commentJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxLatencyNanos;
+    private final Duration waitTimeout;
+    private final BlockingQueue<PendingInsert> queue;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public CommentInsertBatcher(
+            CommentJdbcRepository commentJdbcRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${comment.batch.enabled:true}") boolean enabled,
+            @Value("${comment.batch.max-size:100}") int maxBatchSize,
+            @Value("${comment.batch.max-latency:5ms}") Duration maxLatency,
+            @Value("${comment.batch.queue-capacity:10000}") int queueCapacity,
+            @Value("${comment.batch.wait-timeout:5s}") Duration waitTimeout
+    ) {
+        this.commentJdbcRepository = commentJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxLatencyNanos = maxLatency.toNanos();
+        this.waitTimeout = waitTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::runLoop, "comment-insert-batcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(waitTimeout.toMillis());
+            // 작업 스레드가 제때 끝나지 않으면 아직 꺼내지 않은 요청은 저장되지 않은 것이므로 바로 실패시킨다
+            failQueued("댓글 저장 대기 시간을 초과했습니다.");
+        }
+    }
+
+    /**
+     * 댓글을 저장하고 생성된 id 를 반환한다. 커밋될 때까지 호출 스레드는 대기한다.
+     */
+    public long insert(String contents, long userId, long todoId) {
+        CommentInsert comment = new CommentInsert(contents, userId, todoId);
+
+        // 배치 비활성화 또는 큐가 가득 찬 경우에는 호출 스레드에서 바로 저장한다 (backpressure)
+        PendingInsert pending = new PendingInsert(comment);
+        if (!running || !queue.offer(pending)) {
+            return insertNow(List.of(comment)).get(0);
+        }
+
+        try {
+            return pending.future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 큐에 있으면 꺼내서 취소한다. remove 와 작업 스레드의 poll/drainTo 는 같은 큐 락을 쓰므로
+            // 꺼내지 못했다면 이미 배치에 들어간 것이고, 실패로 돌려주면 재시도가 중복 댓글을 만든다. 결과를 한 번 더 기다린다.
+            if (queue.remove(pending)) {
+                throw new ServerException("댓글 저장 대기 시간을 초과했습니다.");
+            }
+            return awaitOutcome(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("댓글 저장 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * 이미 배치에 들어간 요청의 결과를 한 번 더 wait-timeout 만큼 기다린다.
+     * 그래도 끝나지 않으면 저장 여부를 알 수 없다고 응답한다. (작업 스레드가 멈춘 경우 요청 스레드가 영원히 묶이지 않게)
+     */
+    private long awaitOutcome(PendingInsert pending) {
+        try {
+            return pending.future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ServerException(OUTCOME_UNKNOWN);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("댓글 저장 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            throw failure(e);
+        }
+    }
+
+    private static RuntimeException failure(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new ServerException("댓글 저장에 실패했습니다.");
+    }
+
+    private void runLoop() {
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+        try {
+            collectAndFlush(batch);
+        } finally {
+            // 정상 종료면 둘 다 비어 있다. 예기치 못한 오류로 끝났다면 기다리는 호출자가 남지 않게 모두 끝내고,
+            // 이후 요청은 호출 스레드에서 바로 저장한다
+            running = false;
+            for (PendingInsert pending : batch) {
+                pending.future.completeExceptionally(new ServerException(OUTCOME_UNKNOWN));
+            }
+            failQueued("댓글 저장에 실패했습니다.");
+        }
+    }
+
+    private void collectAndFlush(List<PendingInsert> batch) {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingInsert first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 요청 기준 max-latency 까지 또는 max-size 가 찰 때까지 모은다
+                long deadline = System.nanoTime() + maxLatencyNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+                        break;
+                    }
+                    PendingInsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // stop() 이후에도 큐에 남은 요청은 모두 처리한다
+                queue.drainTo(batch);
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void failQueued(String message) {
+        List<PendingInsert> queued = new ArrayList<>();
+        queue.drainTo(queued);
+        for (PendingInsert pending : queued) {
+            pending.future.completeExceptionally(new ServerException(message));
+        }
+    }
+
+    private void flush(List<PendingInsert> batch) {
+        List<CommentInsert> comments = batch.stream().map(pending -> pending.comment).toList();
+        try {
+            List<Long> ids = insertNow(comments);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(ids.get(i));
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).future.completeExceptionally(e);
+                return;
+            }
+            // 한 건의 실패(FK 위반 등)가 다른 요청까지 실패시키지 않도록 한 건씩 다시 저장한다
+            log.warn("댓글 배치 저장 실패, 개별 저장으로 재시도: size={}, error={}", batch.size(), e.getMessage());
+            for (PendingInsert pending : batch) {
+                flush(List.of(pending));
+            }
+        }
+    }
+
+    private List<Long> insertNow(List<CommentInsert> comments) {
+        try {
+            return transactionTemplate.execute(status -> commentJdbcRepository.insertAll(comments));
+        } catch (DataIntegrityViolationException e) {
+            // 존재 확인 이후 일정이 사라진 경우 FK 위반. 그 밖의 무결성 위반은 일정 문제가 아니므로 그대로 실패시킨다
+            if (isMissingParent(e)) {
+                throw new InvalidRequestException("Todo not found");
+            }
+            log.error("댓글 저장 중 무결성 위반", e);
+            throw new ServerException("댓글 저장에 실패했습니다.");
+        } catch (DataAccessException e) {
+            throw new ServerException("댓글 저장에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 참조하는 부모 행이 없는 FK 위반인지 (MySQL 1452, H2 23506)
+     */
+    static boolean isMissingParent(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && (sqlException.getErrorCode() == MYSQL_NO_REFERENCED_ROW
+                    || H2_REFERENTIAL_INTEGRITY_PARENT_MISSING.equals(sqlException.getSQLState()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class PendingInsert {
+        private final CommentInsert comment;
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+        private PendingInsert(CommentInsert comment) {
+            this.comment = comment;
+        }
+    }
+}
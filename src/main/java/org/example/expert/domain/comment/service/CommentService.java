@@ -1,17 +1,25 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.RecentWriters;
+import org.example.expert.domain.activity.event.TodoActivityEvent;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.cache.ResourceVersionCache;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorPageResponse;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
-import org.example.expert.domain.todo.entity.Todo;
-import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.cache.TodoOwnerCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
-import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,34 +29,93 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommentService {
 
-    private final TodoRepository todoRepository;
+    private final TodoOwnerCache todoOwnerCache;
     private final CommentRepository commentRepository;
+    private final CommentInsertBatcher commentInsertBatcher;
+    private final ResourceVersionCache resourceVersionCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecentWriters recentWriters;
 
-    @Transactional
+    @Value("${comment.page.default-size:20}")
+    private int defaultPageSize;
+    @Value("${comment.page.max-size:100}")
+    private int maxPageSize;
+
+    /**
+     * Todo 전체를 조회하지 않고 존재 여부만 확인한 뒤 FK 로 바로 INSERT 한다.
+     * INSERT 는 CommentInsertBatcher 가 다른 요청과 묶어 자체 트랜잭션으로 커밋한다.
+     * 커밋이 작업 스레드에서 일어나 라우팅이 작성자를 모르므로 read-your-writes 창은 여기서 연다.
+     */
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
-        User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+        if (!todoOwnerCache.exists(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+
+        long commentId = commentInsertBatcher.insert(commentSaveRequest.getContents(), authUser.getId(), todoId);
+        recentWriters.markWritten(authUser.getId());
+        resourceVersionCache.evict(ResourceVersionCache.commentsKey(todoId));
+        eventPublisher.publishEvent(new TodoActivityEvent(
+                TodoActivityEvent.Type.COMMENT_CREATED, todoId, commentId, authUser.getId()));
 
-        Comment newComment = new Comment(
+        return new CommentSaveResponse(
+                commentId,
                 commentSaveRequest.getContents(),
-                user,
-                todo
+                new UserResponse(authUser.getId(), authUser.getEmail())
         );
+    }
 
-        Comment savedComment = commentRepository.save(newComment);
+    @Transactional(readOnly = true)
+    public ResourceVersion getCommentsVersion(long todoId) {
+        return resourceVersionCache.get(ResourceVersionCache.commentsKey(todoId), () ->
+                commentRepository.findListVersionByTodoId(todoId).toResourceVersion());
+    }
 
-        return new CommentSaveResponse(
-                savedComment.getId(),
-                savedComment.getContents(),
-                new UserResponse(user.getId(), user.getEmail())
-        );
+    /**
+     * (createdAt, id) keyset 페이지네이션. size + 1 개를 조회해서 다음 페이지 존재 여부를 판단한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentResponse> getComments(long todoId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Comment> commentList;
+        if (cursor == null) {
+            commentList = commentRepository.findFirstPageByTodoIdWithUser(todoId, limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            commentList = commentRepository.findPageByTodoIdWithUserAfter(todoId, after.getTimestamp(), after.getId(), limit);
+        }
+
+        String nextCursor = null;
+        if (commentList.size() > pageSize) {
+            commentList = commentList.subList(0, pageSize);
+            Comment last = commentList.get(pageSize - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorPageResponse<>(toCommentResponses(commentList), nextCursor);
     }
 
+    /**
+     * 전체 댓글을 한 번에 내려준다. 요청에서 명시적으로 unpaged=true 를 준 경우에만 사용
+     */
     @Transactional(readOnly = true)
-    public List<CommentResponse> getComments(long todoId) {
+    public CursorPageResponse<CommentResponse> getAllComments(long todoId) {
         List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+        return new CursorPageResponse<>(toCommentResponses(commentList), null);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+        return Math.min(size, maxPageSize);
+    }
 
+    private List<CommentResponse> toCommentResponses(List<Comment> commentList) {
         return commentList.stream()
                 .map(comment -> new CommentResponse(
                         comment.getId(),
@@ -0,0 +1,31 @@
+package org.example.expert.domain.common.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 쓰기 트랜잭션 안에서 로컬 캐시를 비우는 공통 처리
+ */
+public final class CacheEvictions {
+
+    private CacheEvictions() {
+    }
+
+    /**
+     * 지금 한 번 비우고, 트랜잭션 안이면 커밋 후에 한 번 더 비운다.
+     *
+     * 지금 비운 뒤 커밋 전까지 다른 요청이 아직 커밋되지 않은 이전 상태(없음 포함)를 DB 에서 읽어 다시 적재할 수 있다.
+     * 커밋 후에 다시 비워야 그 오래된 값이 남지 않는다. 트랜잭션 밖이면 지금 비우는 것으로 끝난다.
+     */
+    public static void evictNowAndAfterCommit(Runnable invalidate) {
+        invalidate.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate.run();
+                }
+            });
+        }
+    }
+}
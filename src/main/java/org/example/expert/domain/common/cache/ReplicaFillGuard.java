@@ -0,0 +1,32 @@
+package org.example.expert.domain.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.config.ReadWriteRoutingDataSource;
+
+import java.time.Duration;
+
+/**
+ * 쓰기로 비운 키를 복제 지연 한도(db.replica.read-your-writes-window) 동안 기억한다.
+ * 그 사이에는 복제본에서 읽은 값으로 다시 채우지 않는다 (아직 그 쓰기를 따라잡지 못했을 수 있다).
+ * 한도가 지난 키, primary 에서 읽은 값은 평소대로 채운다.
+ */
+public class ReplicaFillGuard<K> {
+
+    private final Cache<K, Boolean> recentlyWritten;
+
+    public ReplicaFillGuard(Duration replicaLag) {
+        this.recentlyWritten = Caffeine.newBuilder().expireAfterWrite(replicaLag).build();
+    }
+
+    /**
+     * evict 할 때 부른다. 커밋 후 evict 에서 다시 부르면 한도가 커밋 시점부터 다시 잡힌다
+     */
+    public void written(K key) {
+        recentlyWritten.put(key, Boolean.TRUE);
+    }
+
+    public boolean canFill(K key) {
+        return !ReadWriteRoutingDataSource.isReplicaRead() || recentlyWritten.getIfPresent(key) == null;
+    }
+}
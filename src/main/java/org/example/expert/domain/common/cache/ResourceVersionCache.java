@@ -0,0 +1,65 @@
+package org.example.expert.domain.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 조건부 GET(ETag / Last-Modified) 판단용 버전 캐시
+ * 쓰기 경로에서 evict 하고, 다른 노드의 쓰기는 TTL 로 따라잡는다.
+ * 쓰기 직후 복제 지연 한도 동안은 복제본에서 읽은 버전을 넣지 않는다. 이미 바뀐 내용에 304 를 주게 된다.
+ */
+@Component
+public class ResourceVersionCache {
+
+    private final Cache<String, ResourceVersion> cache;
+    private final ReplicaFillGuard<String> fillGuard;
+
+    public ResourceVersionCache(
+            @Value("${cache.resource-version.max-size:10000}") long maxSize,
+            @Value("${cache.resource-version.ttl:30s}") Duration ttl,
+            @Value("${db.replica.read-your-writes-window:5s}") Duration replicaLag
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.fillGuard = new ReplicaFillGuard<>(replicaLag);
+    }
+
+    public static String todoKey(long todoId) {
+        return "todo:" + todoId;
+    }
+
+    public static String commentsKey(long todoId) {
+        return "comments:" + todoId;
+    }
+
+    public static String managersKey(long todoId) {
+        return "managers:" + todoId;
+    }
+
+    public ResourceVersion get(String key, Supplier<ResourceVersion> loader) {
+        ResourceVersion cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        ResourceVersion loaded = loader.get();
+        if (fillGuard.canFill(key)) {
+            cache.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    public void evict(String key) {
+        CacheEvictions.evictNowAndAfterCommit(() -> {
+            cache.invalidate(key);
+            fillGuard.written(key);
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 어드민 일괄 변경 결과. id 목록으로 요청한 경우 없는 id 는 missingIds 로 알려준다.
+ */
+@Getter
+public class BulkOperationResponse {
+
+    private final long affectedCount;
+    private final int batchCount;
+    private final List<Long> missingIds;
+
+    public BulkOperationResponse(long affectedCount, int batchCount, List<Long> missingIds) {
+        this.affectedCount = affectedCount;
+        this.batchCount = batchCount;
+        this.missingIds = missingIds;
+    }
+}
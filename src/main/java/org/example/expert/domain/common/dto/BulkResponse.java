@@ -0,0 +1,39 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ids 로 여러 건을 한 번에 조회한 결과. 없는 id 는 실패 대신 missingIds 로 알려준다.
+ */
+@Getter
+public class BulkResponse<T> {
+
+    private final List<T> content;
+    private final List<Long> missingIds;
+
+    public BulkResponse(List<T> content, List<Long> missingIds) {
+        this.content = content;
+        this.missingIds = missingIds;
+    }
+
+    /**
+     * 요청한 id 순서대로 content 를 채운다.
+     */
+    public static <T> BulkResponse<T> of(List<Long> requestedIds, Map<Long, T> found) {
+        List<T> content = new ArrayList<>(requestedIds.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            T value = found.get(id);
+            if (value == null) {
+                missingIds.add(id);
+            } else {
+                content.add(value);
+            }
+        }
+        return new BulkResponse<>(content, missingIds);
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 응답의 버전을 집계 쿼리 한 번으로 계산하기 위한 projection
+ * (추가 시 maxId 증가, 삭제 시 count 감소, 수정 시 lastModifiedAt 변경)
+ * 삭제는 MAX(modifiedAt) 을 앞으로 옮기지 않으므로 (되돌리기도 한다) 목록은 ETag 로만 비교하고 Last-Modified 는 주지 않는다.
+ */
+@Getter
+public class ListVersion {
+
+    private final long count;
+    private final long maxId;
+    private final LocalDateTime lastModifiedAt;
+
+    public ListVersion(Long count, Long maxId) {
+        this(count, maxId, null);
+    }
+
+    public ListVersion(Long count, Long maxId, LocalDateTime lastModifiedAt) {
+        this.count = count == null ? 0 : count;
+        this.maxId = maxId == null ? 0 : maxId;
+        this.lastModifiedAt = lastModifiedAt;
+    }
+
+    public ResourceVersion toResourceVersion() {
+        String tag = count + "-" + maxId;
+        if (lastModifiedAt != null) {
+            tag += "-" + lastModifiedAt.toString();
+        }
+        return ResourceVersion.of(tag, null);
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Getter
+public class ResourceVersion {
+
+    private final String etag;
+    private final long lastModified; // epoch millis, 알 수 없으면 -1
+
+    private ResourceVersion(String etag, long lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    public static ResourceVersion of(String tag, LocalDateTime lastModifiedAt) {
+        long lastModified = lastModifiedAt == null
+                ? -1
+                : lastModifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        // strong ETag: 표현이 바뀌면 tag 도 반드시 바뀐다
+        return new ResourceVersion("\"" + tag + "\"", lastModified);
+    }
+
+    /**
+     * If-Match 헤더에서 버전을 꺼낸다. "*" 는 버전 무관(null)
+     * If-Match 는 strong 비교만 허용하므로 weak ETag 나 형식이 다른 값은 412
+     */
+    public static Long parseVersion(String ifMatch) {
+        String value = ifMatch.trim();
+        if ("*".equals(value)) {
+            return null;
+        }
+        if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match 형식이 올바르지 않습니다.");
+        }
+        try {
+            return Long.parseLong(value.substring(1, value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match 형식이 올바르지 않습니다.");
+        }
+    }
+}
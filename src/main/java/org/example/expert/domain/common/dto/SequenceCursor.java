@@ -0,0 +1,41 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 변경 순번 기반 커서 (순번, id). Cursor 와 같이 base64url 문자열로 내려준다.
+ */
+@Getter
+public class SequenceCursor {
+
+    public static final SequenceCursor START = new SequenceCursor(-1L, 0L);
+
+    private static final String DELIMITER = ":";
+
+    private final long sequence;
+    private final long id;
+
+    public SequenceCursor(long sequence, long id) {
+        this.sequence = sequence;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = sequence + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SequenceCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            return new SequenceCursor(Long.parseLong(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("유효하지 않은 cursor 입니다.");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.expert.domain.common.util;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+public final class BulkIds {
+
+    private BulkIds() {
+    }
+
+    /**
+     * 중복을 제거하고 처음 나온 순서를 유지한다.
+     */
+    public static List<Long> distinct(List<Long> ids, int maxIds) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidRequestException("ids 는 1개 이상이어야 합니다.");
+        }
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinct.size() > maxIds) {
+            throw new InvalidRequestException("ids 는 최대 " + maxIds + "개까지 요청할 수 있습니다.");
+        }
+        return distinct;
+    }
+
+    /**
+     * IN 절 크기를 제한하기 위해 chunkSize 단위로 나눈다.
+     */
+    public static List<List<Long>> chunk(List<Long> ids, int chunkSize) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        return chunks;
+    }
+}
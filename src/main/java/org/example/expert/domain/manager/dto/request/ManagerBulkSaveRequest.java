@@ -0,0 +1,20 @@
+package org.example.expert.domain.manager.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManagerBulkSaveRequest {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@NotNull Long> managerUserIds; // 일정 작성자가 한 번에 배치하는 유저 id 목록
+}
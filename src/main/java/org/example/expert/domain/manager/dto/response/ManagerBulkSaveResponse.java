@@ -0,0 +1,21 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+@Getter
+public class ManagerBulkSaveResponse {
+
+    private final Long userId;
+    private final ManagerAssignStatus status;
+    private final Long managerId; // ASSIGNED 일 때만 값이 있다
+    private final UserResponse user;
+
+    public ManagerBulkSaveResponse(Long userId, ManagerAssignStatus status, Long managerId, UserResponse user) {
+        this.userId = userId;
+        this.status = status;
+        this.managerId = managerId;
+        this.user = user;
+    }
+}
@@ -6,10 +6,14 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(name = "managers",
+        uniqueConstraints = @UniqueConstraint(name = "uk_managers_todo_user", columnNames = {"todo_id", "user_id"}),
+        indexes = @Index(name = "idx_managers_user_modified_todo", columnList = "user_id, todo_modified_at DESC, todo_id DESC"))
 public class Manager {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,8 +26,24 @@ public class Manager {
     @JoinColumn(name = "todo_id", nullable = false)
     private Todo todo;
 
+    // 일정 modifiedAt 복사본. GET /users/me/todos 가 (user_id, todo_modified_at, todo_id) 인덱스 순서로 읽고 정렬하지 않도록 둔다
+    @Column(name = "todo_modified_at", nullable = false)
+    private LocalDateTime todoModifiedAt;
+
     public Manager(User user, Todo todo) {
         this.user = user;
         this.todo = todo;
     }
+
+    /**
+     * 일정과 함께 저장될 때 (cascade) 일정의 auditing 이 먼저 끝나 있으므로 그 값을 복사한다.
+     * 기존 일정에 담당자를 추가할 때는 ManagerJdbcRepository 가 INSERT ... SELECT 로 채운다.
+     * NOT NULL 이므로 일정이 프록시여도 읽어서 채운다.
+     */
+    @PrePersist
+    void copyTodoModifiedAt() {
+        if (todoModifiedAt == null) {
+            todoModifiedAt = todo.getModifiedAt();
+        }
+    }
 }
@@ -0,0 +1,9 @@
+package org.example.expert.domain.manager.enums;
+
+public enum ManagerAssignStatus {
+    ASSIGNED,            // 새로 등록됨
+    ALREADY_ASSIGNED,    // 이미 담당자로 등록되어 있음
+    DUPLICATED,          // 요청 안에서 중복된 id
+    USER_NOT_FOUND,      // 존재하지 않는 유저
+    OWNER_NOT_ALLOWED    // 일정 작성자 본인
+}
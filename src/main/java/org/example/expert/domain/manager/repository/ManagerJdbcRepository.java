@@ -0,0 +1,44 @@
+package org.example.expert.domain.manager.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 담당자 등록용 JDBC batch INSERT
+ * 정렬 키(todo_modified_at)를 같은 문장에서 todos 로부터 복사한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ManagerJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO managers (todo_id, user_id, todo_modified_at) " +
+            "SELECT id, :userId, modified_at FROM todos WHERE id = :todoId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 입력 순서와 같은 순서의 생성된 id 목록. 일정이 없으면 빈 목록
+     */
+    public List<Long> insertAll(long todoId, List<Long> userIds) {
+        SqlParameterSource[] params = userIds.stream()
+                .map(userId -> new MapSqlParameterSource()
+                        .addValue("todoId", todoId)
+                        .addValue("userId", userId))
+                .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SQL, params, keyHolder, new String[]{"id"});
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+}
@@ -1,13 +1,44 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.common.dto.ListVersion;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.TodoCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.common.dto.ListVersion(COUNT(m), MAX(m.id)) " +
+            "FROM Manager m WHERE m.todo.id = :todoId")
+    ListVersion findListVersionByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId AND m.user.id IN :userIds")
+    List<Long> findUserIdsByTodoIdAndUserIdIn(@Param("todoId") Long todoId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId AND m.todo.id = :todoId")
+    int deleteByIdAndTodoId(@Param("managerId") Long managerId, @Param("todoId") Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoCount(m.todo.id, COUNT(m)) " +
+            "FROM Manager m WHERE m.todo.id IN :todoIds GROUP BY m.todo.id")
+    List<TodoCount> countByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    /**
+     * 일정이 수정되면 담당자 행의 정렬 키도 같은 값으로 맞춘다
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Manager m SET m.todoModifiedAt = :modifiedAt WHERE m.todo.id = :todoId")
+    int updateTodoModifiedAt(@Param("todoId") Long todoId, @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Manager m WHERE m.todo.id = :todoId")
+    int deleteAllByTodoId(@Param("todoId") Long todoId);
 }
@@ -1,42 +1,50 @@
 package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.activity.event.TodoActivityEvent;
+import org.example.expert.domain.common.cache.ResourceVersionCache;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
+import org.example.expert.domain.manager.repository.ManagerJdbcRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
-import org.example.expert.domain.todo.entity.Todo;
-import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.cache.TodoOwnerCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ManagerService {
 
     private final ManagerRepository managerRepository;
+    private final ManagerJdbcRepository managerJdbcRepository;
     private final UserRepository userRepository;
-    private final TodoRepository todoRepository;
+    private final ResourceVersionCache resourceVersionCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoOwnerCache todoOwnerCache;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
-        // 일정을 만든 유저
+        // 일정을 만든 유저 (Todo 를 조회하지 않고 작성자 id 캐시로 확인)
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
-            throw new InvalidRequestException("일정을 생성한 유저만 담당자를 지정할 수 있습니다.");
-        }
+        validateOwner(user.getId(), todoId, "일정을 생성한 유저만 담당자를 지정할 수 있습니다.");
 
         User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
                 .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
@@ -45,21 +53,96 @@ public class ManagerService {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
-        Manager savedManagerUser = managerRepository.save(newManagerUser);
+        if (!managerRepository.findUserIdsByTodoIdAndUserIdIn(todoId, List.of(managerUser.getId())).isEmpty()) {
+            throw new InvalidRequestException("이미 등록된 담당자입니다.");
+        }
+
+        // 정렬 키를 일정에서 복사해야 하므로 INSERT ... SELECT 한 번으로 넣는다 (ManagerJdbcRepository)
+        long managerId = insertManagers(todoId, List.of(managerUser.getId())).get(0);
+        resourceVersionCache.evict(ResourceVersionCache.managersKey(todoId));
+        eventPublisher.publishEvent(new TodoActivityEvent(
+                TodoActivityEvent.Type.MANAGER_ADDED, todoId, managerId, user.getId()));
 
         return new ManagerSaveResponse(
-                savedManagerUser.getId(),
+                managerId,
                 new UserResponse(managerUser.getId(), managerUser.getEmail())
         );
     }
 
+    /**
+     * 여러 유저를 한 번에 담당자로 등록한다.
+     * 유저 조회(IN) 1회, 기존 담당자 확인(IN) 1회, batch INSERT 1회로 처리하고 유저별 결과를 요청 순서대로 돌려준다.
+     */
+    @Transactional
+    public List<ManagerBulkSaveResponse> saveManagers(AuthUser authUser, long todoId, ManagerBulkSaveRequest managerBulkSaveRequest) {
+        validateOwner(authUser.getId(), todoId, "일정을 생성한 유저만 담당자를 지정할 수 있습니다.");
+
+        List<Long> requestedIds = managerBulkSaveRequest.getManagerUserIds();
+        Set<Long> distinctIds = new LinkedHashSet<>(requestedIds);
+        distinctIds.remove(authUser.getId());
+
+        Map<Long, User> users = distinctIds.isEmpty()
+                ? Map.of()
+                : userRepository.findAllById(distinctIds).stream()
+                        .collect(Collectors.toMap(User::getId, Function.identity()));
+        Set<Long> alreadyAssigned = users.isEmpty()
+                ? Set.of()
+                : new HashSet<>(managerRepository.findUserIdsByTodoIdAndUserIdIn(todoId, users.keySet()));
+
+        List<Long> toInsert = distinctIds.stream()
+                .filter(users::containsKey)
+                .filter(userId -> !alreadyAssigned.contains(userId))
+                .toList();
+
+        Map<Long, Long> managerIds = new HashMap<>();
+        if (!toInsert.isEmpty()) {
+            List<Long> insertedIds = insertManagers(todoId, toInsert);
+            for (int i = 0; i < toInsert.size(); i++) {
+                managerIds.put(toInsert.get(i), insertedIds.get(i));
+            }
+            resourceVersionCache.evict(ResourceVersionCache.managersKey(todoId));
+            managerIds.values().forEach(managerId -> eventPublisher.publishEvent(new TodoActivityEvent(
+                    TodoActivityEvent.Type.MANAGER_ADDED, todoId, managerId, authUser.getId())));
+        }
+
+        Set<Long> seen = new HashSet<>();
+        List<ManagerBulkSaveResponse> results = new ArrayList<>(requestedIds.size());
+        for (Long userId : requestedIds) {
+            User user = users.get(userId);
+            UserResponse userResponse = user == null ? null : new UserResponse(user.getId(), user.getEmail());
+
+            ManagerAssignStatus status;
+            if (!seen.add(userId)) {
+                status = ManagerAssignStatus.DUPLICATED;
+            } else if (ObjectUtils.nullSafeEquals(authUser.getId(), userId)) {
+                status = ManagerAssignStatus.OWNER_NOT_ALLOWED;
+            } else if (user == null) {
+                status = ManagerAssignStatus.USER_NOT_FOUND;
+            } else if (alreadyAssigned.contains(userId)) {
+                status = ManagerAssignStatus.ALREADY_ASSIGNED;
+            } else {
+                status = ManagerAssignStatus.ASSIGNED;
+            }
+
+            Long managerId = status == ManagerAssignStatus.ASSIGNED ? managerIds.get(userId) : null;
+            results.add(new ManagerBulkSaveResponse(userId, status, managerId, userResponse));
+        }
+        return results;
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getManagersVersion(long todoId) {
+        return resourceVersionCache.get(ResourceVersionCache.managersKey(todoId), () ->
+                managerRepository.findListVersionByTodoId(todoId).toResourceVersion());
+    }
+
     @Transactional(readOnly = true)
     public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        if (!todoOwnerCache.exists(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
 
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todoId);
 
         return managerList.stream()
                 .map(manager -> new ManagerResponse(
@@ -69,25 +152,46 @@ public class ManagerService {
                 .toList();
     }
 
+    /**
+     * 작성자 확인은 캐시로, 삭제는 "해당 일정의 담당자" 조건을 건 DELETE 한 번으로 처리한다.
+     * 삭제된 행이 없을 때만 원인을 구분하기 위해 한 번 더 조회한다.
+     */
     @Transactional
     public void deleteManager(long userId, long todoId, long managerId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
-
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        validateOwner(userId, todoId, "해당 일정을 만든 유저가 유효하지 않습니다.");
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
-            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        int deleted = managerRepository.deleteByIdAndTodoId(managerId, todoId);
+        if (deleted == 0) {
+            if (!managerRepository.existsById(managerId)) {
+                throw new InvalidRequestException("Manager not found");
+            }
+            throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
         }
 
-        Manager manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new InvalidRequestException("Manager not found"));
+        resourceVersionCache.evict(ResourceVersionCache.managersKey(todoId));
+        eventPublisher.publishEvent(new TodoActivityEvent(
+                TodoActivityEvent.Type.MANAGER_REMOVED, todoId, managerId, userId));
+    }
 
-        if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
-            throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
+    private List<Long> insertManagers(long todoId, List<Long> userIds) {
+        List<Long> insertedIds;
+        try {
+            insertedIds = managerJdbcRepository.insertAll(todoId, userIds);
+        } catch (DataIntegrityViolationException e) {
+            // 확인 이후 다른 요청이 같은 담당자를 먼저 등록한 경우 (uk_managers_todo_user)
+            throw new InvalidRequestException("동시에 등록된 담당자가 있습니다. 다시 시도해 주세요.");
+        }
+        if (insertedIds.size() != userIds.size()) {
+            // 작성자 확인 이후 일정이 삭제된 경우
+            throw new InvalidRequestException("Todo not found");
         }
+        return insertedIds;
+    }
 
-        managerRepository.delete(manager);
+    private void validateOwner(long userId, long todoId, String message) {
+        long ownerId = todoOwnerCache.getOwnerId(todoId);
+        if (ownerId != userId) {
+            throw new InvalidRequestException(message);
+        }
     }
 }
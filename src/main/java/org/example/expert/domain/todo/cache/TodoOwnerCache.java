@@ -0,0 +1,91 @@
+package org.example.expert.domain.todo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.common.cache.CacheEvictions;
+import org.example.expert.domain.common.cache.ReplicaFillGuard;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * todoId → 작성자 id 캐시
+ * 일정의 작성자는 바뀌지 않으므로 삭제될 때만 비운다.
+ * 없는 id 는 캐시하지 않고, 존재 확인 이후의 경합(다른 노드의 삭제 포함)은 FK 가 막아준다.
+ * 삭제 직후 복제 지연 한도 동안은 복제본에서 읽은 값을 넣지 않는다 (이미 삭제된 일정이 TTL 없이 남지 않도록).
+ */
+@Component
+public class TodoOwnerCache {
+
+    private final TodoRepository todoRepository;
+    private final Cache<Long, Long> ownerIds;
+    private final ReplicaFillGuard<Long> fillGuard;
+
+    public TodoOwnerCache(
+            TodoRepository todoRepository,
+            @Value("${cache.todo-owner.max-size:100000}") long maxSize,
+            @Value("${db.replica.read-your-writes-window:5s}") Duration replicaLag
+    ) {
+        this.todoRepository = todoRepository;
+        this.ownerIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+        this.fillGuard = new ReplicaFillGuard<>(replicaLag);
+    }
+
+    public Optional<Long> findOwnerId(long todoId) {
+        Long ownerId = ownerIds.getIfPresent(todoId);
+        if (ownerId != null) {
+            return Optional.of(ownerId);
+        }
+
+        // 작성자 id 컬럼만 조회
+        Optional<Long> loaded = todoRepository.findOwnerIdById(todoId);
+        loaded.ifPresent(id -> put(todoId, id));
+        return loaded;
+    }
+
+    public long getOwnerId(long todoId) {
+        return findOwnerId(todoId).orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
+
+    public boolean exists(long todoId) {
+        return findOwnerId(todoId).isPresent();
+    }
+
+    public void put(long todoId, long ownerId) {
+        if (!fillGuard.canFill(todoId)) {
+            return;
+        }
+        ownerIds.put(todoId, ownerId);
+    }
+
+    /**
+     * 새로 만든 일정은 커밋된 뒤에 채운다. 롤백된 일정이 캐시에 남으면 존재 확인을 통과해 FK 위반으로만 걸러진다
+     */
+    public void putAfterCommit(long todoId, long ownerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(todoId, ownerId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(todoId, ownerId);
+            }
+        });
+    }
+
+    public void evict(long todoId) {
+        CacheEvictions.evictNowAndAfterCommit(() -> {
+            ownerIds.invalidate(todoId);
+            fillGuard.written(todoId);
+        });
+    }
+}
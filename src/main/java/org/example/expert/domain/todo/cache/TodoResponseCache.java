@@ -0,0 +1,54 @@
+package org.example.expert.domain.todo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.common.cache.CacheEvictions;
+import org.example.expert.domain.common.cache.ReplicaFillGuard;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * ids 일괄 조회용 일정 응답 캐시
+ * 수정 시 evict 하고, 다른 노드의 수정은 TTL 로 따라잡는다.
+ * 수정 직후 복제 지연 한도 동안은 복제본에서 읽은 값으로 다시 채우지 않는다 (ReplicaFillGuard).
+ */
+@Component
+public class TodoResponseCache {
+
+    private final Cache<Long, TodoResponse> cache;
+    private final ReplicaFillGuard<Long> fillGuard;
+
+    public TodoResponseCache(
+            @Value("${cache.todo-response.max-size:10000}") long maxSize,
+            @Value("${cache.todo-response.ttl:30s}") Duration ttl,
+            @Value("${db.replica.read-your-writes-window:5s}") Duration replicaLag
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.fillGuard = new ReplicaFillGuard<>(replicaLag);
+    }
+
+    public Map<Long, TodoResponse> getAllPresent(Iterable<Long> todoIds) {
+        return cache.getAllPresent(todoIds);
+    }
+
+    public void put(TodoResponse todoResponse) {
+        if (!fillGuard.canFill(todoResponse.getId())) {
+            return;
+        }
+        cache.put(todoResponse.getId(), todoResponse);
+    }
+
+    public void evict(long todoId) {
+        CacheEvictions.evictNowAndAfterCommit(() -> {
+            cache.invalidate(todoId);
+            fillGuard.written(todoId);
+        });
+    }
+}
@@ -4,13 +4,24 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.BulkResponse;
+import org.example.expert.domain.common.dto.CursorPageResponse;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoChangesResponse;
+import org.example.expert.domain.todo.dto.response.TodoListResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -27,15 +38,67 @@ public class TodoController {
     }
 
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<Page<TodoListResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    @GetMapping(value = "/todos", params = "ids")
+    public ResponseEntity<BulkResponse<TodoResponse>> getTodosByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(todoService.getTodosByIds(ids));
+    }
+
+    /**
+     * 델타 동기화. 응답의 nextCursor 를 다음 요청의 since 로 보낸다.
+     */
+    @GetMapping("/todos/changes")
+    public ResponseEntity<TodoChangesResponse> getTodoChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(todoService.getTodoChanges(since, size));
+    }
+
+    @GetMapping("/users/me/todos")
+    public ResponseEntity<CursorPageResponse<TodoResponse>> getMyTodos(
+            @Auth AuthUser authUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(todoService.getMyTodos(authUser, cursor, size));
+    }
+
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        // If-None-Match / If-Modified-Since 가 일치하면 본문 조회 없이 304
+        ResourceVersion version = todoService.getTodoVersion(todoId);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
+
+    @PatchMapping("/todos/{todoId}")
+    public ResponseEntity<Void> updateTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @RequestHeader(HttpHeaders.IF_MATCH) String ifMatch,
+            @Valid @RequestBody TodoUpdateRequest todoUpdateRequest
+    ) {
+        ResourceVersion version = todoService.updateTodo(
+                authUser, todoId, ResourceVersion.parseVersion(ifMatch), todoUpdateRequest);
+
+        // 수정된 본문 대신 새 ETag 만 내려서 재조회 없이 다음 If-Match 에 쓸 수 있게 한다
+        return ResponseEntity.noContent()
+                .eTag(version.getEtag())
+                .lastModified(version.getLastModified())
+                .build();
+    }
+
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(@Auth AuthUser authUser, @PathVariable long todoId) {
+        todoService.deleteTodo(authUser, todoId);
+    }
 }
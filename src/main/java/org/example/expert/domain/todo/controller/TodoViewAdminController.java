@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.service.TodoViewProjector;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoViewAdminController {
+
+    private final TodoViewProjector todoViewProjector;
+
+    /**
+     * todo_view 를 원본 테이블에서 다시 만든다. (수동 보정용, 기동 시 어긋나 있으면 TodoViewProjector 가 자동으로 한다)
+     */
+    @PostMapping("/admin/todo-view/rebuild")
+    public ResponseEntity<Integer> rebuildTodoView() {
+        return ResponseEntity.ok(todoViewProjector.rebuild());
+    }
+}
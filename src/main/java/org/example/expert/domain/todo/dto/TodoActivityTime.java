@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * todoId 별 GROUP BY 로 구한 마지막 활동 시각
+ */
+@Getter
+public class TodoActivityTime {
+
+    private final Long todoId;
+    private final LocalDateTime activityAt;
+
+    public TodoActivityTime(Long todoId, LocalDateTime activityAt) {
+        this.todoId = todoId;
+        this.activityAt = activityAt;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+/**
+ * todoId 별 GROUP BY 집계 결과
+ */
+@Getter
+public class TodoCount {
+
+    private final Long todoId;
+    private final Long count;
+
+    public TodoCount(Long todoId, Long count) {
+        this.todoId = todoId;
+        this.count = count;
+    }
+}
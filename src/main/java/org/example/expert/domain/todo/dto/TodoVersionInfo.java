@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 연관관계 로딩 없이 todos 한 행에서 읽는 버전/소유자 정보
+ */
+@Getter
+public class TodoVersionInfo {
+
+    private final Long todoId;
+    private final Long version;
+    private final Long ownerId;
+    private final LocalDateTime modifiedAt;
+
+    public TodoVersionInfo(Long todoId, Long version, Long ownerId, LocalDateTime modifiedAt) {
+        this.todoId = todoId;
+        this.version = version;
+        this.ownerId = ownerId;
+        this.modifiedAt = modifiedAt;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoUpdateRequest {
+
+    // null 이면 변경하지 않음, 값이 있으면 공백만으로는 안 됨
+    @Pattern(regexp = "(?s).*\\S.*", message = "제목은 공백일 수 없습니다.")
+    private String title;
+    @Pattern(regexp = "(?s).*\\S.*", message = "내용은 공백일 수 없습니다.")
+    private String contents;
+}
@@ -0,0 +1,25 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 이후 변경분. 바뀐 일정은 본문 전체, 삭제된 일정은 id 만 내려간다.
+ * nextCursor 는 변경이 없어도 항상 내려가며, 클라이언트는 다음 동기화 때 그대로 since 로 보낸다.
+ */
+@Getter
+public class TodoChangesResponse {
+
+    private final List<TodoResponse> changed;
+    private final List<Long> deletedIds;
+    private final String nextCursor;
+    private final boolean hasMore; // true 면 바로 이어서 다시 요청한다
+
+    public TodoChangesResponse(List<TodoResponse> changed, List<Long> deletedIds, String nextCursor, boolean hasMore) {
+        this.changed = changed;
+        this.deletedIds = deletedIds;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+}
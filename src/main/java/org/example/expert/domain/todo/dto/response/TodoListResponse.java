@@ -0,0 +1,36 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoListResponse {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    private final UserResponse user;
+    private final long commentCount;
+    private final long managerCount;
+    private final LocalDateTime lastActivityAt;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public TodoListResponse(Long id, String title, String contents, String weather, UserResponse user,
+                            long commentCount, long managerCount, LocalDateTime lastActivityAt,
+                            LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.user = user;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.lastActivityAt = lastActivityAt;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
@@ -3,6 +3,7 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
@@ -14,7 +15,7 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = @Index(name = "idx_todos_change_seq_id", columnList = "change_seq, id"))
 public class Todo extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,6 +24,15 @@ public class Todo extends Timestamped {
     private String contents;
     private String weather;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // 델타 동기화용 변경 순번 (TodoChangeSequence). 기능 도입 전 행은 0
+    @ColumnDefault("0")
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -41,6 +51,10 @@ public class Todo extends Timestamped {
         this.managers.add(new Manager(user, this));
     }
 
+    public void assignChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
     public void update(String title, String contents) {
         this.title = title;
         this.contents = contents;
@@ -0,0 +1,25 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일정 변경 순번 카운터 (행 하나)
+ * 쓰기 트랜잭션이 이 행을 증가시키고 커밋할 때까지 락을 잡고 있으므로, 순번은 커밋 순서와 같은 순서로 보인다.
+ * 그래서 커서 이후만 읽어도 나중에 커밋되는 더 작은 순번을 건너뛰지 않는다. 갱신은 TodoChangeJdbcRepository 에서 한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_change_sequence")
+public class TodoChangeSequence {
+
+    @Id
+    private Long id;
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+}
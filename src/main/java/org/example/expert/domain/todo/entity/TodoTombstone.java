@@ -0,0 +1,30 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 일정 기록. 델타 동기화에서 클라이언트가 지워야 할 id 를 알려준다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_tombstones", indexes = @Index(name = "idx_todo_tombstones_change_seq", columnList = "change_seq, todo_id"))
+public class TodoTombstone {
+
+    @Id
+    @Column(name = "todo_id")
+    private Long todoId;
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+    private LocalDateTime deletedAt;
+
+    public TodoTombstone(Long todoId, long changeSeq, LocalDateTime deletedAt) {
+        this.todoId = todoId;
+        this.changeSeq = changeSeq;
+        this.deletedAt = deletedAt;
+    }
+}
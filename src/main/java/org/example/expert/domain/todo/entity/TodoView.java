@@ -0,0 +1,34 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 목록 화면용 비정규화 읽기 모델
+ * TodoViewProjector 만 JDBC 로 갱신하고, 애플리케이션에서는 읽기만 한다.
+ */
+@Getter
+@Entity
+@Immutable
+@NoArgsConstructor
+@Table(name = "todo_view", indexes = @Index(name = "idx_todo_view_modified_id", columnList = "modified_at, todo_id"))
+public class TodoView {
+
+    @Id
+    @Column(name = "todo_id")
+    private Long todoId;
+    private String title;
+    private String contents;
+    private String weather;
+    private Long ownerId;
+    private String ownerEmail;
+    private long commentCount;
+    private long managerCount;
+    private LocalDateTime lastActivityAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+}
@@ -0,0 +1,36 @@
+package org.example.expert.domain.todo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * todo_change_sequence 카운터 증가
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoChangeJdbcRepository {
+
+    private static final MapSqlParameterSource COUNTER = new MapSqlParameterSource("id", 1L);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 다음 변경 순번. 호출한 트랜잭션이 끝날 때까지 카운터 행 락을 잡으므로 쓰기 트랜잭션의 가능한 늦은 시점에 호출한다.
+     */
+    public long nextSequence() {
+        int updated = jdbcTemplate.update("UPDATE todo_change_sequence SET last_seq = last_seq + 1 WHERE id = :id", COUNTER);
+        if (updated == 0) {
+            try {
+                jdbcTemplate.update("INSERT INTO todo_change_sequence (id, last_seq) VALUES (:id, 1)", COUNTER);
+                return 1L;
+            } catch (DuplicateKeyException e) {
+                // 다른 트랜잭션이 먼저 첫 행을 만들었다
+                jdbcTemplate.update("UPDATE todo_change_sequence SET last_seq = last_seq + 1 WHERE id = :id", COUNTER);
+            }
+        }
+        return jdbcTemplate.queryForObject("SELECT last_seq FROM todo_change_sequence WHERE id = :id", COUNTER, Long.class);
+    }
+}
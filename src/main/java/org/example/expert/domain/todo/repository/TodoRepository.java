@@ -1,16 +1,21 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.TodoVersionInfo;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryCustom {
 
     @EntityGraph(attributePaths = "user")
     Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
@@ -20,4 +25,45 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    @Query("SELECT t FROM Todo t JOIN FETCH t.user WHERE t.id IN :todoIds")
+    List<Todo> findAllByIdInWithUser(@Param("todoIds") Collection<Long> todoIds);
+
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findOwnerIdById(@Param("todoId") Long todoId);
+
+    /**
+     * 작성자도 Manager 로 등록되므로 managers 조인 하나로 "작성자 또는 담당자" 일정을 모두 찾는다.
+     * (modifiedAt, id) 내림차순 keyset 페이지네이션. managers 의 정렬 키 복사본(todo_modified_at)으로 정렬해서
+     * idx_managers_user_modified_todo 를 순서대로 읽다가 페이지가 차면 멈춘다. (담당 일정이 많아도 정렬하지 않는다)
+     * ORDER BY 의 m.user.id 는 WHERE 로 고정된 값이라 결과에 영향이 없다. H2 는 ORDER BY 가 인덱스 컬럼의 앞부분과
+     * 같아야 인덱스 순서를 쓰므로 넣어 둔다.
+     */
+    @Query("SELECT t FROM Manager m JOIN m.todo t JOIN FETCH t.user WHERE m.user.id = :userId " +
+            "ORDER BY m.user.id, m.todoModifiedAt DESC, m.todo.id DESC")
+    List<Todo> findFirstPageByMemberId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT t FROM Manager m JOIN m.todo t JOIN FETCH t.user WHERE m.user.id = :userId " +
+            "AND (m.todoModifiedAt < :modifiedAt OR (m.todoModifiedAt = :modifiedAt AND m.todo.id < :id)) " +
+            "ORDER BY m.user.id, m.todoModifiedAt DESC, m.todo.id DESC")
+    List<Todo> findPageByMemberIdBefore(@Param("userId") Long userId,
+                                        @Param("modifiedAt") LocalDateTime modifiedAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoVersionInfo(t.id, t.version, t.user.id, t.modifiedAt) " +
+            "FROM Todo t WHERE t.id = :todoId")
+    Optional<TodoVersionInfo> findVersionInfoById(@Param("todoId") Long todoId);
+
+    /**
+     * (changeSeq, id) 오름차순 keyset. idx_todos_change_seq_id 인덱스 범위 스캔
+     */
+    @Query("SELECT t FROM Todo t JOIN FETCH t.user " +
+            "WHERE t.changeSeq > :changeSeq OR (t.changeSeq = :changeSeq AND t.id > :id) " +
+            "ORDER BY t.changeSeq ASC, t.id ASC")
+    List<Todo> findChangesAfter(@Param("changeSeq") long changeSeq, @Param("id") long id, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.id = :todoId AND t.user.id = :ownerId")
+    int deleteByIdAndOwnerId(@Param("todoId") Long todoId, @Param("ownerId") Long ownerId);
 }
@@ -0,0 +1,16 @@
+package org.example.expert.domain.todo.repository;
+
+import java.time.LocalDateTime;
+
+public interface TodoRepositoryCustom {
+
+    /**
+     * SELECT 없이 UPDATE 한 번으로 변경된 컬럼만 갱신한다.
+     * expectedVersion 이 null 이면 버전 조건 없이 갱신한다.
+     * changeSeq 는 델타 동기화용 변경 순번으로 함께 기록한다.
+     *
+     * @return 갱신된 행 수 (0 이면 없는 일정, 소유자 불일치, 버전 충돌 중 하나)
+     */
+    int updateIfVersionMatches(long todoId, long ownerId, Long expectedVersion,
+                               String title, String contents, LocalDateTime modifiedAt, long changeSeq);
+}
@@ -0,0 +1,48 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.example.expert.domain.todo.entity.Todo;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TodoRepositoryImpl implements TodoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateIfVersionMatches(long todoId, long ownerId, Long expectedVersion,
+                                      String title, String contents, LocalDateTime modifiedAt, long changeSeq) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Todo> update = cb.createCriteriaUpdate(Todo.class);
+        Root<Todo> todo = update.from(Todo.class);
+
+        // 요청에 포함된 컬럼만 SET 절에 넣는다
+        if (title != null) {
+            update.set(todo.<String>get("title"), title);
+        }
+        if (contents != null) {
+            update.set(todo.<String>get("contents"), contents);
+        }
+        update.set(todo.<Long>get("version"), cb.sum(todo.<Long>get("version"), 1L));
+        update.set(todo.<LocalDateTime>get("modifiedAt"), modifiedAt);
+        update.set(todo.<Long>get("changeSeq"), changeSeq);
+
+        List<Predicate> conditions = new ArrayList<>();
+        conditions.add(cb.equal(todo.get("id"), todoId));
+        conditions.add(cb.equal(todo.get("user").get("id"), ownerId));
+        if (expectedVersion != null) {
+            conditions.add(cb.equal(todo.get("version"), expectedVersion));
+        }
+        update.where(conditions.toArray(new Predicate[0]));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
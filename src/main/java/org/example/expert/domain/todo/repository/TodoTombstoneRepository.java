@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TodoTombstoneRepository extends JpaRepository<TodoTombstone, Long> {
+
+    @Query("SELECT t FROM TodoTombstone t " +
+            "WHERE t.changeSeq > :changeSeq OR (t.changeSeq = :changeSeq AND t.todoId > :todoId) " +
+            "ORDER BY t.changeSeq ASC, t.todoId ASC")
+    List<TodoTombstone> findChangesAfter(@Param("changeSeq") long changeSeq, @Param("todoId") long todoId, Pageable pageable);
+}
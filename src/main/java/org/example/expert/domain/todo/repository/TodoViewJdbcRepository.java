@@ -0,0 +1,91 @@
+package org.example.expert.domain.todo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * todo_view 갱신 SQL
+ * 증분 대신 원본 테이블에서 행 전체를 다시 계산하므로 이벤트가 중복/유실되어도 다음 갱신에서 맞춰진다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoViewJdbcRepository {
+
+    private static final String SELECT_FROM_SOURCE =
+            "SELECT t.id, t.title, t.contents, t.weather, u.id, u.email, " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id), " +
+            "(SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id), " +
+            "GREATEST(t.modified_at, COALESCE((SELECT MAX(c.created_at) FROM comments c WHERE c.todo_id = t.id), t.modified_at)), " +
+            "t.created_at, t.modified_at " +
+            "FROM todos t JOIN users u ON u.id = t.user_id ";
+
+    private static final String INSERT_INTO_VIEW =
+            "INSERT INTO todo_view (todo_id, title, contents, weather, owner_id, owner_email, " +
+            "comment_count, manager_count, last_activity_at, created_at, modified_at) ";
+
+    private static final String EPOCH = "TIMESTAMP '1970-01-01 00:00:00'";
+
+    private static final String IN_SYNC =
+            "SELECT CASE WHEN " +
+            "(SELECT COUNT(*) FROM todos) = (SELECT COUNT(*) FROM todo_view) " +
+            "AND (SELECT COUNT(*) FROM comments) = (SELECT COALESCE(SUM(comment_count), 0) FROM todo_view) " +
+            "AND (SELECT COUNT(*) FROM managers) = (SELECT COALESCE(SUM(manager_count), 0) FROM todo_view) " +
+            "AND COALESCE((SELECT MAX(modified_at) FROM todos), " + EPOCH + ") = " +
+            "COALESCE((SELECT MAX(modified_at) FROM todo_view), " + EPOCH + ") " +
+            "THEN 1 ELSE 0 END";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 주어진 일정의 행을 다시 계산한다. 호출하는 쪽의 트랜잭션 안에서 실행해야 한다.
+     */
+    public int refresh(Collection<Long> todoIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("todoIds", todoIds);
+        jdbcTemplate.update("DELETE FROM todo_view WHERE todo_id IN (:todoIds)", params);
+        return jdbcTemplate.update(INSERT_INTO_VIEW + SELECT_FROM_SOURCE + "WHERE t.id IN (:todoIds)", params);
+    }
+
+    /**
+     * id 구간 단위 재구성 (rebuild 용)
+     */
+    public int refreshRange(long fromId, long toId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromId", fromId)
+                .addValue("toId", toId);
+        jdbcTemplate.update("DELETE FROM todo_view WHERE todo_id BETWEEN :fromId AND :toId", params);
+        return jdbcTemplate.update(INSERT_INTO_VIEW + SELECT_FROM_SOURCE + "WHERE t.id BETWEEN :fromId AND :toId", params);
+    }
+
+    /**
+     * 원본 테이블에 시각이 남지 않는 활동(담당자 변경 등)의 시각을 반영한다.
+     */
+    public void touchLastActivity(Map<Long, LocalDateTime> activityTimes) {
+        SqlParameterSource[] params = activityTimes.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("todoId", entry.getKey())
+                        .addValue("activityAt", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("UPDATE todo_view SET last_activity_at = :activityAt " +
+                "WHERE todo_id = :todoId AND last_activity_at < :activityAt", params);
+    }
+
+    /**
+     * 원본 테이블과 행 수, 댓글/담당자 합계, 마지막 수정 시각이 같은지 (기동 시 재구성 여부 판단용)
+     */
+    public boolean isInSync() {
+        Integer inSync = jdbcTemplate.getJdbcTemplate().queryForObject(IN_SYNC, Integer.class);
+        return inSync != null && inSync == 1;
+    }
+
+    public long findMaxTodoId() {
+        Long maxId = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT MAX(id) FROM todos", Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+}
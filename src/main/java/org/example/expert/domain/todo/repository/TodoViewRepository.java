@@ -0,0 +1,12 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TodoViewRepository extends JpaRepository<TodoView, Long> {
+
+    // idx_todo_view_modified_id 역순 스캔 한 번 (조인 없음)
+    Page<TodoView> findAllByOrderByModifiedAtDescTodoIdDesc(Pageable pageable);
+}
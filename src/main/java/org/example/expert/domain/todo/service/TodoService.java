@@ -2,27 +2,82 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.activity.event.TodoActivityEvent;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.cache.ResourceVersionCache;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.BulkResponse;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorPageResponse;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.common.dto.SequenceCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.common.util.BulkIds;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.cache.TodoOwnerCache;
+import org.example.expert.domain.todo.cache.TodoResponseCache;
+import org.example.expert.domain.todo.dto.TodoActivityTime;
+import org.example.expert.domain.todo.dto.TodoCount;
+import org.example.expert.domain.todo.dto.TodoVersionInfo;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoChangesResponse;
+import org.example.expert.domain.todo.dto.response.TodoListResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoTombstone;
+import org.example.expert.domain.todo.repository.TodoChangeJdbcRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTombstoneRepository;
+import org.example.expert.domain.todo.repository.TodoViewRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class TodoService {
 
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final ResourceVersionCache resourceVersionCache;
+    private final TodoOwnerCache todoOwnerCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoViewRepository todoViewRepository;
+    private final TodoViewProjector todoViewProjector;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TodoResponseCache todoResponseCache;
+    private final TodoChangeJdbcRepository todoChangeJdbcRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
+
+    @Value("${bulk.max-ids:1000}")
+    private int bulkMaxIds;
+    @Value("${bulk.chunk-size:500}")
+    private int bulkChunkSize;
+    @Value("${todo.page.default-size:10}")
+    private int defaultPageSize;
+    @Value("${todo.page.max-size:100}")
+    private int maxPageSize;
+    @Value("${todo.changes.default-size:100}")
+    private int defaultChangesSize;
+    @Value("${todo.changes.max-size:500}")
+    private int maxChangesSize;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
@@ -36,7 +91,11 @@ public class TodoService {
                 weather,
                 user
         );
+        newTodo.assignChangeSeq(todoChangeJdbcRepository.nextSequence());
         Todo savedTodo = todoRepository.save(newTodo);
+        todoOwnerCache.putAfterCommit(savedTodo.getId(), user.getId());
+        eventPublisher.publishEvent(new TodoActivityEvent(
+                TodoActivityEvent.Type.TODO_CREATED, savedTodo.getId(), savedTodo.getId(), user.getId()));
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -47,38 +106,268 @@ public class TodoService {
         );
     }
 
+    /**
+     * 일정 목록 + 댓글 수/담당자 수/마지막 활동 시각
+     * todo_view 가 켜져 있고 원본 테이블을 따라잡았으면 읽기 모델에서 인덱스 스캔 한 번으로,
+     * 아니면(꺼짐, 기동 시 재구성 중) 원본 테이블에서 페이지 단위 집계로 만든다.
+     * 이때 마지막 활동 시각은 뷰 재구성과 같은 값 (일정 수정 시각과 최근 댓글 작성 시각 중 늦은 것) 이다.
+     * 담당자 변경은 원본 테이블에 시각이 남지 않아 뷰가 따라잡은 뒤의 증분 반영으로만 들어간다.
+     */
     @Transactional(readOnly = true)
-    public Page<TodoResponse> getTodos(int page, int size) {
+    public Page<TodoListResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
+        if (todoViewProjector.isReady()) {
+            return todoViewRepository.findAllByOrderByModifiedAtDescTodoIdDesc(pageable)
+                    .map(view -> new TodoListResponse(
+                            view.getTodoId(),
+                            view.getTitle(),
+                            view.getContents(),
+                            view.getWeather(),
+                            new UserResponse(view.getOwnerId(), view.getOwnerEmail()),
+                            view.getCommentCount(),
+                            view.getManagerCount(),
+                            view.getLastActivityAt(),
+                            view.getCreatedAt(),
+                            view.getModifiedAt()
+                    ));
+        }
+
         Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        List<Long> todoIds = todos.map(Todo::getId).toList();
+        Map<Long, Long> commentCounts = toCountMap(todoIds.isEmpty() ? List.of() : commentRepository.countByTodoIdIn(todoIds));
+        Map<Long, Long> managerCounts = toCountMap(todoIds.isEmpty() ? List.of() : managerRepository.countByTodoIdIn(todoIds));
+        Map<Long, LocalDateTime> latestComments = todoIds.isEmpty() ? Map.of() : commentRepository.findLatestCreatedAtByTodoIdIn(todoIds)
+                .stream().collect(Collectors.toMap(TodoActivityTime::getTodoId, TodoActivityTime::getActivityAt));
 
-        return todos.map(todo -> new TodoResponse(
+        return todos.map(todo -> new TodoListResponse(
                 todo.getId(),
                 todo.getTitle(),
                 todo.getContents(),
                 todo.getWeather(),
                 new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                commentCounts.getOrDefault(todo.getId(), 0L),
+                managerCounts.getOrDefault(todo.getId(), 0L),
+                lastActivityAt(todo.getModifiedAt(), latestComments.get(todo.getId())),
                 todo.getCreatedAt(),
                 todo.getModifiedAt()
         ));
     }
 
+    /**
+     * ids 일괄 조회. 캐시에 있는 id 는 캐시에서, 나머지는 chunk 단위 IN 쿼리로 읽고 요청 순서대로 돌려준다.
+     */
+    @Transactional(readOnly = true)
+    public BulkResponse<TodoResponse> getTodosByIds(List<Long> ids) {
+        List<Long> todoIds = BulkIds.distinct(ids, bulkMaxIds);
+
+        Map<Long, TodoResponse> found = new HashMap<>(todoResponseCache.getAllPresent(todoIds));
+        List<Long> misses = todoIds.stream().filter(todoId -> !found.containsKey(todoId)).toList();
+
+        for (List<Long> chunk : BulkIds.chunk(misses, bulkChunkSize)) {
+            for (Todo todo : todoRepository.findAllByIdInWithUser(chunk)) {
+                TodoResponse response = TodoResponse.from(todo);
+                todoResponseCache.put(response);
+                todoOwnerCache.put(todo.getId(), todo.getUser().getId());
+                found.put(todo.getId(), response);
+            }
+        }
+
+        return BulkResponse.of(todoIds, found);
+    }
+
+    /**
+     * 내가 작성했거나 담당자로 등록된 일정. managers(user_id, todo_modified_at, todo_id) 인덱스를 순서대로 읽어
+     * (modifiedAt, id) keyset 으로 size + 1 개를 조회해서 다음 페이지 존재 여부를 판단한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TodoResponse> getMyTodos(AuthUser authUser, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Todo> todoList;
+        if (cursor == null) {
+            todoList = todoRepository.findFirstPageByMemberId(authUser.getId(), limit);
+        } else {
+            Cursor before = Cursor.decode(cursor);
+            todoList = todoRepository.findPageByMemberIdBefore(authUser.getId(), before.getTimestamp(), before.getId(), limit);
+        }
+
+        String nextCursor = null;
+        if (todoList.size() > pageSize) {
+            todoList = todoList.subList(0, pageSize);
+            Todo last = todoList.get(pageSize - 1);
+            nextCursor = new Cursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new CursorPageResponse<>(todoList.stream().map(TodoResponse::from).toList(), nextCursor);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private Map<Long, Long> toCountMap(List<TodoCount> counts) {
+        return counts.stream().collect(Collectors.toMap(TodoCount::getTodoId, TodoCount::getCount));
+    }
+
+    private static LocalDateTime lastActivityAt(LocalDateTime modifiedAt, LocalDateTime latestComment) {
+        return latestComment != null && latestComment.isAfter(modifiedAt) ? latestComment : modifiedAt;
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getTodoVersion(long todoId) {
+        // 연관관계를 로딩하지 않고 version, modifiedAt 컬럼만 조회
+        return resourceVersionCache.get(ResourceVersionCache.todoKey(todoId), () ->
+                todoRepository.findVersionInfoById(todoId)
+                        .map(info -> {
+                            todoOwnerCache.put(todoId, info.getOwnerId());
+                            return toResourceVersion(info.getVersion(), info.getModifiedAt());
+                        })
+                        .orElseThrow(() -> new InvalidRequestException("Todo not found")));
+    }
+
+    /**
+     * If-Match 로 받은 버전과 일치할 때만 UPDATE 한 번으로 수정한다. (SELECT 없음)
+     * 실패한 경우에만 원인을 구분하기 위해 한 번 더 조회한다.
+     */
+    @Transactional
+    public ResourceVersion updateTodo(AuthUser authUser, long todoId, Long expectedVersion, TodoUpdateRequest todoUpdateRequest) {
+        if (todoUpdateRequest.getTitle() == null && todoUpdateRequest.getContents() == null) {
+            throw new InvalidRequestException("변경할 항목이 없습니다.");
+        }
+
+        LocalDateTime modifiedAt = LocalDateTime.now();
+        int updated = todoRepository.updateIfVersionMatches(
+                todoId,
+                authUser.getId(),
+                expectedVersion,
+                todoUpdateRequest.getTitle(),
+                todoUpdateRequest.getContents(),
+                modifiedAt,
+                todoChangeJdbcRepository.nextSequence()
+        );
+
+        if (updated == 0) {
+            TodoVersionInfo current = todoRepository.findVersionInfoById(todoId)
+                    .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+            if (!authUser.getId().equals(current.getOwnerId())) {
+                throw new InvalidRequestException("일정을 생성한 유저만 수정할 수 있습니다.");
+            }
+            throw new PreconditionFailedException("다른 사용자가 먼저 수정했습니다. 현재 버전: " + current.getVersion());
+        }
+
+        // GET /users/me/todos 정렬 키 (managers.todo_modified_at) 도 같은 값으로 맞춘다
+        managerRepository.updateTodoModifiedAt(todoId, modifiedAt);
+        resourceVersionCache.evict(ResourceVersionCache.todoKey(todoId));
+        todoResponseCache.evict(todoId);
+        eventPublisher.publishEvent(new TodoActivityEvent(
+                TodoActivityEvent.Type.TODO_UPDATED, todoId, todoId, authUser.getId()));
+
+        long newVersion = expectedVersion == null
+                ? todoRepository.findVersionInfoById(todoId).map(TodoVersionInfo::getVersion).orElseThrow()
+                : expectedVersion + 1;
+        return toResourceVersion(newVersion, modifiedAt);
+    }
+
+    /**
+     * 작성자만 삭제할 수 있다. 댓글/담당자를 벌크 DELETE 로 지우고 델타 동기화용 tombstone 을 남긴다.
+     */
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        if (todoOwnerCache.getOwnerId(todoId) != authUser.getId()) {
+            throw new InvalidRequestException("일정을 생성한 유저만 삭제할 수 있습니다.");
+        }
+
+        commentRepository.deleteAllByTodoId(todoId);
+        managerRepository.deleteAllByTodoId(todoId);
+        if (todoRepository.deleteByIdAndOwnerId(todoId, authUser.getId()) == 0) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        todoTombstoneRepository.save(new TodoTombstone(todoId, todoChangeJdbcRepository.nextSequence(), LocalDateTime.now()));
+
+        todoOwnerCache.evict(todoId);
+        todoResponseCache.evict(todoId);
+        resourceVersionCache.evict(ResourceVersionCache.todoKey(todoId));
+        resourceVersionCache.evict(ResourceVersionCache.commentsKey(todoId));
+        resourceVersionCache.evict(ResourceVersionCache.managersKey(todoId));
+        eventPublisher.publishEvent(new TodoActivityEvent(
+                TodoActivityEvent.Type.TODO_DELETED, todoId, todoId, authUser.getId()));
+    }
+
+    /**
+     * since 이후 생성/수정된 일정과 삭제된 일정 id. since 가 없으면 처음부터.
+     * 일정과 tombstone 을 각각 (changeSeq, id) 인덱스로 size + 1 개씩 읽어 순번 순으로 합친 뒤 size 개까지 내려준다.
+     */
+    @Transactional(readOnly = true)
+    public TodoChangesResponse getTodoChanges(String since, Integer size) {
+        int limit = resolveChangesSize(size);
+        SequenceCursor cursor = since == null ? SequenceCursor.START : SequenceCursor.decode(since);
+        Pageable pageable = PageRequest.of(0, limit + 1);
+
+        List<Todo> todos = todoRepository.findChangesAfter(cursor.getSequence(), cursor.getId(), pageable);
+        List<TodoTombstone> tombstones = todoTombstoneRepository.findChangesAfter(cursor.getSequence(), cursor.getId(), pageable);
+
+        List<TodoResponse> changed = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        SequenceCursor last = cursor;
+        int t = 0;
+        int d = 0;
+        while (changed.size() + deletedIds.size() < limit && (t < todos.size() || d < tombstones.size())) {
+            boolean takeTodo = d >= tombstones.size() || (t < todos.size() && compare(todos.get(t), tombstones.get(d)) < 0);
+            if (takeTodo) {
+                Todo todo = todos.get(t++);
+                changed.add(TodoResponse.from(todo));
+                last = new SequenceCursor(todo.getChangeSeq(), todo.getId());
+            } else {
+                TodoTombstone tombstone = tombstones.get(d++);
+                deletedIds.add(tombstone.getTodoId());
+                last = new SequenceCursor(tombstone.getChangeSeq(), tombstone.getTodoId());
+            }
+        }
+
+        boolean hasMore = t < todos.size() || d < tombstones.size();
+        return new TodoChangesResponse(changed, deletedIds, last.encode(), hasMore);
+    }
+
+    private int compare(Todo todo, TodoTombstone tombstone) {
+        int bySequence = Long.compare(todo.getChangeSeq(), tombstone.getChangeSeq());
+        return bySequence != 0 ? bySequence : Long.compare(todo.getId(), tombstone.getTodoId());
+    }
+
+    private int resolveChangesSize(Integer size) {
+        if (size == null) {
+            return defaultChangesSize;
+        }
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+        return Math.min(size, maxChangesSize);
+    }
+
+    private ResourceVersion toResourceVersion(long version, LocalDateTime modifiedAt) {
+        // If-Match 로 그대로 돌려받을 수 있도록 ETag 는 version 컬럼 값
+        return ResourceVersion.of(String.valueOf(version), modifiedAt);
+    }
+
     @Transactional(readOnly = true)
     public TodoResponse getTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
         User user = todo.getUser();
+        todoOwnerCache.put(todoId, user.getId());
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+        // 단건 조회는 ETag 와 본문이 어긋나지 않도록 캐시에서 읽지 않고 채우기만 한다
+        TodoResponse response = TodoResponse.from(todo);
+        todoResponseCache.put(response);
+        return response;
     }
 }
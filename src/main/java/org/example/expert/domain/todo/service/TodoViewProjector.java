@@ -0,0 +1,208 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.activity.event.TodoActivityEvent;
+import org.example.expert.domain.todo.repository.TodoViewJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * todo_view 갱신 파이프라인
+ * 커밋된 활동 이벤트의 todoId 를 모아 두었다가 flush-interval 마다 한 트랜잭션으로 다시 계산한다.
+ * 같은 일정에 쓰기가 몰려도 구간당 한 번만 갱신된다.
+ *
+ * 기능 도입 전 데이터나 비정상 종료로 잃은 dirty 는 이벤트로 다시 오지 않으므로, 기동 시 원본 테이블과 어긋나 있으면
+ * 재구성(catchUp)하고 그 전까지는 isReady() 가 false 라 목록을 원본 테이블에서 만든다.
+ */
+@Slf4j
+@Component
+public class TodoViewProjector {
+
+    private final TodoViewJdbcRepository todoViewJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final Duration flushInterval;
+    private final int chunkSize;
+
+    // todoId → 가장 최근 활동 시각
+    private final ConcurrentHashMap<Long, LocalDateTime> dirty = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+    private volatile boolean ready;
+    // synchronized 는 DB I/O 동안 가상 스레드를 carrier 에 고정시키므로 Lock 으로 막는다
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public TodoViewProjector(
+            TodoViewJdbcRepository todoViewJdbcRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.view.enabled:true}") boolean enabled,
+            @Value("${todo.view.flush-interval:200ms}") Duration flushInterval,
+            @Value("${todo.view.chunk-size:500}") int chunkSize
+    ) {
+        this.todoViewJdbcRepository = todoViewJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.flushInterval = flushInterval;
+        this.chunkSize = chunkSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "todo-view-projector");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            ready = todoViewJdbcRepository.isInSync();
+        } catch (RuntimeException e) {
+            log.warn("todo_view 상태 확인 실패: {}", e.getMessage());
+        }
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly,
+                flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            flushQuietly();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * todo_view 가 원본 테이블을 따라잡아 목록 조회에 써도 되는지
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(TodoActivityEvent event) {
+        if (enabled) {
+            dirty.merge(event.getTodoId(), event.getOccurredAt(), (a, b) -> a.isAfter(b) ? a : b);
+        }
+    }
+
+    /**
+     * 쌓인 일정을 다시 계산한다.
+     *
+     * @return 갱신한 일정 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            return flushDirty();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int flushDirty() {
+        Map<Long, LocalDateTime> batch = new HashMap<>();
+        for (Long todoId : dirty.keySet()) {
+            LocalDateTime activityAt = dirty.remove(todoId);
+            if (activityAt != null) {
+                batch.put(todoId, activityAt);
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> todoIds = new ArrayList<>(batch.keySet());
+        try {
+            for (int from = 0; from < todoIds.size(); from += chunkSize) {
+                List<Long> chunk = todoIds.subList(from, Math.min(from + chunkSize, todoIds.size()));
+                Map<Long, LocalDateTime> activityTimes = new HashMap<>();
+                chunk.forEach(todoId -> activityTimes.put(todoId, batch.get(todoId)));
+
+                transactionTemplate.executeWithoutResult(status -> {
+                    todoViewJdbcRepository.refresh(chunk);
+                    todoViewJdbcRepository.touchLastActivity(activityTimes);
+                });
+            }
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도한다
+            batch.forEach((todoId, activityAt) -> dirty.merge(todoId, activityAt, (a, b) -> a.isAfter(b) ? a : b));
+            throw e;
+        }
+        return todoIds.size();
+    }
+
+    /**
+     * 원본 테이블에서 todo_view 전체를 다시 만든다. 진행 중에 들어온 이벤트는 이후 flush 에서 반영된다.
+     *
+     * @return 재구성한 일정 수
+     */
+    public int rebuild() {
+        long maxId = todoViewJdbcRepository.findMaxTodoId();
+        int rebuilt = 0;
+        for (long from = 1; from <= maxId; from += chunkSize) {
+            long fromId = from;
+            long toId = Math.min(from + chunkSize - 1, maxId);
+            Integer inserted = transactionTemplate.execute(status -> todoViewJdbcRepository.refreshRange(fromId, toId));
+            rebuilt += inserted == null ? 0 : inserted;
+        }
+        log.info("todo_view 재구성 완료: {} 건", rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * todo_view 가 원본 테이블과 어긋나 있으면(행 수, 댓글/담당자 합계, 마지막 수정 시각) 전체를 다시 만든다.
+     *
+     * @return 재구성했는지
+     */
+    public boolean catchUp() {
+        boolean rebuilt = false;
+        if (!todoViewJdbcRepository.isInSync()) {
+            rebuild();
+            rebuilt = true;
+        }
+        ready = true;
+        return rebuilt;
+    }
+
+    private void refreshQuietly() {
+        try {
+            if (!ready) {
+                catchUp();
+            }
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("todo_view 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("todo_view 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.expert.domain.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.expert.domain.common.cache.CacheEvictions;
+import org.example.expert.domain.common.cache.ReplicaFillGuard;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * 유저 응답(id, email) 캐시
+ * email 은 바뀌지 않으므로 크기로만 제한하고, 가입/권한 변경 시 해당 id 를 비운다.
+ * 없는 id 는 negative-ttl 동안 따로 기억해서 존재하지 않는 id 를 반복 조회해도 DB 까지 가지 않는다.
+ * 가입/권한 변경 직후 복제 지연 한도 동안은 복제본에서 읽은 결과(없음 포함)를 넣지 않는다. 방금 가입한 유저가 negative 로 남을 수 있다.
+ */
+@Component
+public class UserResponseCache {
+
+    private static final String METRIC_NAME = "cache.user-response.lookup";
+
+    private final Cache<Long, UserResponse> cache;
+    private final Cache<Long, Boolean> missingIds;
+    private final ReplicaFillGuard<Long> fillGuard;
+
+    private final Timer hitTimer;
+    private final Timer negativeHitTimer;
+    private final Timer missTimer;
+
+    public UserResponseCache(
+            @Value("${cache.user-response.max-size:100000}") long maxSize,
+            @Value("${cache.user-response.negative-max-size:10000}") long negativeMaxSize,
+            @Value("${cache.user-response.negative-ttl:30s}") Duration negativeTtl,
+            @Value("${db.replica.read-your-writes-window:5s}") Duration replicaLag,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.missingIds = Caffeine.newBuilder()
+                .maximumSize(negativeMaxSize)
+                .expireAfterWrite(negativeTtl)
+                .recordStats()
+                .build();
+        this.fillGuard = new ReplicaFillGuard<>(replicaLag);
+
+        // cache.gets{result=hit|miss}, cache.size, cache.evictions ...
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userResponse");
+        CaffeineCacheMetrics.monitor(meterRegistry, missingIds, "userResponseMissing");
+
+        this.hitTimer = Timer.builder(METRIC_NAME).tag("result", "hit").register(meterRegistry);
+        this.negativeHitTimer = Timer.builder(METRIC_NAME).tag("result", "negative-hit").register(meterRegistry);
+        this.missTimer = Timer.builder(METRIC_NAME).tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 조회해서 채운다. 조회 결과가 없으면 negative 캐시에 기록한다.
+     */
+    public Optional<UserResponse> get(long userId, LongFunction<Optional<UserResponse>> loader) {
+        long start = System.nanoTime();
+
+        UserResponse cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            hitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(cached);
+        }
+        if (missingIds.getIfPresent(userId) != null) {
+            negativeHitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.empty();
+        }
+
+        Optional<UserResponse> loaded = loader.apply(userId);
+        loaded.ifPresentOrElse(this::put, () -> putMissing(userId));
+        missTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return loaded;
+    }
+
+    public Map<Long, UserResponse> getAllPresent(Iterable<Long> userIds) {
+        return cache.getAllPresent(userIds);
+    }
+
+    public boolean isKnownMissing(long userId) {
+        return missingIds.getIfPresent(userId) != null;
+    }
+
+    public void put(UserResponse userResponse) {
+        if (!fillGuard.canFill(userResponse.getId())) {
+            return;
+        }
+        cache.put(userResponse.getId(), userResponse);
+    }
+
+    public void putMissing(long userId) {
+        if (!fillGuard.canFill(userId)) {
+            return;
+        }
+        missingIds.put(userId, Boolean.TRUE);
+    }
+
+    public void evict(long userId) {
+        CacheEvictions.evictNowAndAfterCommit(() -> invalidate(userId));
+    }
+
+    private void invalidate(long userId) {
+        cache.invalidate(userId);
+        missingIds.invalidate(userId);
+        fillGuard.written(userId);
+    }
+}
@@ -1,21 +1,59 @@
 package org.example.expert.domain.user.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.BulkOperationResponse;
+import org.example.expert.domain.user.dto.request.UserRoleBulkChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.service.UserAdminService;
-import org.springframework.web.bind.annotation.PatchMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RestController;
+import org.example.expert.domain.user.service.UserProvisioningService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
 
 @RestController
 @RequiredArgsConstructor
 public class UserAdminController {
 
+    private static final String TEXT_CSV = "text/csv";
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     private final UserAdminService userAdminService;
+    private final UserProvisioningService userProvisioningService;
 
     @PatchMapping("/admin/users/{userId}")
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    @PatchMapping("/admin/users/roles")
+    public ResponseEntity<BulkOperationResponse> changeUserRoles(
+            @Valid @RequestBody UserRoleBulkChangeRequest userRoleBulkChangeRequest,
+            @Auth AuthUser authUser
+    ) {
+        return ResponseEntity.ok(userAdminService.changeUserRoles(authUser.getId(), userRoleBulkChangeRequest));
+    }
+
+    /**
+     * CSV(email,password,userRole) 또는 NDJSON 으로 여러 유저를 가입시킨다. 행별 결과를 NDJSON 으로 흘려보낸다.
+     */
+    @PostMapping(value = "/admin/users/provision", consumes = {TEXT_CSV, APPLICATION_NDJSON}, produces = APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> provisionUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body,
+            @Auth AuthUser authUser
+    ) {
+        UserProvisioningService.Format format = contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))
+                ? UserProvisioningService.Format.CSV
+                : UserProvisioningService.Format.NDJSON;
+        long adminId = authUser.getId();
+        StreamingResponseBody stream = output -> userProvisioningService.provision(adminId, format, body, output);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON)).body(stream);
+    }
 }
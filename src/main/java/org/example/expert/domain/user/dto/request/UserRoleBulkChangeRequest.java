@@ -0,0 +1,21 @@
+package org.example.expert.domain.user.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRoleBulkChangeRequest {
+
+    @NotEmpty
+    private List<@NotNull Long> userIds;
+    @NotBlank
+    private String role;
+}
@@ -0,0 +1,25 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserProvisionStatus;
+
+/**
+ * 일괄 가입 결과 한 줄 (NDJSON 으로 한 행씩 내려간다)
+ */
+@Getter
+public class UserProvisionResult {
+
+    private final int line;       // 입력 데이터 행 번호 (1부터, CSV 헤더 제외)
+    private final String email;
+    private final UserProvisionStatus status;
+    private final Long userId;
+    private final String message;
+
+    public UserProvisionResult(int line, String email, UserProvisionStatus status, Long userId, String message) {
+        this.line = line;
+        this.email = email;
+        this.status = status;
+        this.userId = userId;
+        this.message = message;
+    }
+}
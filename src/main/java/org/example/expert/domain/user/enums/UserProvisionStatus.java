@@ -0,0 +1,8 @@
+package org.example.expert.domain.user.enums;
+
+public enum UserProvisionStatus {
+    CREATED,        // 가입 완료
+    INVALID,        // 형식 오류 (이메일/비밀번호/권한)
+    DUPLICATED,     // 같은 요청 안에서 이미 나온 이메일
+    ALREADY_EXISTS  // 이미 가입된 이메일
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원가입 커밋 후 검색 인덱스 등에 새 유저를 반영하기 위한 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserSignedUpEvent {
+
+    private final long userId;
+    private final String email;
+}
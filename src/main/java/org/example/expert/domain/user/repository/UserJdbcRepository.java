@@ -0,0 +1,65 @@
+package org.example.expert.domain.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 엔티티를 만들지 않고 users 를 훑거나 일괄 INSERT 하는 경로 (검색 인덱스 적재, 일괄 가입)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO users (email, password, user_role, created_at, modified_at) " +
+            "VALUES (:email, :password, :userRole, :createdAt, :modifiedAt)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public interface EmailConsumer {
+        void accept(long userId, String email);
+    }
+
+    /**
+     * id, email 만 한 행씩 넘긴다. 결과를 List 로 모으지 않는다.
+     */
+    public void forEachEmail(EmailConsumer consumer) {
+        RowCallbackHandler handler = resultSet -> consumer.accept(resultSet.getLong(1), resultSet.getString(2));
+        jdbcTemplate.getJdbcTemplate().query("SELECT id, email FROM users", handler);
+    }
+
+    /**
+     * @return 입력 순서와 같은 순서의 생성된 id 목록
+     */
+    public List<Long> insertAll(List<UserInsert> users) {
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] params = users.stream()
+                .map(user -> new MapSqlParameterSource()
+                        .addValue("email", user.email())
+                        .addValue("password", user.encodedPassword())
+                        .addValue("userRole", user.userRole().name())
+                        .addValue("createdAt", now)
+                        .addValue("modifiedAt", now))
+                .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SQL, params, keyHolder, new String[]{"id"});
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    public record UserInsert(String email, String encodedPassword, UserRole userRole) {
+    }
+}
@@ -1,11 +1,46 @@
 package org.example.expert.domain.user.repository;
 
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email) " +
+            "FROM User u WHERE u.id = :userId")
+    Optional<UserResponse> findResponseById(@Param("userId") long userId);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email) " +
+            "FROM User u WHERE u.id IN :userIds")
+    List<UserResponse> findResponsesByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // pattern 은 호출하는 쪽에서 %, _ 를 escape 해서 넘긴다
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email) " +
+            "FROM User u WHERE u.email LIKE :pattern ESCAPE '!' ORDER BY u.email")
+    List<UserResponse> findResponsesByEmailLike(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findEmailsByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :userIds")
+    List<Long> findIdsByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 벌크 UPDATE 는 auditing 을 거치지 않으므로 modifiedAt 을 직접 넣는다
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.userRole = :userRole, u.modifiedAt = :modifiedAt WHERE u.id IN :userIds")
+    int updateRoleByIdIn(@Param("userIds") Collection<Long> userIds,
+                         @Param("userRole") UserRole userRole,
+                         @Param("modifiedAt") LocalDateTime modifiedAt);
 }
@@ -0,0 +1,107 @@
+package org.example.expert.domain.user.search;
+
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이메일 prefix 검색 인덱스
+ * 대부분의 이메일은 불변 정렬 배열(base)에 두고, 이후 가입분은 pending 에 쌓았다가 merge-threshold 마다 base 와 병합한다.
+ * 검색은 두 정렬 순서를 합치면서 앞에서부터 limit 개를 고르며 락을 잡지 않는다.
+ */
+public class EmailPrefixIndex {
+
+    private final int mergeThreshold;
+    private final ReentrantLock mergeLock = new ReentrantLock();
+
+    private volatile SortedEmails base = SortedEmails.EMPTY;
+    // 접힌 이메일 → 항목
+    private final ConcurrentSkipListMap<String, SortedEmails.Entry> pending = new ConcurrentSkipListMap<>();
+
+    public EmailPrefixIndex(int mergeThreshold) {
+        this.mergeThreshold = mergeThreshold;
+    }
+
+    /**
+     * 전체 적재 결과로 base 를 교체한다. 적재 중에 들어온 가입분은 pending 에 남아 있다가 다음 병합 때 합쳐진다.
+     */
+    void replaceBase(SortedEmails loaded) {
+        mergeLock.lock();
+        try {
+            base = loaded;
+        } finally {
+            mergeLock.unlock();
+        }
+    }
+
+    public void add(long userId, String email) {
+        pending.put(SortedEmails.fold(email), new SortedEmails.Entry(userId, email));
+        if (pending.size() >= mergeThreshold && mergeLock.tryLock()) {
+            try {
+                mergePending();
+            } finally {
+                mergeLock.unlock();
+            }
+        }
+    }
+
+    public List<UserResponse> search(String prefix, int limit) {
+        String foldedPrefix = SortedEmails.fold(prefix);
+        byte[] prefixBytes = foldedPrefix.getBytes(StandardCharsets.UTF_8);
+        SortedEmails snapshot = base;
+
+        List<UserResponse> result = new ArrayList<>(Math.min(limit, 64));
+        int index = snapshot.lowerBound(prefixBytes);
+        Iterator<Map.Entry<String, SortedEmails.Entry>> pendingIterator = pending.tailMap(foldedPrefix).entrySet().iterator();
+        Map.Entry<String, SortedEmails.Entry> next = nextMatching(pendingIterator, foldedPrefix);
+        byte[] nextKey = next == null ? null : next.getKey().getBytes(StandardCharsets.UTF_8);
+
+        while (result.size() < limit) {
+            boolean baseMatches = index < snapshot.size() && snapshot.startsWith(index, prefixBytes);
+            if (!baseMatches && next == null) {
+                break;
+            }
+            int order = !baseMatches ? 1 : next == null ? -1 : snapshot.compareTo(index, nextKey);
+            if (order <= 0) {
+                result.add(new UserResponse(snapshot.id(index), snapshot.email(index)));
+                index++;
+            }
+            // 병합 도중에 읽으면 같은 이메일이 양쪽에 있을 수 있다
+            if (order >= 0) {
+                if (order > 0) {
+                    result.add(new UserResponse(next.getValue().id(), next.getValue().email()));
+                }
+                next = nextMatching(pendingIterator, foldedPrefix);
+                nextKey = next == null ? null : next.getKey().getBytes(StandardCharsets.UTF_8);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return base.size() + pending.size();
+    }
+
+    private void mergePending() {
+        List<Map.Entry<String, SortedEmails.Entry>> additions = new ArrayList<>(pending.entrySet());
+        base = base.merge(additions);
+        for (Map.Entry<String, SortedEmails.Entry> addition : additions) {
+            pending.remove(addition.getKey(), addition.getValue());
+        }
+    }
+
+    private static Map.Entry<String, SortedEmails.Entry> nextMatching(
+            Iterator<Map.Entry<String, SortedEmails.Entry>> iterator, String foldedPrefix) {
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        Map.Entry<String, SortedEmails.Entry> entry = iterator.next();
+        return entry.getKey().startsWith(foldedPrefix) ? entry : null;
+    }
+}
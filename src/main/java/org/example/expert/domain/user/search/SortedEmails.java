@@ -0,0 +1,240 @@
+package org.example.expert.domain.user.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이메일 정렬 배열 (불변)
+ * 이메일마다 String 객체를 두지 않고 UTF-8 바이트를 한 배열에 이어 붙여 offset 으로 나눈다.
+ * 정렬 기준은 ASCII 대소문자를 무시한 바이트 순서다.
+ */
+final class SortedEmails {
+
+    static final SortedEmails EMPTY = new SortedEmails(new byte[0], new int[]{0}, new long[0]);
+
+    private final byte[] data;
+    private final int[] offsets; // i 번째 이메일은 data[offsets[i], offsets[i + 1])
+    private final long[] ids;
+
+    private SortedEmails(byte[] data, int[] offsets, long[] ids) {
+        this.data = data;
+        this.offsets = offsets;
+        this.ids = ids;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    long id(int index) {
+        return ids[index];
+    }
+
+    String email(int index) {
+        return new String(data, offsets[index], offsets[index + 1] - offsets[index], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * foldedKey 보다 작지 않은 첫 번째 위치
+     */
+    int lowerBound(byte[] foldedKey) {
+        int low = 0;
+        int high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareTo(mid, foldedKey) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    boolean startsWith(int index, byte[] foldedPrefix) {
+        int from = offsets[index];
+        if (offsets[index + 1] - from < foldedPrefix.length) {
+            return false;
+        }
+        for (int i = 0; i < foldedPrefix.length; i++) {
+            if (fold(data[from + i]) != (foldedPrefix[i] & 0xff)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int compareTo(int index, byte[] foldedKey) {
+        int from = offsets[index];
+        int length = offsets[index + 1] - from;
+        int common = Math.min(length, foldedKey.length);
+        for (int i = 0; i < common; i++) {
+            int diff = fold(data[from + i]) - (foldedKey[i] & 0xff);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length - foldedKey.length;
+    }
+
+    /**
+     * 정렬된 추가분(접힌 이메일 → 항목)과 선형 병합한 새 배열. 같은 키는 기존 항목을 유지한다.
+     */
+    SortedEmails merge(List<Map.Entry<String, Entry>> additions) {
+        Builder builder = new Builder(ids.length + additions.size(), data.length + additions.size() * 32);
+        int i = 0;
+        for (Map.Entry<String, Entry> addition : additions) {
+            byte[] key = addition.getKey().getBytes(StandardCharsets.UTF_8);
+            while (i < ids.length && compareTo(i, key) < 0) {
+                builder.append(ids[i], data, offsets[i], offsets[i + 1] - offsets[i]);
+                i++;
+            }
+            if (i < ids.length && compareTo(i, key) == 0) {
+                continue;
+            }
+            byte[] email = addition.getValue().email().getBytes(StandardCharsets.UTF_8);
+            builder.append(addition.getValue().id(), email, 0, email.length);
+        }
+        for (; i < ids.length; i++) {
+            builder.append(ids[i], data, offsets[i], offsets[i + 1] - offsets[i]);
+        }
+        return builder.packInOrder();
+    }
+
+    static int fold(byte b) {
+        return b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b & 0xff;
+    }
+
+    /**
+     * ASCII 대문자만 소문자로 바꾼다. 바이트 비교(fold)와 같은 기준이어야 한다.
+     */
+    static String fold(String value) {
+        StringBuilder folded = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                if (folded == null) {
+                    folded = new StringBuilder(value);
+                }
+                folded.setCharAt(i, (char) (c + ('a' - 'A')));
+            }
+        }
+        return folded == null ? value : folded.toString();
+    }
+
+    record Entry(long id, String email) {
+    }
+
+    /**
+     * 순서 없이 append 한 뒤 build() 에서 한 번 정렬한다.
+     */
+    static final class Builder {
+
+        private byte[] data;
+        private int[] offsets;
+        private long[] ids;
+        private int size;
+        private int dataLength;
+
+        Builder(int expectedSize, int expectedBytes) {
+            this.data = new byte[Math.max(expectedBytes, 16)];
+            this.offsets = new int[Math.max(expectedSize, 4) + 1];
+            this.ids = new long[Math.max(expectedSize, 4)];
+        }
+
+        Builder() {
+            this(1024, 32 * 1024);
+        }
+
+        Builder add(long id, String email) {
+            byte[] bytes = email.getBytes(StandardCharsets.UTF_8);
+            return append(id, bytes, 0, bytes.length);
+        }
+
+        private Builder append(long id, byte[] source, int from, int length) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2 + 1);
+            }
+            if (dataLength + length > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + length));
+            }
+            System.arraycopy(source, from, data, dataLength, length);
+            ids[size] = id;
+            offsets[size] = dataLength;
+            dataLength += length;
+            offsets[++size] = dataLength;
+            return this;
+        }
+
+        SortedEmails build() {
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            sort(order, new int[size], 0, size);
+
+            byte[] sortedData = new byte[dataLength];
+            int[] sortedOffsets = new int[size + 1];
+            long[] sortedIds = new long[size];
+            int position = 0;
+            for (int i = 0; i < size; i++) {
+                int from = offsets[order[i]];
+                int length = offsets[order[i] + 1] - from;
+                System.arraycopy(data, from, sortedData, position, length);
+                sortedOffsets[i] = position;
+                sortedIds[i] = ids[order[i]];
+                position += length;
+            }
+            sortedOffsets[size] = position;
+            return new SortedEmails(sortedData, sortedOffsets, sortedIds);
+        }
+
+        /**
+         * 이미 정렬된 순서로 append 된 경우 (merge)
+         */
+        private SortedEmails packInOrder() {
+            return new SortedEmails(Arrays.copyOf(data, dataLength), Arrays.copyOf(offsets, size + 1), Arrays.copyOf(ids, size));
+        }
+
+        // 박싱 없이 index 배열을 병합 정렬한다
+        private void sort(int[] order, int[] buffer, int from, int to) {
+            if (to - from < 2) {
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            sort(order, buffer, from, mid);
+            sort(order, buffer, mid, to);
+            if (compare(order[mid - 1], order[mid]) <= 0) {
+                return;
+            }
+            System.arraycopy(order, from, buffer, from, to - from);
+            int left = from;
+            int right = mid;
+            for (int i = from; i < to; i++) {
+                if (right >= to || (left < mid && compare(buffer[left], buffer[right]) <= 0)) {
+                    order[i] = buffer[left++];
+                } else {
+                    order[i] = buffer[right++];
+                }
+            }
+        }
+
+        private int compare(int a, int b) {
+            int fromA = offsets[a];
+            int lengthA = offsets[a + 1] - fromA;
+            int fromB = offsets[b];
+            int lengthB = offsets[b + 1] - fromB;
+            int common = Math.min(lengthA, lengthB);
+            for (int i = 0; i < common; i++) {
+                int diff = fold(data[fromA + i]) - fold(data[fromB + i]);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return lengthA - lengthB;
+        }
+    }
+}
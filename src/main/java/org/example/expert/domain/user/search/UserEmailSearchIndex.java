@@ -0,0 +1,84 @@
+package org.example.expert.domain.user.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.event.UserSignedUpEvent;
+import org.example.expert.domain.user.repository.UserJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * GET /users/search 용 이메일 인덱스
+ * 기동 후 백그라운드에서 users 전체를 적재하고, 이후 가입은 커밋 이벤트로 반영한다.
+ * 적재가 끝나기 전에는 isReady() 가 false 이고 호출하는 쪽이 DB 로 조회한다.
+ */
+@Slf4j
+@Component
+public class UserEmailSearchIndex {
+
+    private final UserJdbcRepository userJdbcRepository;
+    private final boolean enabled;
+    private final EmailPrefixIndex index;
+
+    private volatile boolean ready;
+
+    public UserEmailSearchIndex(
+            UserJdbcRepository userJdbcRepository,
+            @Value("${user.search.index.enabled:true}") boolean enabled,
+            @Value("${user.search.index.merge-threshold:4096}") int mergeThreshold
+    ) {
+        this.userJdbcRepository = userJdbcRepository;
+        this.enabled = enabled;
+        this.index = new EmailPrefixIndex(mergeThreshold);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        Thread loader = new Thread(this::loadQuietly, "user-email-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * 적재 전에 들어온 가입도 pending 에 쌓아 두므로 적재 결과와 합쳐진다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSignedUp(UserSignedUpEvent event) {
+        if (enabled) {
+            index.add(event.getUserId(), event.getEmail());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<UserResponse> search(String prefix, int limit) {
+        return index.search(prefix, limit);
+    }
+
+    void rebuild() {
+        long begin = System.nanoTime();
+        SortedEmails.Builder builder = new SortedEmails.Builder();
+        userJdbcRepository.forEachEmail(builder::add);
+        index.replaceBase(builder.build());
+        ready = true;
+        log.info("이메일 검색 인덱스 적재 완료: users={}, elapsed={}ms", index.size(), (System.nanoTime() - begin) / 1_000_000);
+    }
+
+    private void loadQuietly() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("이메일 검색 인덱스 적재 실패, 검색은 DB 로 처리합니다.", e);
+        }
+    }
+}
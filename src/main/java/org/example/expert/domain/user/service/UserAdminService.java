@@ -1,23 +1,82 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.entity.AdminAuditLog;
+import org.example.expert.domain.audit.enums.AdminAuditAction;
+import org.example.expert.domain.audit.repository.AdminAuditLogRepository;
+import org.example.expert.domain.common.dto.BulkOperationResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.util.BulkIds;
+import org.example.expert.domain.user.cache.UserResponseCache;
+import org.example.expert.domain.user.dto.request.UserRoleBulkChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final UserResponseCache userResponseCache;
+    private final AdminAuditLogRepository adminAuditLogRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${admin.bulk.max-ids:10000}")
+    private int bulkMaxIds;
+    @Value("${admin.bulk.chunk-size:500}")
+    private int bulkChunkSize;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        userResponseCache.evict(userId);
+    }
+
+    /**
+     * id 목록 권한 일괄 변경. chunk 마다 UPDATE 한 번 (모두 반영되지 않은 chunk 만 없는 id 를 조회한다)
+     */
+    public BulkOperationResponse changeUserRoles(long adminId, UserRoleBulkChangeRequest request) {
+        UserRole userRole = UserRole.of(request.getRole());
+        List<Long> ids = BulkIds.distinct(request.getUserIds(), bulkMaxIds);
+
+        long updated = 0;
+        int batches = 0;
+        List<Long> missingIds = new ArrayList<>();
+        for (List<Long> chunk : BulkIds.chunk(ids, bulkChunkSize)) {
+            List<Long> changedIds = transactionTemplate.execute(status -> changeChunk(adminId, userRole, chunk));
+            updated += changedIds.size();
+            batches += changedIds.isEmpty() ? 0 : 1;
+            if (changedIds.size() < chunk.size()) {
+                Set<Long> changed = new HashSet<>(changedIds);
+                chunk.stream().filter(id -> !changed.contains(id)).forEach(missingIds::add);
+            }
+        }
+        return new BulkOperationResponse(updated, batches, missingIds);
+    }
+
+    private List<Long> changeChunk(long adminId, UserRole userRole, List<Long> chunk) {
+        int updated = userRepository.updateRoleByIdIn(chunk, userRole, LocalDateTime.now());
+        if (updated == 0) {
+            return List.of();
+        }
+        List<Long> changedIds = updated == chunk.size() ? chunk : userRepository.findIdsByIdIn(chunk);
+
+        adminAuditLogRepository.save(new AdminAuditLog(adminId, AdminAuditAction.USER_BULK_ROLE_CHANGE,
+                "role=" + userRole.name(), changedIds.size(), changedIds));
+        changedIds.forEach(userResponseCache::evict);
+        return changedIds;
     }
 }
@@ -0,0 +1,299 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.RecentWriters;
+import org.example.expert.domain.audit.entity.AdminAuditLog;
+import org.example.expert.domain.audit.enums.AdminAuditAction;
+import org.example.expert.domain.audit.repository.AdminAuditLogRepository;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.user.cache.UserResponseCache;
+import org.example.expert.domain.user.dto.response.UserProvisionResult;
+import org.example.expert.domain.user.enums.UserProvisionStatus;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.event.UserSignedUpEvent;
+import org.example.expert.domain.user.repository.UserJdbcRepository;
+import org.example.expert.domain.user.repository.UserJdbcRepository.UserInsert;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 어드민 일괄 가입 (CSV / NDJSON)
+ * 입력을 chunk 단위로 읽어서 이메일 중복을 IN 쿼리 한 번으로 확인하고, bcrypt 는 전용 ForkJoinPool 에서 병렬로 계산한 뒤
+ * batch INSERT 한다. 결과는 chunk 가 끝날 때마다 한 행씩 NDJSON 으로 흘려보낸다.
+ */
+@Slf4j
+@Service
+public class UserProvisioningService {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    // bcrypt 입력 한도. 넘으면 encode 가 예외를 던져 chunk 전체가 실패하므로 미리 INVALID 로 거른다
+    private static final int MAX_PASSWORD_BYTES = 71;
+
+    private final UserRepository userRepository;
+    private final UserJdbcRepository userJdbcRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UserResponseCache userResponseCache;
+    private final AdminAuditLogRepository adminAuditLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecentWriters recentWriters;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+    // bcrypt 는 CPU 만 쓰므로 공용 풀(commonPool)과 분리해서 다른 병렬 작업을 굶기지 않는다
+    private final ForkJoinPool hashPool;
+
+    public UserProvisioningService(
+            UserRepository userRepository,
+            UserJdbcRepository userJdbcRepository,
+            PasswordEncoder passwordEncoder,
+            UserResponseCache userResponseCache,
+            AdminAuditLogRepository adminAuditLogRepository,
+            ApplicationEventPublisher eventPublisher,
+            RecentWriters recentWriters,
+            Validator validator,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${admin.provision.chunk-size:500}") int chunkSize,
+            @Value("${admin.provision.hash-parallelism:0}") int hashParallelism
+    ) {
+        this.userRepository = userRepository;
+        this.userJdbcRepository = userJdbcRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userResponseCache = userResponseCache;
+        this.adminAuditLogRepository = adminAuditLogRepository;
+        this.eventPublisher = eventPublisher;
+        this.recentWriters = recentWriters;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.hashPool = new ForkJoinPool(hashParallelism > 0 ? hashParallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void stop() {
+        hashPool.shutdown();
+    }
+
+    public void provision(long adminId, Format format, InputStream input, OutputStream output) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Set<String> seenEmails = new HashSet<>();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        int lineNumber = 0;
+        boolean first = true;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (first && format == Format.CSV && line.toLowerCase(Locale.ROOT).startsWith("email,")) {
+                first = false;
+                continue; // 헤더
+            }
+            first = false;
+            chunk.add(parse(++lineNumber, line, format));
+            if (chunk.size() == chunkSize) {
+                write(output, provisionChunk(adminId, chunk, seenEmails));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            write(output, provisionChunk(adminId, chunk, seenEmails));
+        }
+    }
+
+    List<UserProvisionResult> provisionChunk(long adminId, List<Row> rows, Set<String> seenEmails) {
+        UserProvisionResult[] results = new UserProvisionResult[rows.size()];
+
+        // 1. 형식 검사 + 요청 안 중복
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            if (row.error != null) {
+                results[i] = row.result(UserProvisionStatus.INVALID, null, row.error);
+            } else if (!seenEmails.add(row.normalizedEmail())) {
+                results[i] = row.result(UserProvisionStatus.DUPLICATED, null, null);
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        // 2. 이미 가입된 이메일 (IN 쿼리 한 번)
+        if (!candidates.isEmpty()) {
+            Set<String> existing = new HashSet<>();
+            userRepository.findEmailsByEmailIn(candidates.stream().map(i -> rows.get(i).email).toList())
+                    .forEach(email -> existing.add(email.toLowerCase(Locale.ROOT)));
+            candidates.removeIf(i -> {
+                if (existing.contains(rows.get(i).normalizedEmail())) {
+                    results[i] = rows.get(i).result(UserProvisionStatus.ALREADY_EXISTS, null, null);
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        // 3. bcrypt 병렬 계산 → batch INSERT
+        if (!candidates.isEmpty()) {
+            List<UserInsert> inserts = hashAll(candidates.stream().map(rows::get).toList());
+            insert(adminId, candidates, inserts, rows, results);
+        }
+        return List.of(results);
+    }
+
+    private List<UserInsert> hashAll(List<Row> rows) {
+        try {
+            return hashPool.submit(() -> rows.parallelStream()
+                    .map(row -> new UserInsert(row.email, passwordEncoder.encode(row.password), row.userRole))
+                    .toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("비밀번호 암호화가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new ServerException("비밀번호 암호화에 실패했습니다.");
+        }
+    }
+
+    private void insert(long adminId, List<Integer> candidates, List<UserInsert> inserts,
+                        List<Row> rows, UserProvisionResult[] results) {
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> insertAndAudit(adminId, inserts));
+            for (int i = 0; i < candidates.size(); i++) {
+                int index = candidates.get(i);
+                results[index] = rows.get(index).result(UserProvisionStatus.CREATED, ids.get(i), null);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인 이후 같은 이메일이 가입된 경우. 한 건씩 다시 저장한다
+            log.warn("일괄 가입 배치 저장 실패, 개별 저장으로 재시도: size={}, error={}", inserts.size(), e.getMessage());
+            for (int i = 0; i < candidates.size(); i++) {
+                int index = candidates.get(i);
+                UserInsert single = inserts.get(i);
+                try {
+                    Long id = transactionTemplate.execute(status -> insertAndAudit(adminId, List.of(single)).get(0));
+                    results[index] = rows.get(index).result(UserProvisionStatus.CREATED, id, null);
+                } catch (DataIntegrityViolationException duplicate) {
+                    results[index] = rows.get(index).result(UserProvisionStatus.ALREADY_EXISTS, null, null);
+                }
+            }
+        }
+    }
+
+    private List<Long> insertAndAudit(long adminId, List<UserInsert> inserts) {
+        List<Long> ids = userJdbcRepository.insertAll(inserts);
+        adminAuditLogRepository.save(new AdminAuditLog(adminId, AdminAuditAction.USER_BULK_PROVISION, null, ids.size(), ids));
+        // StreamingResponseBody 의 비동기 스레드에서 커밋되므로 라우팅이 관리자를 모른다. 창을 직접 연다
+        recentWriters.markWritten(adminId);
+        for (int i = 0; i < ids.size(); i++) {
+            userResponseCache.evict(ids.get(i));
+            eventPublisher.publishEvent(new UserSignedUpEvent(ids.get(i), inserts.get(i).email()));
+        }
+        return ids;
+    }
+
+    private Row parse(int lineNumber, String line, Format format) {
+        SignupRequest request;
+        try {
+            request = format == Format.NDJSON ? objectMapper.readValue(line, SignupRequest.class) : parseCsv(line);
+        } catch (Exception e) {
+            return Row.invalid(lineNumber, "형식이 올바르지 않습니다.");
+        }
+
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<SignupRequest> violation = violations.iterator().next();
+            return Row.invalid(lineNumber, request.getEmail(), violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        if (request.getPassword().getBytes(StandardCharsets.UTF_8).length > MAX_PASSWORD_BYTES) {
+            return Row.invalid(lineNumber, request.getEmail(), "password: " + MAX_PASSWORD_BYTES + "바이트를 넘을 수 없습니다.");
+        }
+        try {
+            return new Row(lineNumber, request.getEmail(), request.getPassword(), UserRole.of(request.getUserRole()), null);
+        } catch (InvalidRequestException e) {
+            return Row.invalid(lineNumber, request.getEmail(), e.getMessage());
+        }
+    }
+
+    /**
+     * email,password,userRole. 이메일과 권한에는 쉼표가 없으므로 첫/마지막 쉼표로 나누고, 비밀번호에는 쉼표가 있어도 된다.
+     */
+    private SignupRequest parseCsv(String line) {
+        int first = line.indexOf(',');
+        int last = line.lastIndexOf(',');
+        if (first < 0 || first == last) {
+            throw new IllegalArgumentException("columns");
+        }
+        return new SignupRequest(line.substring(0, first).trim(), line.substring(first + 1, last), line.substring(last + 1).trim());
+    }
+
+    private void write(OutputStream output, List<UserProvisionResult> results) throws IOException {
+        for (UserProvisionResult result : results) {
+            output.write(objectMapper.writeValueAsBytes(result));
+            output.write('\n');
+        }
+        output.flush();
+    }
+
+    static final class Row {
+
+        private final int line;
+        private final String email;
+        private final String password;
+        private final UserRole userRole;
+        private final String error;
+
+        private Row(int line, String email, String password, UserRole userRole, String error) {
+            this.line = line;
+            this.email = email;
+            this.password = password;
+            this.userRole = userRole;
+            this.error = error;
+        }
+
+        static Row invalid(int line, String message) {
+            return invalid(line, null, message);
+        }
+
+        static Row invalid(int line, String email, String message) {
+            return new Row(line, email, null, null, message);
+        }
+
+        String normalizedEmail() {
+            return email.toLowerCase(Locale.ROOT);
+        }
+
+        UserProvisionResult result(UserProvisionStatus status, Long userId, String message) {
+            return new UserProvisionResult(line, email, status, userId, message);
+        }
+    }
+}
@@ -2,25 +2,90 @@ package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.dto.BulkResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.util.BulkIds;
+import org.example.expert.domain.user.cache.UserResponseCache;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.search.UserEmailSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserResponseCache userResponseCache;
+    private final UserEmailSearchIndex userEmailSearchIndex;
+
+    @Value("${bulk.max-ids:1000}")
+    private int bulkMaxIds;
+    @Value("${bulk.chunk-size:500}")
+    private int bulkChunkSize;
+    @Value("${user.search.default-limit:10}")
+    private int searchDefaultLimit;
+    @Value("${user.search.max-limit:50}")
+    private int searchMaxLimit;
 
+    /**
+     * 캐시를 먼저 보고, 없으면 id, email 만 조회한다. 없는 id 도 캐시되므로 반복 조회가 DB 까지 가지 않는다.
+     */
     @Transactional(readOnly = true)
     public UserResponse getUser(long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
-        return new UserResponse(user.getId(), user.getEmail());
+        return userResponseCache.get(userId, userRepository::findResponseById)
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
+    }
+
+    /**
+     * ids 일괄 조회. 캐시에 있는 id 는 캐시에서, 나머지는 chunk 단위 IN 쿼리(id, email 만)로 읽고 요청 순서대로 돌려준다.
+     */
+    @Transactional(readOnly = true)
+    public BulkResponse<UserResponse> getUsersByIds(List<Long> ids) {
+        List<Long> userIds = BulkIds.distinct(ids, bulkMaxIds);
+
+        Map<Long, UserResponse> found = new HashMap<>(userResponseCache.getAllPresent(userIds));
+        List<Long> misses = userIds.stream()
+                .filter(userId -> !found.containsKey(userId) && !userResponseCache.isKnownMissing(userId))
+                .toList();
+
+        for (List<Long> chunk : BulkIds.chunk(misses, bulkChunkSize)) {
+            for (UserResponse response : userRepository.findResponsesByIdIn(chunk)) {
+                userResponseCache.put(response);
+                found.put(response.getId(), response);
+            }
+            chunk.stream().filter(userId -> !found.containsKey(userId)).forEach(userResponseCache::putMissing);
+        }
+
+        return BulkResponse.of(userIds, found);
+    }
+
+    /**
+     * 이메일 prefix 검색 (대소문자 무시, 이메일 순 상위 limit 개)
+     * 인덱스 적재가 끝나기 전에는 같은 결과를 LIKE 'prefix%' 로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<UserResponse> searchUsers(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidRequestException("prefix 는 1자 이상이어야 합니다.");
+        }
+        int resultLimit = resolveSearchLimit(limit);
+
+        if (userEmailSearchIndex.isReady()) {
+            return userEmailSearchIndex.search(prefix, resultLimit);
+        }
+        String pattern = prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+        return userRepository.findResponsesByEmailLike(pattern, PageRequest.of(0, resultLimit));
     }
 
     @Transactional
@@ -40,4 +105,14 @@ public class UserService {
 
         user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
     }
+
+    private int resolveSearchLimit(Integer limit) {
+        if (limit == null) {
+            return searchDefaultLimit;
+        }
+        if (limit < 1) {
+            throw new InvalidRequestException("limit 는 1 이상이어야 합니다.");
+        }
+        return Math.min(limit, searchMaxLimit);
+    }
 }
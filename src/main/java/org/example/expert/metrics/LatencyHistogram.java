@@ -0,0 +1,150 @@
+package org.example.expert.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 나노초 지연시간 히스토그램. 기록은 락 없이 AtomicLongArray 증가 몇 번으로 끝나고 객체를 만들지 않는다.
+ *
+ * 버킷은 2의 거듭제곱 구간마다 SUB_BUCKETS 개로 나눈 로그-선형 구간이라 상대 오차가 1/SUB_BUCKETS 이내다.
+ * 스레드마다 stripe 를 나눠 같은 캐시 라인을 두고 경쟁하지 않게 하고, 읽을 때 stripe 를 합친다.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // 2^40 ns (약 18분) 이상은 마지막 버킷에 모은다
+    private static final int MAX_EXPONENT = 40;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    // stripe 마다 [BUCKETS 개 카운트 | 합계 | 최댓값], stripe 사이는 캐시 라인만큼 띄운다
+    private static final int SUM = BUCKETS;
+    private static final int MAX = BUCKETS + 1;
+    private static final int STRIDE = BUCKETS + 2 + 8;
+
+    private final int stripeMask;
+    private final AtomicLongArray cells;
+
+    /**
+     * @param stripes 2의 거듭제곱으로 올림한다
+     */
+    public LatencyHistogram(int stripes) {
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.stripeMask = size - 1;
+        this.cells = new AtomicLongArray(size * STRIDE);
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        int base = stripeIndex() * STRIDE;
+        cells.getAndIncrement(base + bucketIndex(value));
+        cells.getAndAdd(base + SUM, value);
+        long max = cells.get(base + MAX);
+        while (value > max && !cells.compareAndSet(base + MAX, max, value)) {
+            max = cells.get(base + MAX);
+        }
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long sum = 0;
+        long max = 0;
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            int base = stripe * STRIDE;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                counts[bucket] += cells.get(base + bucket);
+            }
+            sum += cells.get(base + SUM);
+            max = Math.max(max, cells.get(base + MAX));
+        }
+        long count = 0;
+        for (long bucketCount : counts) {
+            count += bucketCount;
+        }
+        return new Snapshot(counts, count, sum, max);
+    }
+
+    private int stripeIndex() {
+        return (int) (Thread.currentThread().getId() * 0x9E3779B97F4A7C15L >>> 40) & stripeMask;
+    }
+
+    /**
+     * 값 v 의 최상위 비트가 e 이면 (e - SUB_BUCKET_BITS + 1) 번째 구간, 그 아래 SUB_BUCKET_BITS 비트가 구간 안의 위치
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * 버킷에 들어가는 가장 큰 값
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    public static class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long totalNanos() {
+            return sum;
+        }
+
+        public long maxNanos() {
+            return max;
+        }
+
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * @param quantile 0 ~ 1
+         * @return 해당 분위수가 들어 있는 버킷의 상한 (최댓값을 넘지 않게 자른다)
+         */
+        public long percentileNanos(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                seen += counts[bucket];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(bucket), max);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.expert.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GET /actuator/latency
+ * 메서드별 호출 수와 p50/p99/p999 (마이크로초). 누적 시간이 큰 메서드부터 보여준다.
+ */
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class MethodLatencyEndpoint {
+
+    private final MethodLatencyRegistry methodLatencyRegistry;
+
+    @ReadOperation
+    public List<Map<String, Object>> latency() {
+        return methodLatencyRegistry.snapshot().stream()
+                .map(latency -> {
+                    LatencyHistogram.Snapshot snapshot = latency.snapshot();
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("method", latency.name());
+                    row.put("count", snapshot.count());
+                    row.put("totalMs", snapshot.totalNanos() / 1_000_000);
+                    row.put("meanUs", Math.round(snapshot.meanNanos() / 1_000));
+                    row.put("p50Us", snapshot.percentileNanos(0.5) / 1_000);
+                    row.put("p99Us", snapshot.percentileNanos(0.99) / 1_000);
+                    row.put("p999Us", snapshot.percentileNanos(0.999) / 1_000);
+                    row.put("maxUs", snapshot.maxNanos() / 1_000);
+                    return row;
+                })
+                .toList();
+    }
+}
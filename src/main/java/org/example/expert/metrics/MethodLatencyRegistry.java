@@ -0,0 +1,124 @@
+package org.example.expert.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메서드별 지연시간 히스토그램 저장소
+ * 히스토그램은 처음 호출될 때 한 번 만들고 Micrometer 에 method.latency{quantile}, method.calls 로 등록한다.
+ * 오버로드된 메서드는 "클래스#메서드" 하나로 합친다.
+ */
+@Component
+public class MethodLatencyRegistry {
+
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+    // 게이지마다 stripe 를 다시 합치지 않도록 스냅샷을 잠깐 재사용한다
+    private static final long SNAPSHOT_TTL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final int stripes;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Method, LatencyHistogram> byMethod = new ConcurrentHashMap<>();
+    private final Map<String, Entry> byName = new ConcurrentHashMap<>();
+
+    public MethodLatencyRegistry(
+            @Value("${metrics.method-latency.enabled:true}") boolean enabled,
+            @Value("${metrics.method-latency.stripes:0}") int stripes,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.stripes = stripes > 0 ? stripes : Math.min(16, Runtime.getRuntime().availableProcessors());
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 호출 경로에서 쓰인다. 이미 있으면 ConcurrentHashMap 조회 한 번으로 끝난다.
+     */
+    public LatencyHistogram histogram(Method method) {
+        LatencyHistogram histogram = byMethod.get(method);
+        if (histogram != null) {
+            return histogram;
+        }
+        return byMethod.computeIfAbsent(method, this::register);
+    }
+
+    /**
+     * 누적 시간이 큰 순서
+     */
+    public List<MethodLatency> snapshot() {
+        List<MethodLatency> result = new ArrayList<>(byName.size());
+        byName.forEach((name, entry) -> {
+            LatencyHistogram.Snapshot snapshot = entry.histogram.snapshot();
+            if (snapshot.count() > 0) {
+                result.add(new MethodLatency(name, snapshot));
+            }
+        });
+        result.sort(Comparator.comparingLong((MethodLatency latency) -> latency.snapshot().totalNanos()).reversed());
+        return result;
+    }
+
+    private LatencyHistogram register(Method method) {
+        String className = method.getDeclaringClass().getSimpleName();
+        String methodName = method.getName();
+        return byName.computeIfAbsent(className + "#" + methodName, name -> {
+            Entry entry = new Entry(new LatencyHistogram(stripes));
+            for (double quantile : QUANTILES) {
+                TimeGauge.builder("method.latency", entry, TimeUnit.NANOSECONDS, e -> e.snapshot().percentileNanos(quantile))
+                        .tag("class", className)
+                        .tag("method", methodName)
+                        .tag("quantile", Double.toString(quantile))
+                        .register(meterRegistry);
+            }
+            TimeGauge.builder("method.latency.max", entry, TimeUnit.NANOSECONDS, e -> e.snapshot().maxNanos())
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .register(meterRegistry);
+            FunctionCounter.builder("method.calls", entry, e -> e.snapshot().count())
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .register(meterRegistry);
+            return entry;
+        }).histogram;
+    }
+
+    public record MethodLatency(String name, LatencyHistogram.Snapshot snapshot) {
+    }
+
+    private static class Entry {
+
+        private final LatencyHistogram histogram;
+        private volatile LatencyHistogram.Snapshot cached;
+        private volatile long cachedAt;
+
+        private Entry(LatencyHistogram histogram) {
+            this.histogram = histogram;
+        }
+
+        private LatencyHistogram.Snapshot snapshot() {
+            LatencyHistogram.Snapshot snapshot = cached;
+            long now = System.nanoTime();
+            if (snapshot == null || now - cachedAt > SNAPSHOT_TTL_NANOS) {
+                snapshot = histogram.snapshot();
+                cached = snapshot;
+                cachedAt = now;
+            }
+            return snapshot;
+        }
+    }
+}
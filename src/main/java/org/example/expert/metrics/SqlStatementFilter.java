@@ -0,0 +1,146 @@
+package org.example.expert.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 SQL 수와 시간을 모아 http.server.requests.sql.* 메트릭으로 남기고,
+ * 같은 SQL 이 repeat-threshold 번을 넘게 반복되면 N+1 의심 경고를 남긴다.
+ * header 가 켜져 있으면 응답이 커밋되기 직전(본문을 쓰거나 flush 할 때)까지의 값을 응답 헤더로 싣는다.
+ */
+@Slf4j
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-Sql-Count";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean header;
+    private final int repeatThreshold;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry, boolean header, int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.header = header;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            if (header) {
+                SqlHeaderResponse wrapped = new SqlHeaderResponse(response, stats);
+                chain.doFilter(request, wrapped);
+                wrapped.writeHeaders();
+            } else {
+                chain.doFilter(request, response);
+            }
+        } finally {
+            SqlStatementStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getCount());
+        Timer.builder("http.server.requests.sql.time")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+
+        for (Map.Entry<String, Integer> repeated : stats.repeatedShapes(repeatThreshold).entrySet()) {
+            log.warn("N+1 의심: {} {} 에서 같은 SQL 이 {}번 실행되었습니다. sql={}",
+                    method, uri, repeated.getValue(), repeated.getKey());
+            Counter.builder("http.server.requests.sql.repeated")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * 커밋된 뒤에는 헤더를 붙일 수 없으므로 본문 스트림을 처음 꺼낼 때, flush, 에러/리다이렉트 직전에 한 번 싣는다.
+     */
+    private static class SqlHeaderResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementStats stats;
+        private boolean written;
+
+        private SqlHeaderResponse(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        private void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(COUNT_HEADER, Integer.toString(stats.getCount()));
+            setHeader(TIME_HEADER, String.format("%.2f", stats.getNanos() / 1_000_000.0));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
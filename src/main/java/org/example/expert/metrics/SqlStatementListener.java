@@ -0,0 +1,30 @@
+package org.example.expert.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * 모든 JDBC 실행(JPA, JdbcTemplate)을 현재 요청의 SqlStatementStats 에 더한다.
+ */
+class SqlStatementListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.beforeExecute();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            String sql = queryInfoList.isEmpty() ? null : queryInfoList.get(0).getQuery();
+            stats.afterExecute(sql, execInfo.isBatch());
+        }
+    }
+}
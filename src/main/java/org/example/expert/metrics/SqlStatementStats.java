@@ -0,0 +1,80 @@
+package org.example.expert.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 하나에서 실행된 SQL 수와 시간. 요청 스레드에 묶이므로 백그라운드 스레드의 쿼리는 들어가지 않는다.
+ * 같은 모양(IN 목록 길이와 숫자 리터럴을 지운 SQL)이 몇 번 나왔는지도 센다.
+ */
+public class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern NUMBER = Pattern.compile("\\b\\d+\\b");
+
+    private int count;
+    private long nanos;
+    private long startedAt;
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 요청 밖(스케줄러, 백그라운드 스레드)이면 null
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void beforeExecute() {
+        startedAt = System.nanoTime();
+    }
+
+    /**
+     * JDBC batch 는 왕복 한 번이라 한 건으로 세고 모양은 기록하지 않는다.
+     */
+    void afterExecute(String sql, boolean batch) {
+        count++;
+        nanos += System.nanoTime() - startedAt;
+        if (!batch && sql != null) {
+            shapes.merge(shapeOf(sql), 1, Integer::sum);
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * threshold 번을 넘게 반복된 SQL 모양과 횟수
+     */
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new HashMap<>();
+        shapes.forEach((shape, times) -> {
+            if (times > threshold) {
+                repeated.put(shape, times);
+            }
+        });
+        return repeated;
+    }
+
+    static String shapeOf(String sql) {
+        String shape = IN_LIST.matcher(sql).replaceAll("(?)");
+        return NUMBER.matcher(shape).replaceAll("?").trim();
+    }
+}
@@ -0,0 +1,283 @@
+package org.example.expert.perf;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * users → todos → managers → comments 순서로 multi-row INSERT 를 병렬로 넣는다.
+ *
+ * 모든 값은 (seed, 컬럼, 행 번호) 를 섞은 해시로 정하므로 스레드 수나 실행 순서와 관계없이 같은 seed 면 같은 데이터가 나온다.
+ * id 는 테이블의 현재 MAX(id) 다음부터 직접 매긴다. 비밀번호는 "Password1" 의 bcrypt 해시 하나를 모든 유저가 같이 쓴다.
+ * 시딩이 끝나면 todo_change_sequence 카운터를 맞추고, H2 면 IDENTITY 시작값을 옮긴다. todo_view 재구성은 호출하는 쪽에서 한다.
+ */
+@Slf4j
+public class BulkDataSeeder {
+
+    public static final String PASSWORD = "Password1";
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final long SPAN_SECONDS = 365L * 24 * 60 * 60;
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy"};
+
+    // 해시 salt
+    private static final long OWNER = 1;
+    private static final long COMMENT_TODO = 2;
+    private static final long COMMENT_USER = 3;
+    private static final long COMMENT_DELAY = 4;
+    private static final long MANAGER_USER = 5;
+    private static final long ROLE = 6;
+
+    private final DataSource dataSource;
+    private final SeedPlan plan;
+
+    private long userBase;
+    private long todoBase;
+    private long commentBase;
+    private long managerBase;
+    private long changeSeqBase;
+
+    public BulkDataSeeder(DataSource dataSource, SeedPlan plan) {
+        this.dataSource = dataSource;
+        this.plan = plan;
+    }
+
+    /**
+     * @return 테이블별 넣은 행 수와 걸린 시간
+     */
+    public Map<String, Object> seed() throws Exception {
+        userBase = maxOf("SELECT COALESCE(MAX(id), 0) FROM users");
+        todoBase = maxOf("SELECT COALESCE(MAX(id), 0) FROM todos");
+        commentBase = maxOf("SELECT COALESCE(MAX(id), 0) FROM comments");
+        managerBase = maxOf("SELECT COALESCE(MAX(id), 0) FROM managers");
+        changeSeqBase = maxOf("SELECT COALESCE(MAX(change_seq), 0) FROM todos");
+        String passwordHash = new PasswordEncoder().encode(PASSWORD);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        long begin = System.nanoTime();
+        ExecutorService writers = Executors.newFixedThreadPool(plan.threads());
+        try {
+            result.put("users", insert(writers, "users",
+                    "id, email, password, user_role, created_at, modified_at", 6, plan.users(),
+                    (statement, offset, index) -> {
+                        long id = userBase + index + 1;
+                        Timestamp createdAt = timestamp(SPAN_SECONDS * index / plan.users());
+                        statement.setLong(offset, id);
+                        statement.setString(offset + 1, "seed" + plan.seed() + "-" + id + "@seed.test");
+                        statement.setString(offset + 2, passwordHash);
+                        statement.setString(offset + 3, unit(ROLE, index) < 0.01 ? "ADMIN" : "USER");
+                        statement.setTimestamp(offset + 4, createdAt);
+                        statement.setTimestamp(offset + 5, createdAt);
+                    }));
+            result.put("todos", insert(writers, "todos",
+                    "id, title, contents, weather, version, change_seq, user_id, created_at, modified_at", 9, plan.todos(),
+                    (statement, offset, index) -> {
+                        Timestamp createdAt = timestamp(todoSecond(index));
+                        statement.setLong(offset, todoBase + index + 1);
+                        statement.setString(offset + 1, "seed todo " + index);
+                        statement.setString(offset + 2, "contents of seed todo " + index);
+                        statement.setString(offset + 3, WEATHERS[(int) (index % WEATHERS.length)]);
+                        statement.setLong(offset + 4, 0);
+                        statement.setLong(offset + 5, changeSeqBase + index + 1);
+                        statement.setLong(offset + 6, userBase + owner(index) + 1);
+                        statement.setTimestamp(offset + 7, createdAt);
+                        statement.setTimestamp(offset + 8, createdAt);
+                    }));
+            // 앞 todos 행은 작성자 본인, 뒤 extraManagers 행은 앞쪽 유저에 몰리게 배정한 담당자
+            result.put("managers", insert(writers, "managers", "id, user_id, todo_id, todo_modified_at", 4,
+                    plan.todos() + plan.extraManagers(),
+                    (statement, offset, index) -> {
+                        long todoIndex;
+                        long userIndex;
+                        if (index < plan.todos()) {
+                            todoIndex = index;
+                            userIndex = owner(index);
+                        } else {
+                            long extra = index - plan.todos();
+                            todoIndex = extra % plan.todos();
+                            userIndex = extraManager(todoIndex, extra / plan.todos());
+                        }
+                        statement.setLong(offset, managerBase + index + 1);
+                        statement.setLong(offset + 1, userBase + userIndex + 1);
+                        statement.setLong(offset + 2, todoBase + todoIndex + 1);
+                        statement.setTimestamp(offset + 3, timestamp(todoSecond(todoIndex)));
+                    }));
+            result.put("comments", insert(writers, "comments",
+                    "id, contents, user_id, todo_id, created_at, modified_at", 6, plan.comments(),
+                    (statement, offset, index) -> {
+                        long todoIndex = skewed(COMMENT_TODO, index, plan.todos());
+                        Timestamp createdAt = timestamp(todoSecond(todoIndex) + (long) (unit(COMMENT_DELAY, index) * 7 * 24 * 60 * 60));
+                        statement.setLong(offset, commentBase + index + 1);
+                        statement.setString(offset + 1, "seed comment " + index);
+                        statement.setLong(offset + 2, userBase + skewed(COMMENT_USER, index, plan.users()) + 1);
+                        statement.setLong(offset + 3, todoBase + todoIndex + 1);
+                        statement.setTimestamp(offset + 4, createdAt);
+                        statement.setTimestamp(offset + 5, createdAt);
+                    }));
+        } finally {
+            writers.shutdownNow();
+        }
+        finish();
+
+        long elapsedMillis = (System.nanoTime() - begin) / 1_000_000;
+        result.put("totalRows", plan.totalRows());
+        result.put("elapsedMs", elapsedMillis);
+        result.put("rowsPerSec", elapsedMillis == 0 ? 0 : plan.totalRows() * 1_000 / elapsedMillis);
+        return result;
+    }
+
+    private Map<String, Object> insert(ExecutorService writers, String table, String columns, int columnCount,
+                                       long rows, RowWriter rowWriter) throws Exception {
+        long begin = System.nanoTime();
+        long rowsPerTransaction = (long) plan.rowsPerStatement() * plan.statementsPerTransaction();
+        List<Future<?>> futures = new ArrayList<>();
+        for (long from = 0; from < rows; from += rowsPerTransaction) {
+            long start = from;
+            long end = Math.min(rows, from + rowsPerTransaction);
+            futures.add(writers.submit(() -> {
+                writeRange(table, columns, columnCount, start, end, rowWriter);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedMillis = (System.nanoTime() - begin) / 1_000_000;
+        log.info("시딩 {}: {} 행, {}ms", table, rows, elapsedMillis);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rows", rows);
+        result.put("elapsedMs", elapsedMillis);
+        return result;
+    }
+
+    private void writeRange(String table, String columns, int columnCount, long start, long end, RowWriter rowWriter)
+            throws SQLException {
+        int rowsPerStatement = plan.rowsPerStatement();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement full = connection.prepareStatement(insertSql(table, columns, columnCount, rowsPerStatement))) {
+                long index = start;
+                while (index + rowsPerStatement <= end) {
+                    for (int row = 0; row < rowsPerStatement; row++) {
+                        rowWriter.write(full, row * columnCount + 1, index + row);
+                    }
+                    full.executeUpdate();
+                    index += rowsPerStatement;
+                }
+                int remaining = (int) (end - index);
+                if (remaining > 0) {
+                    try (PreparedStatement rest = connection.prepareStatement(insertSql(table, columns, columnCount, remaining))) {
+                        for (int row = 0; row < remaining; row++) {
+                            rowWriter.write(rest, row * columnCount + 1, index + row);
+                        }
+                        rest.executeUpdate();
+                    }
+                }
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private void finish() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            long lastSeq = changeSeqBase + plan.todos();
+            if (statement.executeUpdate("UPDATE todo_change_sequence SET last_seq = GREATEST(last_seq, " + lastSeq + ") WHERE id = 1") == 0) {
+                statement.executeUpdate("INSERT INTO todo_change_sequence (id, last_seq) VALUES (1, " + lastSeq + ")");
+            }
+            // MySQL AUTO_INCREMENT 는 직접 넣은 id 다음으로 알아서 옮겨 가지만 H2 IDENTITY 는 그대로라 옮겨 준다
+            if (connection.getMetaData().getDatabaseProductName().startsWith("H2")) {
+                restartIdentity(statement, "users", userBase + plan.users());
+                restartIdentity(statement, "todos", todoBase + plan.todos());
+                restartIdentity(statement, "managers", managerBase + plan.todos() + plan.extraManagers());
+                restartIdentity(statement, "comments", commentBase + plan.comments());
+            }
+        }
+    }
+
+    private void restartIdentity(Statement statement, String table, long maxId) throws SQLException {
+        statement.executeUpdate("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (maxId + 1));
+    }
+
+    private long maxOf(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private long owner(long todoIndex) {
+        return skewed(OWNER, todoIndex, plan.users());
+    }
+
+    /**
+     * 일정 하나의 round 번째 추가 담당자. 일정마다 앞쪽 유저에 몰린 시작점에서 한 칸씩 옮겨 가며 작성자는 건너뛴다.
+     * round 가 users - 1 보다 작으면 (todo_id, user_id) 가 겹치지 않는다 (uk_managers_todo_user, SeedPlan.from 이 보장).
+     */
+    private long extraManager(long todoIndex, long round) {
+        long candidates = plan.users() - 1;
+        long candidate = (skewed(MANAGER_USER, todoIndex, candidates) + round) % candidates;
+        return candidate < owner(todoIndex) ? candidate : candidate + 1;
+    }
+
+    private long todoSecond(long todoIndex) {
+        return SPAN_SECONDS * todoIndex / plan.todos();
+    }
+
+    /**
+     * [0, bound) 에서 u^skew 로 뽑는다. skew 가 3 이면 앞쪽 10% 가 약 46% 를 가져간다.
+     */
+    private long skewed(long salt, long index, long bound) {
+        return Math.min(bound - 1, (long) (bound * Math.pow(unit(salt, index), plan.skew())));
+    }
+
+    private double unit(long salt, long index) {
+        long z = plan.seed() * 0x9E3779B97F4A7C15L + salt * 0xD1B54A32D192ED03L + index;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (z >>> 11) * 0x1.0p-53;
+    }
+
+    private static Timestamp timestamp(long secondsFromEpoch) {
+        return Timestamp.valueOf(EPOCH.plusSeconds(secondsFromEpoch));
+    }
+
+    private static String insertSql(String table, String columns, int columnCount, int rows) {
+        String placeholders = "(" + "?,".repeat(columnCount - 1) + "?)";
+        StringBuilder sql = new StringBuilder(table.length() + columns.length() + rows * (placeholders.length() + 1) + 32);
+        sql.append("INSERT INTO ").append(table).append(" (").append(columns).append(") VALUES ");
+        for (int row = 0; row < rows; row++) {
+            if (row > 0) {
+                sql.append(',');
+            }
+            sql.append(placeholders);
+        }
+        return sql.toString();
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement statement, int offset, long index) throws SQLException;
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.expert.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.todo.service.TodoViewProjector;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 대량 데이터 시딩 명령. 웹 서버 없이 애플리케이션 설정(기본은 application.yml 의 로컬 MySQL)으로 스키마를 맞춘 뒤
+ * BulkDataSeeder 로 넣고 todo_view 를 다시 만든다.
+ *
+ * 옵션: SeedPlan.from 참고 (--seed, --users, --todos, --comments, --extra-managers, --skew, --threads, --scale ...)
+ * 그 밖의 --spring.* 인자는 그대로 애플리케이션에 넘긴다.
+ */
+public class DataSeeder {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadGenerator.parse(args);
+        SeedPlan plan = SeedPlan.from(options);
+
+        SpringApplication application = new SpringApplication(ExpertApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        try (ConfigurableApplicationContext context = application.run(springArgs(args))) {
+            Map<String, Object> report = seed(context, plan);
+            System.out.println(new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(report));
+        }
+    }
+
+    static Map<String, Object> seed(ConfigurableApplicationContext context, SeedPlan plan) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("plan", plan);
+        // 요청별 SQL 집계용 datasource-proxy 는 건너뛴다
+        DataSource dataSource = context.getBean(DataSource.class);
+        if (dataSource instanceof ProxyDataSource proxy) {
+            dataSource = proxy.getDataSource();
+        }
+        report.put("seeded", new BulkDataSeeder(dataSource, plan).seed());
+
+        long begin = System.nanoTime();
+        int rebuilt = context.getBean(TodoViewProjector.class).rebuild();
+        report.put("todoView", Map.of("rows", rebuilt, "elapsedMs", (System.nanoTime() - begin) / 1_000_000));
+        return report;
+    }
+
+    private static String[] springArgs(String[] args) {
+        return Arrays.stream(args).filter(arg -> arg.startsWith("--spring.")).toArray(String[]::new);
+    }
+}
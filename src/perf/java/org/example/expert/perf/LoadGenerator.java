@@ -0,0 +1,330 @@
+package org.example.expert.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.expert.ExpertApplication;
+import org.example.expert.metrics.LatencyHistogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 부하 생성기. --target 이 없으면 perf 프로필로 애플리케이션을 같은 JVM 에 띄워서 친다.
+ *
+ * 가상 유저 하나는 가입 → 로그인 → (일정 작성, 댓글, 일정 목록, 내 일정, 댓글 목록, 담당자 배정) x rounds 를
+ * duration 이 끝날 때까지 반복한다. warmup 동안의 응답은 집계하지 않는다.
+ * 엔드포인트별 처리량과 p50/p99/p999 를 JSON 으로 출력하고 --output 파일에 남긴다.
+ *
+ * 옵션: --users=50 --duration=30s --warmup=5s --rounds=5 --target=http://localhost:8080 --output=build/reports/perf/load-test.json
+ * 같은 JVM 에 띄울 때 --seed-scale=0.01 을 주면 부하 전에 SeedPlan.DEFAULT 의 1% 규모로 시딩한다.
+ * --profiles=virtual 로 프로필을 더하고, --weather-latency=500ms 로 날씨 API 스텁 지연을 바꾼다.
+ * --ramp-up=60s 면 가상 유저를 그 시간에 걸쳐 고르게 출발시킨다 (가입/로그인의 bcrypt 가 한꺼번에 몰리지 않게).
+ */
+public class LoadGenerator {
+
+    private static final String PASSWORD = "Password1";
+
+    private final URI target;
+    private final int users;
+    private final Duration duration;
+    private final Duration warmup;
+    private final Duration rampUp;
+    private final int rounds;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+    // 담당자로 배정할 다른 유저 id 후보
+    private final AtomicLongArray knownUserIds = new AtomicLongArray(1024);
+    private final AtomicLong knownUserCount = new AtomicLong();
+
+    private volatile long measureFrom;
+
+    LoadGenerator(URI target, int users, Duration duration, Duration warmup, Duration rampUp, int rounds) {
+        this.target = target;
+        this.users = users;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.rampUp = rampUp;
+        this.rounds = rounds;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int users = Integer.parseInt(options.getOrDefault("users", "50"));
+        Duration duration = parseDuration(options.getOrDefault("duration", "30s"));
+        Duration warmup = parseDuration(options.getOrDefault("warmup", "5s"));
+        Duration rampUp = parseDuration(options.getOrDefault("ramp-up", "0s"));
+        int rounds = Integer.parseInt(options.getOrDefault("rounds", "5"));
+        Path output = Path.of(options.getOrDefault("output", "build/reports/perf/load-test.json"));
+
+        ConfigurableApplicationContext context = null;
+        URI target;
+        if (options.containsKey("target")) {
+            target = URI.create(options.get("target"));
+        } else {
+            SpringApplication application = new SpringApplication(ExpertApplication.class);
+            List<String> profiles = new ArrayList<>(List.of("perf"));
+            if (options.containsKey("profiles")) {
+                profiles.addAll(List.of(options.get("profiles").split(",")));
+            }
+            application.setAdditionalProfiles(profiles.toArray(String[]::new));
+            List<String> springArgs = new ArrayList<>(List.of("--server.port=0"));
+            if (options.containsKey("weather-latency")) {
+                springArgs.add("--perf.weather-stub.latency=" + options.get("weather-latency"));
+            }
+            context = application.run(springArgs.toArray(String[]::new));
+            target = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            if (options.containsKey("seed-scale")) {
+                SeedPlan plan = SeedPlan.DEFAULT.scaled(Double.parseDouble(options.get("seed-scale")));
+                System.out.println(new ObjectMapper().writeValueAsString(DataSeeder.seed(context, plan)));
+            }
+        }
+
+        try {
+            Map<String, Object> report = new LoadGenerator(target, users, duration, warmup, rampUp, rounds).run();
+            String json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(report);
+            System.out.println(json);
+            if (output.getParent() != null) {
+                Files.createDirectories(output.getParent());
+            }
+            Files.writeString(output, json);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    Map<String, Object> run() throws InterruptedException {
+        long start = System.nanoTime();
+        measureFrom = start + warmup.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+
+        ExecutorService executor = newExecutor(users);
+        for (int i = 0; i < users; i++) {
+            long startAt = start + rampUp.toNanos() * i / users;
+            executor.submit(() -> virtualUser(startAt, deadline));
+        }
+        executor.shutdown();
+        executor.awaitTermination(duration.plus(warmup).plusMinutes(1).toMillis(), TimeUnit.MILLISECONDS);
+        executor.shutdownNow();
+
+        return report();
+    }
+
+    private void virtualUser(long startAt, long deadline) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(startAt - System.nanoTime());
+        } catch (InterruptedException e) {
+            return;
+        }
+        while (System.nanoTime() < deadline) {
+            try {
+                session(deadline);
+            } catch (Exception e) {
+                // 응답 실패는 엔드포인트별 errors 로 이미 셌다. 새 세션으로 다시 시작한다
+            }
+        }
+    }
+
+    private void session(long deadline) throws Exception {
+        String email = "load-" + sequence.incrementAndGet() + "@perf.test";
+        String credentials = "\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"";
+        send("POST /auth/signup", "POST", "/auth/signup", null, "{" + credentials + ",\"userRole\":\"USER\"}");
+        JsonNode signin = send("POST /auth/signin", "POST", "/auth/signin", null, "{" + credentials + "}");
+        String token = signin.get("bearerToken").asText();
+        long userId = userIdOf(token);
+        knownUserIds.set((int) (knownUserCount.getAndIncrement() % knownUserIds.length()), userId);
+
+        for (int round = 0; round < rounds && System.nanoTime() < deadline; round++) {
+            JsonNode todo = send("POST /todos", "POST", "/todos", token,
+                    "{\"title\":\"load test " + round + "\",\"contents\":\"contents " + round + "\"}");
+            long todoId = todo.get("id").asLong();
+
+            send("POST /todos/{todoId}/comments", "POST", "/todos/" + todoId + "/comments", token,
+                    "{\"contents\":\"comment " + round + "\"}");
+            send("GET /todos", "GET", "/todos?page=1&size=10", token, null);
+            send("GET /users/me/todos", "GET", "/users/me/todos", token, null);
+            send("GET /todos/{todoId}/comments", "GET", "/todos/" + todoId + "/comments", token, null);
+
+            long managerId = randomOtherUser(userId);
+            if (managerId > 0) {
+                send("POST /todos/{todoId}/managers", "POST", "/todos/" + todoId + "/managers", token,
+                        "{\"managerUserId\":" + managerId + "}");
+            }
+        }
+    }
+
+    private JsonNode send(String endpoint, String method, String path, String token, String json) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(target.resolve(path)).timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", token);
+        }
+        if (json != null) {
+            builder.header("Content-Type", "application/json").method(method, HttpRequest.BodyPublishers.ofString(json));
+        } else {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+
+        long begin = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            record(endpoint, begin, false);
+            throw e;
+        }
+        boolean success = response.statusCode() < 400;
+        record(endpoint, begin, success);
+        if (!success) {
+            throw new IllegalStateException(endpoint + " " + response.statusCode() + " " + response.body());
+        }
+        return response.body().isEmpty() ? null : objectMapper.readTree(response.body());
+    }
+
+    private void record(String endpoint, long begin, boolean success) {
+        long end = System.nanoTime();
+        if (begin < measureFrom) {
+            return;
+        }
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, name -> new EndpointStats());
+        if (success) {
+            endpointStats.latency.record(end - begin);
+        } else {
+            endpointStats.errors.incrementAndGet();
+        }
+    }
+
+    private Map<String, Object> report() {
+        double seconds = duration.toNanos() / 1e9;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long total = 0;
+        List<String> names = new ArrayList<>(stats.keySet());
+        names.sort(null);
+        for (String name : names) {
+            EndpointStats endpointStats = stats.get(name);
+            LatencyHistogram.Snapshot snapshot = endpointStats.latency.snapshot();
+            total += snapshot.count();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", snapshot.count());
+            row.put("errors", endpointStats.errors.get());
+            row.put("throughputPerSec", round(snapshot.count() / seconds));
+            row.put("meanMs", round(snapshot.meanNanos() / 1e6));
+            row.put("p50Ms", round(snapshot.percentileNanos(0.5) / 1e6));
+            row.put("p99Ms", round(snapshot.percentileNanos(0.99) / 1e6));
+            row.put("p999Ms", round(snapshot.percentileNanos(0.999) / 1e6));
+            row.put("maxMs", round(snapshot.maxNanos() / 1e6));
+            endpoints.put(name, row);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("target", target.toString());
+        report.put("users", users);
+        report.put("java", Runtime.version().toString());
+        report.put("clientThreads", virtualThreadsAvailable() ? "virtual" : "platform");
+        report.put("durationSec", round(seconds));
+        report.put("warmupSec", round(warmup.toNanos() / 1e9));
+        report.put("rampUpSec", round(rampUp.toNanos() / 1e9));
+        report.put("totalRequests", total);
+        report.put("throughputPerSec", round(total / seconds));
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private long randomOtherUser(long userId) {
+        long known = Math.min(knownUserCount.get(), knownUserIds.length());
+        for (int attempt = 0; attempt < 3 && known > 1; attempt++) {
+            long candidate = knownUserIds.get(ThreadLocalRandom.current().nextInt((int) known));
+            if (candidate != userId && candidate > 0) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    private long userIdOf(String bearerToken) throws Exception {
+        String payload = bearerToken.substring("Bearer ".length()).split("\\.")[1];
+        return objectMapper.readTree(Base64.getUrlDecoder().decode(payload)).get("sub").asLong();
+    }
+
+    /**
+     * JDK 21 이상이면 가상 유저마다 가상 스레드, 아니면 가상 유저 수만큼의 플랫폼 스레드.
+     * 빌드 toolchain 이 17 이라 리플렉션으로 찾는다.
+     */
+    private static ExecutorService newExecutor(int users) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(users);
+        }
+    }
+
+    private static boolean virtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                String value = arg.substring(separator + 1);
+                if (!value.isEmpty()) {
+                    options.put(arg.substring(2, separator), value);
+                }
+            }
+        }
+        return options;
+    }
+
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private static class EndpointStats {
+
+        private final LatencyHistogram latency = new LatencyHistogram(8);
+        private final AtomicLong errors = new AtomicLong();
+    }
+}
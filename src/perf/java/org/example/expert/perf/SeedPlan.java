@@ -0,0 +1,56 @@
+package org.example.expert.perf;
+
+import java.util.Map;
+
+/**
+ * 시딩 규모와 분포. 기본값은 users + todos + comments + managers(작성자 + 추가 배정) = 1천만 행.
+ * extraManagers 가 todos 보다 많으면 일정마다 여러 명을 배정하고, 같은 일정에 같은 유저를 두 번 두지 않는다.
+ *
+ * @param skew    1 이면 균등, 클수록 앞쪽 유저/일정에 몰린다 (u^skew 로 뽑는다)
+ * @param threads 테이블 하나를 나눠 쓰는 writer 스레드 수
+ * @param rowsPerStatement INSERT 한 번에 넣는 행 수 (multi-row VALUES)
+ * @param statementsPerTransaction 커밋 한 번에 묶는 INSERT 수
+ */
+public record SeedPlan(long seed, long users, long todos, long comments, long extraManagers, double skew,
+                       int threads, int rowsPerStatement, int statementsPerTransaction) {
+
+    public static final SeedPlan DEFAULT = new SeedPlan(42L, 1_000_000, 2_000_000, 4_500_000, 500_000, 3.0,
+            Math.max(2, Runtime.getRuntime().availableProcessors()), 1_000, 10);
+
+    public long totalRows() {
+        // 일정마다 작성자 본인이 담당자로 한 행씩 들어간다 (TodoService.saveTodo 와 같다)
+        return users + todos + comments + todos + extraManagers;
+    }
+
+    public SeedPlan scaled(double factor) {
+        return new SeedPlan(seed, Math.max(2, Math.round(users * factor)), Math.max(1, Math.round(todos * factor)),
+                Math.round(comments * factor), Math.round(extraManagers * factor), skew,
+                threads, rowsPerStatement, statementsPerTransaction);
+    }
+
+    /**
+     * --seed=42 --users=... 처럼 넘긴 값만 기본값 위에 덮어쓴다. scale 은 규모만 곱한다.
+     */
+    public static SeedPlan from(Map<String, String> options) {
+        SeedPlan plan = DEFAULT;
+        if (options.containsKey("scale")) {
+            plan = plan.scaled(Double.parseDouble(options.get("scale")));
+        }
+        SeedPlan parsed = new SeedPlan(
+                Long.parseLong(options.getOrDefault("seed", String.valueOf(plan.seed))),
+                Long.parseLong(options.getOrDefault("users", String.valueOf(plan.users))),
+                Long.parseLong(options.getOrDefault("todos", String.valueOf(plan.todos))),
+                Long.parseLong(options.getOrDefault("comments", String.valueOf(plan.comments))),
+                Long.parseLong(options.getOrDefault("extra-managers", String.valueOf(plan.extraManagers))),
+                Double.parseDouble(options.getOrDefault("skew", String.valueOf(plan.skew))),
+                Integer.parseInt(options.getOrDefault("threads", String.valueOf(plan.threads))),
+                Integer.parseInt(options.getOrDefault("rows-per-statement", String.valueOf(plan.rowsPerStatement))),
+                Integer.parseInt(options.getOrDefault("statements-per-transaction", String.valueOf(plan.statementsPerTransaction)))
+        );
+        // 일정마다 작성자를 뺀 유저 수보다 담당자를 더 둘 수 없다 (uk_managers_todo_user)
+        if (parsed.extraManagers > parsed.todos * (parsed.users - 1)) {
+            throw new IllegalArgumentException("extra-managers 는 todos * (users - 1) 이하여야 합니다: " + parsed.extraManagers);
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,220 @@
+package org.example.expert.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 기동 벤치마크. 새 JVM 을 띄운 순간부터 첫 요청(POST /auth/signup)이 2xx 로 돌아올 때까지의 시간을 잰다.
+ *
+ * 모드마다 --runs 번 띄워 중앙값/최소/최대와 "Started ExpertApplication in" 로그의 컨텍스트 기동 시간을 남긴다.
+ *   default       기본 설정 (ddl-auto: update, 즉시 초기화)
+ *   prod          prod 프로필 (ddl-auto: validate, 지연 초기화)
+ *   prod-aot      prod + -Dspring.aot.enabled=true (processAot 가 만든 빈 정의 코드)
+ *   prod-aot-cds  prod-aot + -XX:SharedArchiveFile (gradle cdsArchive 로 만든 AppCDS 아카이브)
+ * 모든 모드가 같은 추출된 jar 와 같은 H2 파일 DB 를 쓰고, 측정 전에 ddl-auto: update 로 스키마를 한 번 만든다.
+ * bootJar 에는 H2 가 없으므로 cdsArchive 학습 실행과 같은 클래스패스(추출된 jar 뒤에 --driver-classpath)로 띄운다.
+ *
+ * 옵션: --app-jar=build/cds/app/application.jar --driver-classpath=h2.jar --cds-archive=build/cds/application.jsa --runs=5
+ *       --modes=default,prod,prod-aot,prod-aot-cds --output=build/reports/perf/startup.json
+ */
+public class StartupBenchmark {
+
+    private static final Pattern STARTED = Pattern.compile("Started ExpertApplication in ([0-9.]+) seconds");
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final String MAIN_CLASS = "org.example.expert.ExpertApplication";
+
+    private final Path appJar;
+    private final String driverClasspath;
+    private final Path cdsArchive;
+    private final Path workDirectory;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    StartupBenchmark(Path appJar, String driverClasspath, Path cdsArchive, Path workDirectory) {
+        this.appJar = appJar;
+        this.driverClasspath = driverClasspath;
+        this.cdsArchive = cdsArchive;
+        this.workDirectory = workDirectory;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadGenerator.parse(args);
+        Path appJar = Path.of(options.getOrDefault("app-jar", "build/cds/app/application.jar")).toAbsolutePath();
+        String driverClasspath = options.getOrDefault("driver-classpath", "");
+        Path cdsArchive = Path.of(options.getOrDefault("cds-archive", "build/cds/application.jsa")).toAbsolutePath();
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        List<String> modes = List.of(options.getOrDefault("modes", "default,prod,prod-aot,prod-aot-cds").split(","));
+        Path output = Path.of(options.getOrDefault("output", "build/reports/perf/startup.json"));
+
+        StartupBenchmark benchmark = new StartupBenchmark(appJar, driverClasspath, cdsArchive, Path.of("build/startup").toAbsolutePath());
+        benchmark.prepare();
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (String mode : modes) {
+            results.put(mode, benchmark.measure(mode, runs));
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("java", Runtime.version().toString());
+        report.put("runs", runs);
+        report.put("modes", results);
+
+        String json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(report);
+        System.out.println(json);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        Files.writeString(output, json);
+    }
+
+    /**
+     * 이전 실행의 DB 를 지우고 스키마를 만든다 (컨텍스트 refresh 직후 종료)
+     */
+    void prepare() throws Exception {
+        if (Files.exists(workDirectory)) {
+            try (Stream<Path> paths = Files.walk(workDirectory)) {
+                for (Path path : paths.sorted((a, b) -> b.compareTo(a)).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+        Files.createDirectories(workDirectory);
+
+        List<String> command = command("default", 0);
+        command.add(1, "-Dspring.context.exit=onRefresh");
+        command.add("--spring.jpa.hibernate.ddl-auto=update");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(workDirectory.resolve("prepare.log").toFile())
+                .start();
+        if (!process.waitFor(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS) || process.exitValue() != 0) {
+            process.destroyForcibly();
+            throw new IllegalStateException("스키마 준비 실패: " + workDirectory.resolve("prepare.log"));
+        }
+    }
+
+    Map<String, Object> measure(String mode, int runs) throws Exception {
+        double[] firstRequestMillis = new double[runs];
+        double[] startedSeconds = new double[runs];
+        for (int run = 0; run < runs; run++) {
+            int port = freePort();
+            Path log = workDirectory.resolve(mode + "-" + run + ".log");
+            long begin = System.nanoTime();
+            Process process = new ProcessBuilder(command(mode, port))
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile())
+                    .start();
+            try {
+                awaitFirstSuccess(process, port, mode + "-" + run);
+                firstRequestMillis[run] = (System.nanoTime() - begin) / 1e6;
+            } finally {
+                stop(process);
+            }
+            startedSeconds[run] = startedSeconds(log);
+            System.out.printf("[startup] %s #%d: first request %.0fms (context %.2fs)%n",
+                    mode, run, firstRequestMillis[run], startedSeconds[run]);
+        }
+        Arrays.sort(firstRequestMillis);
+        Arrays.sort(startedSeconds);
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("firstRequestMedianMs", Math.round(firstRequestMillis[runs / 2]));
+        row.put("firstRequestMinMs", Math.round(firstRequestMillis[0]));
+        row.put("firstRequestMaxMs", Math.round(firstRequestMillis[runs - 1]));
+        row.put("contextStartedMedianSec", startedSeconds[runs / 2]);
+        return row;
+    }
+
+    private List<String> command(String mode, int port) {
+        String javaExecutable = ProcessHandle.current().info().command().orElse("java");
+        List<String> command = new ArrayList<>(List.of(javaExecutable));
+        if (mode.endsWith("-cds")) {
+            if (!Files.exists(cdsArchive)) {
+                throw new IllegalStateException("CDS 아카이브가 없습니다. gradle cdsArchive 를 먼저 실행하세요: " + cdsArchive);
+            }
+            command.add("-XX:SharedArchiveFile=" + cdsArchive);
+        }
+        if (mode.contains("-aot")) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        // 아카이브는 학습 때와 같은 클래스패스에서만 쓰인다 (cdsArchive 태스크와 순서까지 같게)
+        String classpath = driverClasspath.isEmpty() ? appJar.toString() : appJar + File.pathSeparator + driverClasspath;
+        command.addAll(List.of("-cp", classpath, MAIN_CLASS, "--server.port=" + port));
+        if (mode.startsWith("prod")) {
+            command.add("--spring.profiles.active=prod");
+        }
+        command.addAll(List.of(
+                "--spring.datasource.url=jdbc:h2:file:" + workDirectory.resolve("db/expert") + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--admin.audit.journal.dir=" + workDirectory.resolve("audit-journal")));
+        return command;
+    }
+
+    private void awaitFirstSuccess(Process process, int port, String email) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/signup"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + email + "@startup.test\",\"password\":\"Password1\",\"userRole\":\"USER\"}"))
+                .build();
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(email + " 프로세스가 요청을 받기 전에 종료됐습니다 (exit " + process.exitValue() + ")");
+            }
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() / 100 == 2) {
+                    return;
+                }
+                throw new IllegalStateException(email + " 첫 요청 실패: " + response.statusCode() + " " + response.body());
+            } catch (ConnectException | HttpTimeoutException e) {
+                // 아직 포트가 열리지 않았다
+                Thread.sleep(5);
+            }
+        }
+        throw new IllegalStateException(email + " " + TIMEOUT.toSeconds() + "초 안에 응답하지 않았습니다");
+    }
+
+    private void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static double startedSeconds(Path log) throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(log, StandardCharsets.ISO_8859_1));
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.expert.perf;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.VirtualThreads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * perf 프로필 전용 날씨 API 스텁. WeatherClient 가 부르는 /f-api/weather.json 과 같은 모양으로
+ * 1년치(MM-dd) 날씨를 latency 만큼 기다렸다가 돌려준다. weather.base-url 을 이 서버로 돌려 쓴다.
+ * perf 소스셋에 있어 bootJar 에는 들어가지 않는다.
+ */
+@Slf4j
+@Component
+@Profile("perf")
+public class WeatherStubServer {
+
+    private static final String PATH = "/f-api/weather.json";
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy"};
+
+    private final int port;
+    private final Duration latency;
+    private final boolean virtualThreads;
+    private final byte[] body;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public WeatherStubServer(
+            @Value("${perf.weather-stub.port:18089}") int port,
+            @Value("${perf.weather-stub.latency:50ms}") Duration latency,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.port = port;
+        this.latency = latency;
+        this.virtualThreads = virtualThreads;
+        this.body = buildBody();
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        // latency 동안 잠드는 요청이 서로를 막지 않도록 요청마다 스레드를 쓴다
+        ThreadFactory virtual = virtualThreads ? VirtualThreads.factory("weather-stub") : null;
+        executor = virtual != null ? Executors.newCachedThreadPool(virtual) : Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext(PATH, this::handle);
+        server.start();
+        log.info("날씨 API 스텁 시작: http://localhost:{}{} (latency={}ms)", port, PATH, latency.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!latency.isZero()) {
+                Thread.sleep(latency.toMillis());
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] buildBody() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        StringBuilder json = new StringBuilder("[");
+        // 윤년 기준으로 02-29 까지 포함한다
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int day = 0; day < 366; day++, date = date.plusDays(1)) {
+            if (day > 0) {
+                json.append(',');
+            }
+            json.append("{\"date\":\"").append(date.format(formatter))
+                    .append("\",\"weather\":\"").append(WEATHERS[day % WEATHERS.length]).append("\"}");
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.metrics.MethodLatencyRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodLatencyAspectTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MethodLatencyRegistry registry = new MethodLatencyRegistry(true, 2, meterRegistry);
+
+    @Test
+    void LatencyTracked_메서드의_호출과_예외를_기록하고_Micrometer_에_노출한다() {
+        // given
+        TrackedFixture fixture = proxy(new TrackedFixture());
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            fixture.work(i);
+        }
+        assertThrows(IllegalStateException.class, fixture::fail);
+
+        // then
+        List<MethodLatencyRegistry.MethodLatency> latencies = registry.snapshot();
+        assertEquals(List.of("TrackedFixture#work", "TrackedFixture#fail"),
+                latencies.stream().map(MethodLatencyRegistry.MethodLatency::name).sorted((a, b) -> b.compareTo(a)).toList());
+        assertEquals(10, count(latencies, "TrackedFixture#work"));
+        assertEquals(1, count(latencies, "TrackedFixture#fail"));
+
+        assertEquals(10, meterRegistry.get("method.calls").tag("method", "work").functionCounter().count());
+        double p99 = meterRegistry.get("method.latency").tag("method", "work").tag("quantile", "0.99")
+                .timeGauge().value(TimeUnit.NANOSECONDS);
+        assertTrue(p99 > 0);
+    }
+
+    @Test
+    void 비활성화되면_기록하지_않는다() {
+        // given
+        MethodLatencyRegistry disabled = new MethodLatencyRegistry(false, 1, new SimpleMeterRegistry());
+        AspectJProxyFactory factory = new AspectJProxyFactory(new TrackedFixture());
+        factory.addAspect(new MethodLatencyAspect(disabled));
+        TrackedFixture fixture = factory.getProxy();
+
+        // when
+        fixture.work(1);
+
+        // then
+        assertTrue(disabled.snapshot().isEmpty());
+    }
+
+    private TrackedFixture proxy(TrackedFixture target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MethodLatencyAspect(registry));
+        return factory.getProxy();
+    }
+
+    private long count(List<MethodLatencyRegistry.MethodLatency> latencies, String name) {
+        return latencies.stream().filter(latency -> latency.name().equals(name)).findFirst().orElseThrow()
+                .snapshot().count();
+    }
+
+    @LatencyTracked
+    static class TrackedFixture {
+
+        public int work(int value) {
+            return value * 2;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("실패");
+        }
+    }
+}
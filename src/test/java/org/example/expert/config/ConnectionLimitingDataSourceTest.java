@@ -0,0 +1,53 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ConnectionLimitingDataSourceTest {
+
+    @Test
+    void 허가가_없으면_기다리다_시간_초과로_실패하고_close_하면_돌려준다() throws SQLException {
+        // given
+        DataSource target = mock(DataSource.class);
+        Connection physical = mock(Connection.class);
+        given(target.getConnection()).willReturn(physical);
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, Duration.ofMillis(50));
+
+        // when
+        Connection first = dataSource.getConnection();
+
+        // then
+        assertEquals(0, dataSource.getAvailablePermits());
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        first.close();
+        first.close();
+        verify(physical, times(2)).close();
+        assertEquals(1, dataSource.getAvailablePermits());
+        dataSource.getConnection().close();
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void 풀에서_커넥션을_못_받으면_허가를_돌려준다() throws SQLException {
+        // given
+        DataSource target = mock(DataSource.class);
+        given(target.getConnection()).willThrow(new SQLTransientConnectionException("pool timeout"));
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 2, Duration.ofMillis(50));
+
+        // when & then
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+}
@@ -0,0 +1,213 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.cache.ResourceVersionCache;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내장 H2 두 개(primary, replica)에 각자 이름을 넣어 두고 어느 쪽에서 읽었는지 확인한다
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private SwitchableDataSource replica;
+    private RecentWriters recentWriters;
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("rw-primary-" + System.nanoTime(), "primary");
+        replica = new SwitchableDataSource(database("rw-replica-" + System.nanoTime(), "replica"));
+        recentWriters = new RecentWriters(Duration.ofMillis(300));
+        routing = new ReadWriteRoutingDataSource(primary, List.of(replica), recentWriters);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        RequestContextHolder.resetRequestAttributes();
+        routing.close();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_복제본에서_나머지는_primary_에서_실행한다() {
+        assertEquals("replica", readOnlyTransaction.execute(status -> node()));
+        assertEquals("primary", writeTransaction.execute(status -> node()));
+        // 트랜잭션 밖은 primary
+        assertEquals("primary", node());
+    }
+
+    @Test
+    void 쓰기를_커밋한_사용자는_창이_닫힐_때까지_primary_에서_읽는다() throws InterruptedException {
+        // given
+        loginAs(1L);
+        writeTransaction.executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO node (name) VALUES ('written')"));
+
+        // when & then
+        assertEquals("primary", readOnlyTransaction.execute(status -> node()));
+        loginAs(2L);
+        assertEquals("replica", readOnlyTransaction.execute(status -> node()));
+
+        Thread.sleep(400);
+        loginAs(1L);
+        assertEquals("replica", readOnlyTransaction.execute(status -> node()));
+    }
+
+    @Test
+    void 롤백한_쓰기는_창을_열지_않는다() {
+        // given
+        loginAs(1L);
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO node (name) VALUES ('rolled-back')");
+            status.setRollbackOnly();
+        });
+
+        // when & then
+        assertEquals("replica", readOnlyTransaction.execute(status -> node()));
+    }
+
+    @Test
+    void 요청_스레드_밖에서_커밋된_쓰기는_markWritten_으로_창을_연다() throws Exception {
+        // given: 요청 속성이 없는 작업 스레드의 쓰기 (댓글 묶음 INSERT 등)
+        Thread worker = new Thread(() -> writeTransaction.executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO node (name) VALUES ('batched')")));
+        worker.start();
+        worker.join();
+        loginAs(1L);
+        assertEquals("replica", readOnlyTransaction.execute(status -> node()));
+
+        // when: 쓰기를 받은 서비스가 창을 연다
+        recentWriters.markWritten(1L);
+
+        // then
+        assertEquals("primary", readOnlyTransaction.execute(status -> node()));
+    }
+
+    @Test
+    void 복제본에서_읽은_값도_로컬_캐시를_채운다() {
+        // given
+        ResourceVersionCache cache = new ResourceVersionCache(100, Duration.ofMinutes(1), Duration.ofMillis(300));
+
+        // when
+        ResourceVersion fromReplica = readOnlyTransaction.execute(status -> cache.get("node", () -> ResourceVersion.of(node(), null)));
+        ResourceVersion cached = readOnlyTransaction.execute(status -> cache.get("node", () -> fail("캐시에서 나와야 한다")));
+
+        // then
+        assertEquals("\"replica\"", fromReplica.getEtag());
+        assertEquals("\"replica\"", cached.getEtag());
+    }
+
+    @Test
+    void 쓰기로_비운_키는_복제_지연_한도_동안_복제본_값으로_다시_채우지_않는다() throws InterruptedException {
+        // given: primary 에는 반영됐지만 복제본은 아직 따라잡지 못했다 (primary/replica 이름이 다른 값)
+        ResourceVersionCache cache = new ResourceVersionCache(100, Duration.ofMinutes(1), Duration.ofMillis(300));
+        readOnlyTransaction.execute(status -> cache.get("node", () -> ResourceVersion.of(node(), null)));
+        loginAs(1L);
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO node (name) VALUES ('written')");
+            cache.evict("node");
+        });
+
+        // when: 다른 사용자의 복제본 읽기는 캐시에 남지 않고, 작성자의 primary 읽기는 캐시된다
+        loginAs(2L);
+        ResourceVersion fromReplica = readOnlyTransaction.execute(status -> cache.get("node", () -> ResourceVersion.of(node(), null)));
+        loginAs(1L);
+        ResourceVersion fromPrimary = readOnlyTransaction.execute(status -> cache.get("node", () -> ResourceVersion.of(node(), null)));
+        loginAs(2L);
+        ResourceVersion cached = readOnlyTransaction.execute(status -> cache.get("node", () -> fail("캐시에서 나와야 한다")));
+
+        // then
+        assertEquals("\"replica\"", fromReplica.getEtag());
+        assertEquals("\"primary\"", fromPrimary.getEtag());
+        assertEquals("\"primary\"", cached.getEtag());
+        assertFalse(ReadWriteRoutingDataSource.isReplicaRead());
+
+        // 한도가 지나면 복제본 읽기로 다시 채운다
+        cache.evict("node");
+        Thread.sleep(400);
+        readOnlyTransaction.execute(status -> cache.get("node", () -> ResourceVersion.of(node(), null)));
+        assertEquals("\"replica\"", readOnlyTransaction.execute(status -> cache.get("node", () -> fail("캐시에서 나와야 한다"))).getEtag());
+    }
+
+    @Test
+    void 복제본이_내려가면_primary_에서_읽고_헬스_체크가_통과하면_다시_보낸다() {
+        // given
+        replica.down = true;
+
+        // when & then: 커넥션 실패로 바로 빠진다
+        assertEquals("primary", readOnlyTransaction.execute(status -> node()));
+        assertEquals(0, routing.getHealthyReplicaCount());
+        routing.checkHealth(Duration.ofSeconds(1));
+        assertEquals("primary", readOnlyTransaction.execute(status -> node()));
+
+        replica.down = false;
+        routing.checkHealth(Duration.ofSeconds(1));
+        assertEquals(1, routing.getHealthyReplicaCount());
+        assertEquals("replica", readOnlyTransaction.execute(status -> node()));
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node ORDER BY id LIMIT 1", String.class);
+    }
+
+    private void loginAs(Long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", userId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static DataSource database(String name, String node) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", node);
+        return dataSource;
+    }
+
+    private static class SwitchableDataSource extends DelegatingDataSource {
+
+        private volatile boolean down;
+
+        private SwitchableDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLTransientConnectionException("replica down");
+            }
+            return super.getConnection();
+        }
+    }
+}
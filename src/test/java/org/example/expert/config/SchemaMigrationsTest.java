@@ -0,0 +1,87 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ddl-auto 이전 스키마(제약/컬럼 없음)를 직접 만들어 두고 마이그레이션을 돌린다
+ */
+class SchemaMigrationsTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-" + System.nanoTime() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void 중복_담당자를_먼저_등록된_행만_남기고_지운_뒤_유니크_제약을_건다() {
+        // given
+        createLegacyTables();
+        jdbcTemplate.update("INSERT INTO todos (id, title, modified_at) VALUES (1, 'a', TIMESTAMP '2024-01-01 10:00:00')");
+        jdbcTemplate.update("INSERT INTO managers (id, todo_id, user_id) VALUES (1, 1, 10), (2, 1, 10), (3, 1, 11), (4, 1, 10)");
+
+        // when
+        new SchemaMigrations(dataSource).migrate();
+
+        // then
+        assertEquals(List.of(1L, 3L), jdbcTemplate.queryForList("SELECT id FROM managers ORDER BY id", Long.class));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update("INSERT INTO managers (id, todo_id, user_id, todo_modified_at) " +
+                        "VALUES (5, 1, 11, TIMESTAMP '2024-01-01 10:00:00')"));
+    }
+
+    @Test
+    void 담당자_정렬_키_컬럼을_추가하고_일정_수정_시각으로_채운_뒤_NOT_NULL_로_바꾼다() {
+        // given: 정렬 키가 생기기 전의 담당자 행
+        createLegacyTables();
+        jdbcTemplate.update("INSERT INTO todos (id, title, modified_at) VALUES " +
+                "(1, 'a', TIMESTAMP '2024-01-01 10:00:00'), (2, 'b', TIMESTAMP '2024-02-01 10:00:00')");
+        jdbcTemplate.update("INSERT INTO managers (id, todo_id, user_id) VALUES (1, 1, 10), (2, 2, 10), (3, 2, 11)");
+
+        // when
+        new SchemaMigrations(dataSource).migrate();
+
+        // then
+        assertEquals(List.of("2024-01-01T10:00", "2024-02-01T10:00", "2024-02-01T10:00"),
+                jdbcTemplate.queryForList("SELECT todo_modified_at FROM managers ORDER BY id", LocalDateTime.class)
+                        .stream().map(LocalDateTime::toString).toList());
+        assertThrows(DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update("INSERT INTO managers (id, todo_id, user_id) VALUES (4, 1, 12)"));
+    }
+
+    @Test
+    void 테이블이_없는_새_DB_에서는_기록만_하고_다시_실행하지_않는다() {
+        // when
+        new SchemaMigrations(dataSource).migrate();
+        createLegacyTables();
+        jdbcTemplate.update("INSERT INTO managers (id, todo_id, user_id) VALUES (1, 1, 10), (2, 1, 10)");
+        new SchemaMigrations(dataSource).migrate();
+
+        // then: 두 번째 기동에서는 건드리지 않는다
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM managers", Integer.class));
+        assertEquals(List.of("managers-todo-modified-at", "managers-unique-todo-user"),
+                jdbcTemplate.queryForList("SELECT id FROM schema_migrations ORDER BY id", String.class));
+    }
+
+    private void createLegacyTables() {
+        jdbcTemplate.execute("CREATE TABLE todos (id BIGINT AUTO_INCREMENT PRIMARY KEY, title VARCHAR(255), " +
+                "modified_at DATETIME(6))");
+        jdbcTemplate.execute("CREATE TABLE managers (id BIGINT AUTO_INCREMENT PRIMARY KEY, todo_id BIGINT NOT NULL, " +
+                "user_id BIGINT NOT NULL)");
+    }
+}
@@ -0,0 +1,237 @@
+package org.example.expert.domain.activity.stream;
+
+import org.example.expert.domain.activity.event.TodoActivityEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActivityStreamHubTest {
+
+    private ActivityStreamHub hub;
+
+    private ActivityStreamHub startHub(int dispatchQueueCapacity, int bufferSize, Duration heartbeat) {
+        return startHub(dispatchQueueCapacity, bufferSize, heartbeat, Duration.ofMinutes(1));
+    }
+
+    private ActivityStreamHub startHub(int dispatchQueueCapacity, int bufferSize, Duration heartbeat, Duration sendTimeout) {
+        hub = new ActivityStreamHub(dispatchQueueCapacity, bufferSize, 4, 64, sendTimeout, heartbeat,
+                Duration.ofMinutes(1), false);
+        hub.start();
+        return hub;
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.stop();
+    }
+
+    @Test
+    @DisplayName("수천 명의 구독자에게 자기 일정 이벤트와 전체 피드 이벤트가 모두 전달된다")
+    void publish_FanOutToThousandsOfSubscribers() throws Exception {
+        // given
+        startHub(10_000, 256, Duration.ofMinutes(1));
+        int todoCount = 50;
+        int subscribersPerTodo = 100;
+        int globalSubscribers = 1_000;
+        int eventsPerTodo = 10;
+
+        List<CountingSink> todoSinks = new ArrayList<>();
+        for (long todoId = 1; todoId <= todoCount; todoId++) {
+            for (int i = 0; i < subscribersPerTodo; i++) {
+                CountingSink sink = new CountingSink();
+                hub.subscribe(todoId, sink);
+                todoSinks.add(sink);
+            }
+        }
+        List<CountingSink> globalSinks = new ArrayList<>();
+        for (int i = 0; i < globalSubscribers; i++) {
+            CountingSink sink = new CountingSink();
+            hub.subscribe(null, sink);
+            globalSinks.add(sink);
+        }
+        assertEquals(todoCount * subscribersPerTodo + globalSubscribers, hub.getSubscriberCount());
+
+        // when
+        for (int i = 0; i < eventsPerTodo; i++) {
+            for (long todoId = 1; todoId <= todoCount; todoId++) {
+                hub.publish(new TodoActivityEvent(TodoActivityEvent.Type.COMMENT_CREATED, todoId, (long) i, 1L));
+            }
+        }
+
+        // then
+        awaitTrue(() -> todoSinks.stream().allMatch(sink -> sink.events.get() == eventsPerTodo)
+                && globalSinks.stream().allMatch(sink -> sink.events.get() == eventsPerTodo * todoCount));
+        assertTrue(todoSinks.stream().allMatch(sink -> sink.resyncs.get() == 0));
+        assertEquals(0, hub.getDroppedEvents());
+    }
+
+    @Test
+    @DisplayName("느린 구독자는 버퍼가 넘치면 RESYNC 를 받고, 다른 구독자는 영향을 받지 않는다")
+    void publish_SlowSubscriberGetsResync() throws Exception {
+        // given
+        startHub(10_000, 4, Duration.ofMinutes(1));
+        CountDownLatch release = new CountDownLatch(1);
+        CountingSink slow = new CountingSink() {
+            @Override
+            public void send(long sequence, TodoActivityEvent event) throws IOException {
+                awaitQuietly(release);
+                super.send(sequence, event);
+            }
+        };
+        CountingSink fast = new CountingSink();
+        hub.subscribe(1L, slow);
+        hub.subscribe(1L, fast);
+
+        // when
+        for (int i = 1; i <= 100; i++) {
+            hub.publish(new TodoActivityEvent(TodoActivityEvent.Type.TODO_UPDATED, 1L, 1L, 1L));
+            int expected = i;
+            awaitTrue(() -> fast.events.get() == expected);
+        }
+        release.countDown();
+
+        // then
+        awaitTrue(() -> slow.resyncs.get() > 0);
+        assertTrue(slow.events.get() < 100);
+        assertEquals(0, fast.resyncs.get());
+    }
+
+    @Test
+    @DisplayName("sender 스레드 수보다 많은 구독자가 전송에 막혀도 send-timeout 이 지나면 끊기고 다른 구독자는 계속 받는다")
+    void publish_StuckSubscribersAreDisconnected() throws Exception {
+        // given: sender 4 개보다 많은 6 명이 전송에서 멈춘다 (인터럽트로만 풀린다)
+        startHub(10_000, 256, Duration.ofMinutes(1), Duration.ofMillis(200));
+        CountDownLatch never = new CountDownLatch(1);
+        List<CountingSink> stuck = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            CountingSink sink = new CountingSink() {
+                @Override
+                public void send(long sequence, TodoActivityEvent event) throws IOException {
+                    awaitQuietly(never);
+                    throw new IOException("interrupted");
+                }
+            };
+            hub.subscribe(1L, sink);
+            stuck.add(sink);
+        }
+        CountingSink healthy = new CountingSink();
+        hub.subscribe(1L, healthy);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            hub.publish(new TodoActivityEvent(TodoActivityEvent.Type.TODO_UPDATED, 1L, 1L, 1L));
+        }
+
+        // then
+        awaitTrue(() -> healthy.events.get() == 10);
+        awaitTrue(() -> stuck.stream().allMatch(sink -> sink.closed.get()));
+        assertEquals(1, hub.getSubscriberCount());
+        assertEquals(6, hub.getSlowDisconnects());
+    }
+
+    @Test
+    @DisplayName("dispatch 큐가 가득 차도 발행은 블로킹되지 않고, 버린 이벤트를 세고 RESYNC 를 보낸다")
+    void publish_NonBlockingWhenQueueFull() throws Exception {
+        // given
+        startHub(1, 256, Duration.ofMinutes(1));
+        CountingSink sink = new CountingSink();
+        hub.subscribe(null, sink);
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < 100_000; i++) {
+            hub.publish(new TodoActivityEvent(TodoActivityEvent.Type.TODO_UPDATED, 1L, 1L, 1L));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertTrue(elapsedMillis < 5_000, "publish took " + elapsedMillis + "ms");
+        assertTrue(hub.getDroppedEvents() > 0);
+        hub.publish(new TodoActivityEvent(TodoActivityEvent.Type.TODO_UPDATED, 1L, 1L, 1L));
+        awaitTrue(() -> sink.resyncs.get() > 0);
+    }
+
+    @Test
+    @DisplayName("heartbeat 가 주기적으로 전송되고, 끊어진 구독자는 제거된다")
+    void heartbeat_RemovesDisconnectedSubscriber() throws Exception {
+        // given
+        startHub(10_000, 256, Duration.ofMillis(50));
+        CountingSink alive = new CountingSink();
+        CountingSink disconnected = new CountingSink();
+        disconnected.broken.set(true);
+        hub.subscribe(1L, alive);
+        hub.subscribe(1L, disconnected);
+
+        // when & then
+        awaitTrue(() -> alive.heartbeats.get() > 0);
+        awaitTrue(() -> hub.getSubscriberCount() == 1);
+        assertTrue(disconnected.closed.get());
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("condition not met within 10s");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class CountingSink implements ActivitySink {
+        final AtomicInteger events = new AtomicInteger();
+        final AtomicInteger resyncs = new AtomicInteger();
+        final AtomicInteger heartbeats = new AtomicInteger();
+        final AtomicBoolean broken = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        @Override
+        public void send(long sequence, TodoActivityEvent event) throws IOException {
+            check();
+            events.incrementAndGet();
+        }
+
+        @Override
+        public void sendResync() throws IOException {
+            check();
+            resyncs.incrementAndGet();
+        }
+
+        @Override
+        public void sendHeartbeat() throws IOException {
+            check();
+            heartbeats.incrementAndGet();
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+
+        private void check() throws IOException {
+            if (broken.get()) {
+                throw new IOException("disconnected");
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.expert.domain.activity.stream;
+
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.activity.event.TodoActivityEvent;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실제 Tomcat 소켓으로 SSE 를 연다. 읽지 않는 클라이언트가 sender 스레드 수보다 많아도
+ * 막힌 쓰기가 send-timeout 뒤에 풀려 읽는 클라이언트는 계속 이벤트를 받아야 한다.
+ * send-timeout 은 SSE 연결에만 걸리고 다른 요청은 커넥터 기본 타임아웃을 쓴다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "activity.stream.sender-threads=2",
+        "activity.stream.send-timeout=500ms",
+        "activity.stream.subscriber-buffer-size=16"
+})
+@ActiveProfiles("test")
+class ActivityStreamSocketTest {
+
+    private static final long MARKER_TODO_ID = 424_242L;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private ActivityStreamHub hub;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final List<Socket> sockets = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+
+    @Test
+    void 읽지_않는_클라이언트가_sender_스레드보다_많아도_다른_구독자는_계속_받는다() throws Exception {
+        // given: 읽지 않는 클라이언트 3 명 (sender 2 개), 계속 읽는 클라이언트 1 명
+        for (int i = 0; i < 3; i++) {
+            open(256);
+        }
+        Socket healthy = open(64 * 1024);
+        AtomicBoolean markerReceived = new AtomicBoolean();
+        Thread reader = new Thread(() -> readUntilMarker(healthy, markerReceived), "sse-reader");
+        reader.setDaemon(true);
+        reader.start();
+        awaitTrue(() -> hub.getSubscriberCount() == 4);
+
+        // when: 읽지 않는 클라이언트의 소켓 버퍼가 찰 때까지 발행한다
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        while (hub.getSubscriberCount() > 1 && System.nanoTime() < deadline) {
+            hub.publish(new TodoActivityEvent(TodoActivityEvent.Type.TODO_UPDATED, 1L, 1L, 1L));
+            Thread.sleep(1);
+        }
+        assertEquals(1, hub.getSubscriberCount());
+
+        // then: 막힌 쓰기가 sender 를 붙잡고 있지 않으므로 이후 이벤트가 전달된다
+        hub.publish(new TodoActivityEvent(TodoActivityEvent.Type.TODO_UPDATED, MARKER_TODO_ID, 1L, 1L));
+        awaitTrue(markerReceived::get);
+    }
+
+    @Test
+    void SSE_쓰기_타임아웃은_다른_요청의_느린_본문에는_걸리지_않는다() throws Exception {
+        // given: send-timeout(500ms) 보다 오래 멈췄다 이어지는 요청 본문
+        String body = "{\"email\":\"slow-upload@test.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}";
+        Socket socket = new Socket();
+        sockets.add(socket);
+        socket.connect(new InetSocketAddress("localhost", port));
+        OutputStream out = socket.getOutputStream();
+        out.write(("POST /auth/signup HTTP/1.1\r\n" +
+                "Host: localhost\r\n" +
+                "Content-Type: application/json\r\n" +
+                "Content-Length: " + body.getBytes(StandardCharsets.UTF_8).length + "\r\n\r\n" +
+                body.substring(0, 10)).getBytes(StandardCharsets.UTF_8));
+        out.flush();
+
+        // when
+        Thread.sleep(1_500);
+        out.write(body.substring(10).getBytes(StandardCharsets.UTF_8));
+        out.flush();
+
+        // then
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        assertEquals("HTTP/1.1 200", reader.readLine().substring(0, 12));
+    }
+
+    private Socket open(int receiveBufferSize) throws IOException {
+        Socket socket = new Socket();
+        sockets.add(socket);
+        socket.setReceiveBufferSize(receiveBufferSize);
+        socket.connect(new InetSocketAddress("localhost", port));
+        String request = "GET /todos/stream HTTP/1.1\r\n" +
+                "Host: localhost\r\n" +
+                "Accept: text/event-stream\r\n" +
+                "Authorization: " + jwtUtil.createToken(1L, "stream@test.com", UserRole.USER) + "\r\n\r\n";
+        OutputStream out = socket.getOutputStream();
+        out.write(request.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+        return socket;
+    }
+
+    private static void readUntilMarker(Socket socket, AtomicBoolean markerReceived) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.contains("\"todoId\":" + MARKER_TODO_ID)) {
+                    markerReceived.set(true);
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // 테스트 종료로 소켓이 닫힘
+        }
+    }
+
+    private static void awaitTrue(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("condition not met within 10s");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 서버 소켓 송신 버퍼를 줄여 읽지 않는 클라이언트에게 쓰는 쪽이 빨리 막히게 한다
+     */
+    @TestConfiguration
+    static class SmallSendBuffer {
+
+        @Bean
+        WebServerFactoryCustomizer<TomcatServletWebServerFactory> smallSendBufferCustomizer() {
+            return factory -> factory.addConnectorCustomizers(
+                    connector -> connector.setProperty("socket.txBufSize", "4096"));
+        }
+    }
+}
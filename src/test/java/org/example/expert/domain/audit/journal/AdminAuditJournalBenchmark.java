@@ -0,0 +1,106 @@
+package org.example.expert.domain.audit.journal;
+
+import org.example.expert.domain.audit.enums.AuditSinkType;
+import org.example.expert.domain.audit.repository.AdminAccessLogJdbcRepository.AdminAccessLogInsert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 감사 저널 append 처리량과 조회 지연시간
+ * 기록 2,000,000 건 (7일치, 어드민 50명 중 한 명은 드물게 등장), 본문 약 200B
+ */
+@Tag("benchmark")
+class AdminAuditJournalBenchmark {
+
+    private static final int RECORDS = 2_000_000;
+    private static final int ADMINS = 50;
+    private static final long RARE_ADMIN = 999L;
+    private static final int BATCH = 200;
+    private static final int QUERIES = 2_000;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void append_throughput_and_query_latency() throws Exception {
+        AdminAuditJournal journal = new AdminAuditJournal(AuditSinkType.JOURNAL, directory.toString(),
+                DataSize.ofMegabytes(64), DataSize.ofKilobytes(64), DataSize.ofGigabytes(10), Duration.ofDays(30));
+        journal.open();
+
+        LocalDateTime start = LocalDateTime.now().minusDays(7);
+        long spanMillis = Duration.ofDays(7).toMillis();
+        String body = "{\"ids\":[" + "1234,".repeat(38) + "1]}";
+        Random random = new Random(42);
+
+        long begin = System.nanoTime();
+        List<AdminAccessLogInsert> batch = new ArrayList<>(BATCH);
+        for (int i = 0; i < RECORDS; i++) {
+            long userId = random.nextInt(10_000) == 0 ? RARE_ADMIN : random.nextInt(ADMINS) + 1;
+            LocalDateTime occurredAt = start.plusNanos(spanMillis * 1_000_000L / RECORDS * i);
+            batch.add(new AdminAccessLogInsert(userId, "admin" + userId + "@test.com", "PATCH", "/admin/users/" + i + "/role",
+                    200, body, "{\"affectedCount\":1}", null, 2, occurredAt));
+            if (batch.size() == BATCH) {
+                journal.append(batch);
+                batch.clear();
+            }
+        }
+        journal.append(batch);
+        long appendNanos = System.nanoTime() - begin;
+        System.out.printf("[audit-journal] append: records=%d segments=%d time=%dms throughput=%.0f records/s%n",
+                RECORDS, journal.segmentCount(), appendNanos / 1_000_000, RECORDS / (appendNanos / 1e9));
+
+        long startMillis = start.atZone(ZONE).toInstant().toEpochMilli();
+        long hour = Duration.ofHours(1).toMillis();
+
+        // 임의의 1시간 구간 첫 100 건
+        report("range 1h limit 100", QUERIES, () -> {
+            long from = startMillis + (long) (random.nextDouble() * (spanMillis - hour));
+            return journal.query(null, from, from + hour, -1, 100).size();
+        });
+        // 자주 등장하는 어드민의 하루치 첫 100 건
+        report("user(frequent) 1d limit 100", QUERIES, () -> {
+            long from = startMillis + (long) (random.nextDouble() * (spanMillis - 24 * hour));
+            return journal.query((long) random.nextInt(ADMINS) + 1, from, from + 24 * hour, -1, 100).size();
+        });
+        // 드물게 등장하는 어드민의 7일 전체 (대부분 블록을 userId 인덱스로 건너뛴다)
+        report("user(rare) 7d all", 50, () ->
+                journal.query(RARE_ADMIN, startMillis, startMillis + spanMillis + 1, -1, 10_000).size());
+        // 인덱스 없이 전체를 훑는 경우와 비교: 존재하지 않는 userId 는 모든 블록에서 건너뛰고, null 은 모두 읽는다
+        report("full scan 7d (no user filter, limit all)", 3, () ->
+                journal.query(null, startMillis, startMillis + spanMillis + 1, -1, Integer.MAX_VALUE).size());
+
+        journal.close();
+    }
+
+    private void report(String name, int queries, QueryRun run) {
+        for (int i = 0; i < Math.min(queries, 100); i++) {
+            run.run();
+        }
+        long[] latencies = new long[queries];
+        long rows = 0;
+        for (int i = 0; i < queries; i++) {
+            long begin = System.nanoTime();
+            rows += run.run();
+            latencies[i] = System.nanoTime() - begin;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("[audit-journal] %s: avgRows=%.1f p50=%dus p99=%dus%n",
+                name, (double) rows / queries, latencies[queries / 2] / 1_000, latencies[queries * 99 / 100] / 1_000);
+    }
+
+    private interface QueryRun {
+        int run();
+    }
+}
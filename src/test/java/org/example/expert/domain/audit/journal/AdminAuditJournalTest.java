@@ -0,0 +1,127 @@
+package org.example.expert.domain.audit.journal;
+
+import org.example.expert.domain.audit.enums.AuditSinkType;
+import org.example.expert.domain.audit.repository.AdminAccessLogJdbcRepository.AdminAccessLogInsert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminAuditJournalTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.now().minusHours(1).withNano(0);
+
+    @TempDir
+    Path directory;
+
+    private AdminAuditJournal journal;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void 시간_범위와_userId_로_조회하고_offset_으로_이어서_읽는다() throws IOException {
+        // given: 1초 간격, userId 1~3 번갈아
+        journal = open(DataSize.ofMegabytes(1), DataSize.ofGigabytes(1), Duration.ofDays(1));
+        journal.append(logs(0, 300));
+
+        // when
+        List<AuditJournalEntry> user2 = journal.query(2L, millis(BASE.plusSeconds(30)), millis(BASE.plusSeconds(60)), -1, 100);
+        List<AuditJournalEntry> firstPage = journal.query(null, millis(BASE), millis(BASE.plusSeconds(10)), -1, 4);
+        List<AuditJournalEntry> secondPage = journal.query(null, millis(BASE), millis(BASE.plusSeconds(10)),
+                firstPage.get(3).offset(), 100);
+
+        // then
+        assertEquals(10, user2.size());
+        assertTrue(user2.stream().allMatch(entry -> entry.userId() == 2L));
+        assertEquals("/admin/test/31", user2.get(0).uri());
+        assertEquals("{\"seq\":31}", user2.get(0).requestBody());
+        assertNull(user2.get(0).errorMessage());
+
+        assertEquals(List.of("/admin/test/0", "/admin/test/1", "/admin/test/2", "/admin/test/3"), uris(firstPage));
+        assertEquals(6, secondPage.size());
+        assertEquals("/admin/test/4", secondPage.get(0).uri());
+    }
+
+    @Test
+    void 세그먼트가_가득_차면_다음_세그먼트로_넘기고_다시_열어도_그대로_조회된다() throws IOException {
+        // given: 4KB 세그먼트
+        journal = open(DataSize.ofKilobytes(4), DataSize.ofGigabytes(1), Duration.ofDays(1));
+        journal.append(logs(0, 200));
+        int segments = journal.segmentCount();
+        journal.close();
+
+        // when: 마지막 세그먼트는 .idx 없이 레코드를 훑어 복구한다
+        journal = open(DataSize.ofKilobytes(4), DataSize.ofGigabytes(1), Duration.ofDays(1));
+        journal.append(logs(200, 10));
+
+        // then
+        assertTrue(segments > 5);
+        List<AuditJournalEntry> all = journal.query(null, millis(BASE), millis(BASE.plusSeconds(1_000)), -1, 1_000);
+        assertEquals(210, all.size());
+        for (int i = 0; i < all.size(); i++) {
+            assertEquals("/admin/test/" + i, all.get(i).uri());
+        }
+        List<AuditJournalEntry> user1 = journal.query(1L, millis(BASE.plusSeconds(100)), millis(BASE.plusSeconds(130)), -1, 100);
+        assertEquals(List.of("/admin/test/102", "/admin/test/105", "/admin/test/108", "/admin/test/111", "/admin/test/114",
+                "/admin/test/117", "/admin/test/120", "/admin/test/123", "/admin/test/126", "/admin/test/129"), uris(user1));
+    }
+
+    @Test
+    void 보존_크기나_기간을_넘은_오래된_세그먼트를_지운다() throws IOException {
+        // given: 세그먼트 4KB, 전체 16KB 까지
+        journal = open(DataSize.ofKilobytes(4), DataSize.ofKilobytes(16), Duration.ofDays(1));
+
+        // when
+        journal.append(logs(0, 300));
+
+        // then: 앞쪽 기록은 지워지고 최근 기록은 남는다
+        assertTrue(journal.segmentCount() <= 5);
+        List<AuditJournalEntry> all = journal.query(null, millis(BASE), millis(BASE.plusSeconds(1_000)), -1, 1_000);
+        assertTrue(all.size() < 300);
+        assertEquals("/admin/test/299", all.get(all.size() - 1).uri());
+        journal.close();
+
+        // given: 보존 기간 1분이면 1시간 전 기록이 담긴 세그먼트는 지운다 (쓰는 중인 세그먼트는 남긴다)
+        journal = open(DataSize.ofKilobytes(4), DataSize.ofGigabytes(1), Duration.ofMinutes(1));
+        assertEquals(1, journal.segmentCount());
+    }
+
+    private AdminAuditJournal open(DataSize segmentSize, DataSize retentionSize, Duration retentionAge) throws IOException {
+        AdminAuditJournal opened = new AdminAuditJournal(AuditSinkType.JOURNAL, directory.toString(), segmentSize,
+                DataSize.ofBytes(512), retentionSize, retentionAge);
+        opened.open();
+        return opened;
+    }
+
+    private List<AdminAccessLogInsert> logs(int from, int count) {
+        List<AdminAccessLogInsert> logs = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            logs.add(new AdminAccessLogInsert((long) (i % 3) + 1, "admin" + (i % 3 + 1) + "@test.com", "PATCH",
+                    "/admin/test/" + i, 200, "{\"seq\":" + i + "}", "{\"ok\":true}", null, 3, BASE.plusSeconds(i)));
+        }
+        return logs;
+    }
+
+    private List<String> uris(List<AuditJournalEntry> entries) {
+        return entries.stream().map(AuditJournalEntry::uri).toList();
+    }
+
+    private long millis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.expert.domain.audit.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.audit.enums.AuditOverflowPolicy;
+import org.example.expert.domain.audit.repository.AdminAccessLogJdbcRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 어드민 요청 스레드가 감사 기록에 쓰는 시간: 기존 동기 직렬화 + 로그 문자열 vs 링 버퍼 record()
+ * 본문 크기 100B / 10KB / 1MB. 기존 방식은 로그 출력 I/O 를 빼고 문자열을 만드는 비용까지만 잰다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdminAccessAuditBenchmark {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int CALLS = 2_000;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void request_thread_cost_by_payload_size() throws Exception {
+        AdminAccessAuditor auditor = new AdminAccessAuditor(new AdminAccessLogJdbcRepository(jdbcTemplate),
+                AdminAccessAuditorTest.databaseSink(), transactionManager, objectMapper, new SimpleMeterRegistry(),
+                true, 8192, 200, Duration.ofMillis(20), 4096, AuditOverflowPolicy.DROP, Duration.ZERO);
+        auditor.start();
+
+        for (int size : new int[]{100, 10_000, 1_000_000}) {
+            Map<String, Object> request = Map.of("ids", List.of(1, 2, 3), "note", "r".repeat(size));
+            Map<String, Object> response = Map.of("payload", "x".repeat(size));
+            int calls = size >= 1_000_000 ? CALLS / 10 : CALLS;
+
+            long[] inline = new long[calls];
+            long[] buffered = new long[calls];
+            long sink = 0;
+            for (int i = 0; i < calls; i++) {
+                long begin = System.nanoTime();
+                String requestLine = String.format("userId=%d, uri=%s, time=%s, requestBody=%s",
+                        1L, "/admin/bench", LocalDateTime.now().format(FORMATTER), objectMapper.writeValueAsString(request));
+                String responseLine = String.format("userId=%d, uri=%s, executionTime=%dms, responseBody=%s",
+                        1L, "/admin/bench", 0L, objectMapper.writeValueAsString(response));
+                inline[i] = System.nanoTime() - begin;
+                sink += requestLine.length() + responseLine.length();
+
+                begin = System.nanoTime();
+                auditor.record(new AdminAccessEvent(1L, "admin@bench.test", "POST", "/admin/bench",
+                        request, response, 200, null, System.currentTimeMillis(), 0));
+                buffered[i] = System.nanoTime() - begin;
+            }
+            Arrays.sort(inline);
+            Arrays.sort(buffered);
+            System.out.printf("[admin-audit] body=%dB inline p50=%dus p99=%dus | ring p50=%dus p99=%dus (sink=%d)%n",
+                    size, inline[calls / 2] / 1_000, inline[calls * 99 / 100] / 1_000,
+                    buffered[calls / 2] / 1_000, buffered[calls * 99 / 100] / 1_000, sink % 10);
+        }
+
+        auditor.stop();
+        System.out.printf("[admin-audit] dropped=%d%n", auditor.getDroppedCount());
+    }
+}
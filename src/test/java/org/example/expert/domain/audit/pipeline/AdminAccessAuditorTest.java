@@ -0,0 +1,119 @@
+package org.example.expert.domain.audit.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.audit.enums.AuditOverflowPolicy;
+import org.example.expert.domain.audit.enums.AuditSinkType;
+import org.example.expert.domain.audit.journal.AdminAuditJournal;
+import org.example.expert.domain.audit.repository.AdminAccessLogJdbcRepository;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdminAccessAuditorTest {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private AdminAccessAuditor auditor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        auditor.stop();
+    }
+
+    @Test
+    void 이벤트를_백그라운드에서_직렬화하고_본문을_잘라_저장한다() throws Exception {
+        // given
+        auditor = newAuditor(64, Duration.ofMillis(5), 32);
+        auditor.start();
+        String uri = "/admin/audit-test/" + System.nanoTime();
+
+        // when
+        assertTrue(auditor.record(new AdminAccessEvent(1L, "admin@test.com", "PATCH", uri,
+                new UserRoleChangeRequest("ADMIN"), Map.of("payload", "x".repeat(1_000)),
+                200, null, System.currentTimeMillis(), 1_500_000)));
+
+        // then
+        List<Map<String, Object>> rows = awaitRows(uri, 1);
+        Map<String, Object> row = rows.get(0);
+        assertEquals("{\"role\":\"ADMIN\"}", row.get("REQUEST_BODY"));
+        String responseBody = (String) row.get("RESPONSE_BODY");
+        assertTrue(responseBody.startsWith("{\"payload\":\"xxxx"));
+        assertTrue(responseBody.endsWith("...(truncated, 1014 chars)"));
+        assertEquals(1L, ((Number) row.get("EXECUTION_TIME_MS")).longValue());
+        assertEquals(0, auditor.getDroppedCount());
+    }
+
+    @Test
+    void 버퍼가_가득_차면_버리고_drop_카운터를_올린다() throws Exception {
+        // given: 소비 스레드가 거의 깨어나지 않도록 poll-interval 을 길게
+        auditor = newAuditor(2, Duration.ofHours(1), 32);
+        auditor.start();
+        String uri = "/admin/audit-overflow/" + System.nanoTime();
+
+        // when
+        int accepted = 0;
+        for (int i = 0; i < 10; i++) {
+            if (auditor.record(new AdminAccessEvent(1L, "admin@test.com", "DELETE", uri,
+                    null, null, 200, null, System.currentTimeMillis(), 0))) {
+                accepted++;
+            }
+        }
+        auditor.stop();
+
+        // then: 받아들인 이벤트는 stop() 에서 모두 저장된다
+        assertTrue(accepted < 10);
+        assertEquals(10 - accepted, auditor.getDroppedCount());
+        assertEquals(accepted, countRows(uri));
+    }
+
+    private AdminAccessAuditor newAuditor(int capacity, Duration pollInterval, int maxBodyLength) {
+        return new AdminAccessAuditor(new AdminAccessLogJdbcRepository(jdbcTemplate), databaseSink(), transactionManager,
+                new ObjectMapper(), new SimpleMeterRegistry(), true, capacity, 100, pollInterval,
+                maxBodyLength, AuditOverflowPolicy.DROP, Duration.ZERO);
+    }
+
+    static AdminAuditJournal databaseSink() {
+        return new AdminAuditJournal(AuditSinkType.DATABASE, "build/audit-journal-unused", DataSize.ofMegabytes(1),
+                DataSize.ofKilobytes(4), DataSize.ofMegabytes(1), Duration.ofDays(1));
+    }
+
+    private List<Map<String, Object>> awaitRows(String uri, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (countRows(uri) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return jdbcTemplate.queryForList("SELECT * FROM admin_access_logs WHERE uri = :uri",
+                new MapSqlParameterSource("uri", uri));
+    }
+
+    private int countRows(String uri) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM admin_access_logs WHERE uri = :uri",
+                new MapSqlParameterSource("uri", uri), Integer.class);
+        return count == null ? 0 : count;
+    }
+}
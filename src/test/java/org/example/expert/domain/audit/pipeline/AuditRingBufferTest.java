@@ -0,0 +1,93 @@
+package org.example.expert.domain.audit.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditRingBufferTest {
+
+    @Test
+    void 용량은_2의_거듭제곱으로_올림한다() {
+        assertEquals(2, new AuditRingBuffer<>(2).capacity());
+        assertEquals(8, new AuditRingBuffer<>(5).capacity());
+        assertEquals(1024, new AuditRingBuffer<>(1024).capacity());
+    }
+
+    @Test
+    void 가득_차면_offer_가_false_를_돌려주고_비우면_다시_넣을_수_있다() {
+        // given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        // when & then
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, buffer.drainTo(drained, 3));
+        assertEquals(List.of(0, 1, 2), drained);
+        assertTrue(buffer.offer(5));
+        assertTrue(buffer.offer(6));
+        assertTrue(buffer.offer(7));
+        assertFalse(buffer.offer(8));
+
+        drained.clear();
+        buffer.drainTo(drained, 10);
+        assertEquals(List.of(3, 5, 6, 7), drained);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void 여러_생산자가_동시에_넣어도_넣은_값은_한_번씩만_꺼내진다() throws Exception {
+        // given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        AtomicInteger accepted = new AtomicInteger();
+
+        // when: 가득 차면 버리고 다음 값으로 넘어간다
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            pool.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    if (buffer.offer(base + i)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        Set<Integer> seen = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        int duplicates = 0;
+        while (done.getCount() > 0 || buffer.size() > 0) {
+            buffer.drainTo(batch, 32);
+            for (Integer value : batch) {
+                if (!seen.add(value)) {
+                    duplicates++;
+                }
+            }
+            batch.clear();
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(0, duplicates);
+        assertEquals(accepted.get(), seen.size());
+    }
+}
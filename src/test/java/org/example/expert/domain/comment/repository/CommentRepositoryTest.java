@@ -0,0 +1,58 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceConfig.class)
+class CommentRepositoryTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void cursor_로_모든_댓글을_중복_없이_순서대로_조회한다() {
+        // given
+        User user = em.persist(new User("user@test.com", "password", UserRole.USER));
+        Todo todo = em.persist(new Todo("title", "contents", "Sunny", user));
+        Todo otherTodo = em.persist(new Todo("other", "contents", "Sunny", user));
+        List<Long> expectedIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            expectedIds.add(em.persist(new Comment("comment" + i, user, todo)).getId());
+            em.persist(new Comment("other" + i, user, otherTodo));
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        List<Long> actualIds = new ArrayList<>();
+        List<Comment> page = commentRepository.findFirstPageByTodoIdWithUser(todo.getId(), PageRequest.of(0, 3));
+        while (!page.isEmpty()) {
+            page.forEach(comment -> actualIds.add(comment.getId()));
+            Comment last = page.get(page.size() - 1);
+            page = commentRepository.findPageByTodoIdWithUserAfter(
+                    todo.getId(), last.getCreatedAt(), last.getId(), PageRequest.of(0, 3));
+        }
+
+        // then
+        assertEquals(expectedIds, actualIds);
+    }
+}
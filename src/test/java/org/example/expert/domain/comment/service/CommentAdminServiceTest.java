@@ -0,0 +1,135 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.audit.entity.AdminAuditLog;
+import org.example.expert.domain.audit.enums.AdminAuditAction;
+import org.example.expert.domain.audit.repository.AdminAuditLogRepository;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.cache.ResourceVersionCache;
+import org.example.expert.domain.common.dto.BulkOperationResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 댓글 일괄 삭제: chunk 마다 SELECT(id, todoId) + DELETE + 감사 INSERT 3개 문장
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({PersistenceConfig.class, CommentAdminService.class, ResourceVersionCache.class})
+class CommentAdminServiceTest {
+
+    private static final long ADMIN_ID = 1L;
+
+    @Autowired
+    private CommentAdminService commentAdminService;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private AdminAuditLogRepository adminAuditLogRepository;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+    private User otherUser;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(commentAdminService, "bulkChunkSize", 2);
+        ReflectionTestUtils.setField(commentAdminService, "bulkMaxIds", 100);
+        user = em.persist(new User("bulk-user@test.com", "password", UserRole.USER));
+        otherUser = em.persist(new User("bulk-other@test.com", "password", UserRole.USER));
+        todo = em.persist(new Todo("title", "contents", "Sunny", user));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 유저의_댓글을_chunk_단위로_지우고_chunk_마다_감사_기록을_남긴다() {
+        // given
+        List<Long> userCommentIds = persistComments(user, 5);
+        List<Long> otherCommentIds = persistComments(otherUser, 2);
+        long auditsBefore = adminAuditLogRepository.count();
+
+        // when
+        statistics.clear();
+        BulkOperationResponse response = commentAdminService.deleteCommentsByUser(ADMIN_ID, user.getId());
+
+        // then: 2 + 2 + 1 건, chunk 마다 3개 문장
+        assertEquals(5, response.getAffectedCount());
+        assertEquals(3, response.getBatchCount());
+        assertEquals(9, statistics.getPrepareStatementCount());
+        assertTrue(commentRepository.findAllById(userCommentIds).isEmpty());
+        assertEquals(2, commentRepository.findAllById(otherCommentIds).size());
+
+        List<AdminAuditLog> audits = adminAuditLogRepository.findAll();
+        assertEquals(auditsBefore + 3, audits.size());
+        AdminAuditLog last = audits.get(audits.size() - 1);
+        assertEquals(AdminAuditAction.COMMENT_BULK_DELETE_BY_USER, last.getAction());
+        assertEquals("userId=" + user.getId(), last.getCriteria());
+        assertEquals(String.valueOf(userCommentIds.get(4)), last.getTargetIds());
+    }
+
+    @Test
+    void id_목록_일괄_삭제는_없는_id_를_알려준다() {
+        // given
+        List<Long> commentIds = persistComments(user, 3);
+        List<Long> requested = new ArrayList<>(commentIds);
+        requested.add(Long.MAX_VALUE);
+
+        // when
+        BulkOperationResponse response = commentAdminService.deleteComments(ADMIN_ID, requested);
+
+        // then
+        assertEquals(3, response.getAffectedCount());
+        assertEquals(2, response.getBatchCount());
+        assertEquals(List.of(Long.MAX_VALUE), response.getMissingIds());
+        assertTrue(commentRepository.findAllById(commentIds).isEmpty());
+    }
+
+    @Test
+    void 일정의_댓글을_모두_지운다() {
+        // given
+        persistComments(user, 2);
+        persistComments(otherUser, 2);
+
+        // when
+        BulkOperationResponse response = commentAdminService.deleteCommentsByTodo(ADMIN_ID, todo.getId());
+
+        // then: 마지막 chunk 가 꽉 차 있으면 빈 chunk 를 한 번 더 확인한다
+        assertEquals(4, response.getAffectedCount());
+        assertEquals(2, response.getBatchCount());
+        assertEquals(0, commentRepository.countByTodoIdIn(List.of(todo.getId())).size());
+    }
+
+    private List<Long> persistComments(User author, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(em.persist(new Comment("comment" + i, author, todo)).getId());
+        }
+        em.flush();
+        em.clear();
+        return ids;
+    }
+}
@@ -0,0 +1,219 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentJdbcRepository;
+import org.example.expert.domain.comment.repository.CommentJdbcRepository.CommentInsert;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommentInsertBatcherTest {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private CommentInsertBatcher batcher;
+    private User user;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        batcher = new CommentInsertBatcher(new CommentJdbcRepository(jdbcTemplate), transactionManager,
+                true, 50, Duration.ofMillis(20), 1000, Duration.ofSeconds(5));
+        batcher.start();
+        user = userRepository.save(new User("batch-" + System.nanoTime() + "@test.com", "password", UserRole.USER));
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batcher.stop();
+    }
+
+    private void restart(CommentJdbcRepository repository, Duration waitTimeout) throws InterruptedException {
+        batcher.stop();
+        batcher = new CommentInsertBatcher(repository, transactionManager, true, 50, Duration.ofMillis(20), 1000, waitTimeout);
+        batcher.start();
+    }
+
+    @Test
+    void 동시에_들어온_INSERT_를_묶어_저장하고_각자의_id_를_돌려준다() throws Exception {
+        // given
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // when
+        List<Future<Boolean>> futures = IntStream.range(0, 200)
+                .mapToObj(i -> pool.submit(() -> ids.add(batcher.insert("comment" + i, user.getId(), todo.getId()))))
+                .toList();
+        for (Future<Boolean> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+
+        // then
+        assertEquals(200, ids.size());
+        assertEquals(200, commentRepository.findByTodoIdWithUser(todo.getId()).size());
+        assertTrue(commentRepository.findAllById(ids).stream()
+                .allMatch(comment -> comment.getContents().startsWith("comment")));
+    }
+
+    @Test
+    void 배치_안의_한_건이_실패해도_나머지는_저장된다() throws Exception {
+        // given
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        long missingTodoId = todo.getId() + 10_000;
+
+        // when
+        Future<Long> ok1 = pool.submit(() -> batcher.insert("ok1", user.getId(), todo.getId()));
+        Future<Long> bad = pool.submit(() -> batcher.insert("bad", user.getId(), missingTodoId));
+        Future<Long> ok2 = pool.submit(() -> batcher.insert("ok2", user.getId(), todo.getId()));
+
+        // then
+        assertNotNull(ok1.get());
+        assertNotNull(ok2.get());
+        Exception exception = assertThrows(Exception.class, bad::get);
+        assertInstanceOf(InvalidRequestException.class, exception.getCause());
+        assertEquals(2, commentRepository.findByTodoIdWithUser(todo.getId()).size());
+        pool.shutdown();
+    }
+
+    @Test
+    void 대기_시간을_넘겨도_배치에_들어간_요청은_결과를_기다려_중복_저장되지_않는다() throws Exception {
+        // given: 작업 스레드가 요청을 꺼내 INSERT 에 들어간 채로 호출자의 첫 대기(1초)가 끝난다
+        HeldCommentJdbcRepository repository = new HeldCommentJdbcRepository(jdbcTemplate);
+        restart(repository, Duration.ofSeconds(1));
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<Long> caller = pool.submit(() -> batcher.insert("slow", user.getId(), todo.getId()));
+        assertTrue(repository.entered.await(5, TimeUnit.SECONDS));
+        Thread.sleep(1_500);
+        repository.release.countDown();
+
+        // then: 실패가 아니라 실제 id 를 받고, 한 번만 저장된다
+        long id = caller.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(id), commentRepository.findByTodoIdWithUser(todo.getId()).stream()
+                .map(Comment::getId).toList());
+        pool.shutdown();
+    }
+
+    @Test
+    void 배치에_들어간_요청도_두_번째_대기_시간을_넘기면_결과_미확인으로_응답한다() throws Exception {
+        // given: 작업 스레드가 INSERT 에서 멈춰 있다
+        HeldCommentJdbcRepository repository = new HeldCommentJdbcRepository(jdbcTemplate);
+        restart(repository, Duration.ofMillis(200));
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<Long> caller = pool.submit(() -> batcher.insert("stuck", user.getId(), todo.getId()));
+        assertTrue(repository.entered.await(5, TimeUnit.SECONDS));
+
+        // then: 요청 스레드가 묶여 있지 않고 대기 시간 두 번 뒤에 돌아온다
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> caller.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ServerException.class, exception.getCause());
+        assertTrue(exception.getCause().getMessage().startsWith("댓글 저장 결과를 확인하지 못했습니다"));
+        repository.release.countDown();
+        pool.shutdown();
+    }
+
+    @Test
+    void 작업_스레드가_죽으면_기다리던_요청을_끝내고_이후_요청은_바로_저장한다() throws Exception {
+        // given: 첫 INSERT 에서 작업 스레드가 Error 로 끝난다
+        CommentJdbcRepository repository = new CommentJdbcRepository(jdbcTemplate) {
+            private final AtomicBoolean failed = new AtomicBoolean();
+
+            @Override
+            public List<Long> insertAll(List<CommentInsert> comments) {
+                if (failed.compareAndSet(false, true)) {
+                    throw new AssertionError("worker died");
+                }
+                return super.insertAll(comments);
+            }
+        };
+        restart(repository, Duration.ofSeconds(30));
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<Long> caller = pool.submit(() -> batcher.insert("lost", user.getId(), todo.getId()));
+
+        // then: wait-timeout(30초)까지 기다리지 않고 실패를 받는다
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> caller.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ServerException.class, exception.getCause());
+        assertTrue(batcher.insert("inline", user.getId(), todo.getId()) > 0);
+        pool.shutdown();
+    }
+
+    @Test
+    void FK_위반이_아닌_무결성_위반은_Todo_not_found_로_바꾸지_않는다() {
+        // when & then: contents 길이(255) 초과
+        assertThrows(ServerException.class, () -> batcher.insert("x".repeat(300), user.getId(), todo.getId()));
+    }
+
+    /**
+     * INSERT 에 들어오면 entered 를 내리고 release 가 열릴 때까지 작업 스레드를 붙잡는다
+     */
+    private static class HeldCommentJdbcRepository extends CommentJdbcRepository {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private HeldCommentJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+            super(jdbcTemplate);
+        }
+
+        @Override
+        public List<Long> insertAll(List<CommentInsert> comments) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.insertAll(comments);
+        }
+    }
+}
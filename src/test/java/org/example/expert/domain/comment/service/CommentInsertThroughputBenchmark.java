@@ -0,0 +1,88 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.repository.CommentJdbcRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 댓글 INSERT 처리량: 요청마다 트랜잭션 1개 vs group commit
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommentInsertThroughputBenchmark {
+
+    private static final int WRITERS = 64;
+    private static final int INSERTS_PER_WRITER = 300;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Test
+    void single_insert_per_transaction() throws Exception {
+        run("unbatched", false, 1, Duration.ZERO);
+    }
+
+    @Test
+    void group_commit() throws Exception {
+        run("group-commit", true, 200, Duration.ofMillis(2));
+    }
+
+    private void run(String name, boolean enabled, int maxBatchSize, Duration maxLatency) throws Exception {
+        User user = userRepository.save(new User(name + "@test.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        CommentInsertBatcher batcher = new CommentInsertBatcher(new CommentJdbcRepository(jdbcTemplate),
+                transactionManager, enabled, maxBatchSize, maxLatency, 10_000, Duration.ofSeconds(10));
+        batcher.start();
+
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch done = new CountDownLatch(WRITERS);
+        long begin = System.nanoTime();
+        for (int w = 0; w < WRITERS; w++) {
+            pool.submit(() -> {
+                try {
+                    for (int i = 0; i < INSERTS_PER_WRITER; i++) {
+                        batcher.insert("comment", user.getId(), todo.getId());
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+        batcher.stop();
+
+        long total = (long) WRITERS * INSERTS_PER_WRITER;
+        System.out.printf("[comment-insert] %-12s writers=%d inserts=%d elapsed=%dms throughput=%.0f inserts/s%n",
+                name, WRITERS, total, elapsed / 1_000_000, total / (elapsed / 1e9));
+    }
+}
@@ -1,26 +1,36 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.config.RecentWriters;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.cache.ResourceVersionCache;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorPageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
-import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.cache.TodoOwnerCache;
 import org.example.expert.domain.todo.entity.Todo;
-import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 
@@ -30,10 +40,24 @@ class CommentServiceTest {
     @Mock
     private CommentRepository commentRepository;
     @Mock
-    private TodoRepository todoRepository;
+    private TodoOwnerCache todoOwnerCache;
+    @Mock
+    private CommentInsertBatcher commentInsertBatcher;
+    @Mock
+    private ResourceVersionCache resourceVersionCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private RecentWriters recentWriters = new RecentWriters(Duration.ofSeconds(5));
     @InjectMocks
     private CommentService commentService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(commentService, "defaultPageSize", 2);
+        ReflectionTestUtils.setField(commentService, "maxPageSize", 100);
+    }
+
     @Test
     public void comment_등록_중_할일을_찾지_못해_에러가_발생한다() {
         // given
@@ -41,7 +65,7 @@ class CommentServiceTest {
         CommentSaveRequest request = new CommentSaveRequest("contents");
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(todoOwnerCache.exists(anyLong())).willReturn(false);
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -58,17 +82,78 @@ class CommentServiceTest {
         long todoId = 1;
         CommentSaveRequest request = new CommentSaveRequest("contents");
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
-        User user = User.fromAuthUser(authUser);
-        Todo todo = new Todo("title", "title", "contents", user);
-        Comment comment = new Comment(request.getContents(), user, todo);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
-        given(commentRepository.save(any())).willReturn(comment);
+        given(todoOwnerCache.exists(todoId)).willReturn(true);
+        given(commentInsertBatcher.insert("contents", 1L, todoId)).willReturn(10L);
 
         // when
         CommentSaveResponse result = commentService.saveComment(authUser, todoId, request);
 
         // then
         assertNotNull(result);
+        assertEquals(10L, result.getId());
+        assertEquals(authUser.getId(), result.getUser().getId());
+        // 작업 스레드에서 커밋된 INSERT 라도 작성자의 다음 읽기는 primary 로 간다
+        assertTrue(recentWriters.isRecentWriter(1L));
+    }
+
+    @Test
+    public void comment_목록_첫_페이지를_조회하면_다음_cursor_를_돌려준다() {
+        // given
+        long todoId = 1L;
+        User user = new User("a@a.com", "password", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", user);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<Comment> comments = List.of(comment(1L, createdAt, user, todo), comment(2L, createdAt, user, todo),
+                comment(3L, createdAt, user, todo));
+
+        // size + 1 개를 조회해서 다음 페이지 여부를 판단한다
+        given(commentRepository.findFirstPageByTodoIdWithUser(todoId, PageRequest.of(0, 3))).willReturn(comments);
+
+        // when
+        CursorPageResponse<CommentResponse> result = commentService.getComments(todoId, null, null);
+
+        // then
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        Cursor next = Cursor.decode(result.getNextCursor());
+        assertEquals(createdAt, next.getTimestamp());
+        assertEquals(2L, next.getId());
+    }
+
+    @Test
+    public void comment_목록_마지막_페이지는_다음_cursor_가_없다() {
+        // given
+        long todoId = 1L;
+        User user = new User("a@a.com", "password", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", user);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String cursor = new Cursor(createdAt, 2L).encode();
+
+        given(commentRepository.findPageByTodoIdWithUserAfter(todoId, createdAt, 2L, PageRequest.of(0, 3)))
+                .willReturn(List.of(comment(3L, createdAt, user, todo)));
+
+        // when
+        CursorPageResponse<CommentResponse> result = commentService.getComments(todoId, cursor, null);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    public void 잘못된_cursor_로_조회하면_InvalidRequestException_을_던진다() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentService.getComments(1L, "not-a-cursor", null));
+        assertEquals("유효하지 않은 cursor 입니다.", exception.getMessage());
+    }
+
+    private Comment comment(Long id, LocalDateTime createdAt, User user, Todo todo) {
+        Comment comment = new Comment("contents" + id, user, todo);
+        ReflectionTestUtils.setField(comment, "id", id);
+        ReflectionTestUtils.setField(comment, "createdAt", createdAt);
+        return comment;
     }
 }
@@ -0,0 +1,70 @@
+package org.example.expert.domain.manager.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceConfig.class)
+class ManagerJdbcRepositoryTest {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private TestEntityManager em;
+
+    private ManagerJdbcRepository managerJdbcRepository;
+    private Todo todo;
+    private User first;
+    private User second;
+
+    @BeforeEach
+    void setUp() {
+        managerJdbcRepository = new ManagerJdbcRepository(jdbcTemplate);
+        User owner = em.persist(new User("owner@test.com", "password", UserRole.USER));
+        first = em.persist(new User("first@test.com", "password", UserRole.USER));
+        second = em.persist(new User("second@test.com", "password", UserRole.USER));
+        todo = em.persist(new Todo("title", "contents", "Sunny", owner));
+        em.flush();
+    }
+
+    @Test
+    void batch_INSERT_는_입력_순서대로_id를_돌려준다() {
+        // when
+        List<Long> ids = managerJdbcRepository.insertAll(todo.getId(), List.of(second.getId(), first.getId()));
+
+        // then
+        assertEquals(2, ids.size());
+        assertTrue(ids.get(0) < ids.get(1));
+        List<Long> assigned = managerRepository.findUserIdsByTodoIdAndUserIdIn(
+                todo.getId(), List.of(first.getId(), second.getId()));
+        assertEquals(2, assigned.size());
+    }
+
+    @Test
+    void 같은_일정에_같은_유저를_두_번_등록할_수_없다() {
+        // given
+        managerJdbcRepository.insertAll(todo.getId(), List.of(first.getId()));
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class, () ->
+                managerJdbcRepository.insertAll(todo.getId(), List.of(second.getId(), first.getId())));
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.domain.manager.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.cache.ResourceVersionCache;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.manager.repository.ManagerJdbcRepository;
+import org.example.expert.domain.todo.cache.TodoOwnerCache;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 담당자 등록/삭제 시 실행되는 SQL 수
+ * 이전: 등록 = Todo, User SELECT + INSERT, 삭제 = User, Todo, Manager SELECT + DELETE
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({PersistenceConfig.class, ManagerService.class, ManagerJdbcRepository.class,
+        TodoOwnerCache.class, ResourceVersionCache.class})
+class ManagerServiceStatementCountTest {
+
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User owner;
+    private User member;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        owner = em.persist(new User("owner@test.com", "password", UserRole.USER));
+        member = em.persist(new User("member@test.com", "password", UserRole.USER));
+        todo = em.persist(new Todo("title", "contents", "Sunny", owner));
+        em.flush();
+        em.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 캐시가_채워지면_담당자_삭제는_DELETE_한_번이다() {
+        // given
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+        long firstManagerId = managerService.saveManager(authUser, todo.getId(),
+                new ManagerSaveRequest(member.getId())).getId();
+        managerService.deleteManager(owner.getId(), todo.getId(), firstManagerId);
+        ManagerSaveResponse saved = managerService.saveManager(authUser, todo.getId(),
+                new ManagerSaveRequest(member.getId()));
+
+        // when
+        statistics.clear();
+        managerService.deleteManager(owner.getId(), todo.getId(), saved.getId());
+
+        // then: 4 → 1
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void 캐시가_채워지면_담당자_등록에_Todo_를_조회하지_않는다() {
+        // given
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+        managerService.getManagersVersion(todo.getId());
+        managerService.getManagers(todo.getId()); // 작성자 id 캐시 적재
+
+        // when
+        statistics.clear();
+        managerService.saveManager(authUser, todo.getId(), new ManagerSaveRequest(member.getId()));
+
+        // then: User SELECT + 중복 확인 (Todo SELECT 없음). INSERT ... SELECT 는 JDBC 로 나가 Hibernate 통계에 잡히지 않는다
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
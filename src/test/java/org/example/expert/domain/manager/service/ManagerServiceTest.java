@@ -1,12 +1,18 @@
 package org.example.expert.domain.manager.service;
 
+import org.example.expert.domain.common.cache.ResourceVersionCache;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
+import org.example.expert.domain.manager.repository.ManagerJdbcRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.cache.TodoOwnerCache;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
@@ -17,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -24,7 +31,13 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ManagerServiceTest {
@@ -32,9 +45,17 @@ class ManagerServiceTest {
     @Mock
     private ManagerRepository managerRepository;
     @Mock
+    private ManagerJdbcRepository managerJdbcRepository;
+    @Mock
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ResourceVersionCache resourceVersionCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TodoOwnerCache todoOwnerCache;
     @InjectMocks
     private ManagerService managerService;
 
@@ -42,7 +63,7 @@ class ManagerServiceTest {
     public void manager_목록_조회_시_Todo가_없다면_InvalidRequestException을_던진다() {
         // given
         long todoId = 1L;
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        given(todoOwnerCache.exists(todoId)).willReturn(false);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
@@ -50,18 +71,15 @@ class ManagerServiceTest {
     }
 
     @Test
-    void todo의_user가_null인_경우_예외가_발생한다() {
+    void 일정_작성자가_아니면_담당자를_지정할_수_없다() {
         // given
         AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
         long todoId = 1L;
         long managerUserId = 2L;
 
-        Todo todo = new Todo();
-        ReflectionTestUtils.setField(todo, "user", null);
-
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoOwnerCache.getOwnerId(todoId)).willReturn(9L);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -82,7 +100,7 @@ class ManagerServiceTest {
         Manager mockManager = new Manager(todo.getUser(), todo);
         List<Manager> managerList = List.of(mockManager);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoOwnerCache.exists(todoId)).willReturn(true);
         given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
 
         // when
@@ -101,7 +119,6 @@ class ManagerServiceTest {
         User user = User.fromAuthUser(authUser);  // 일정을 만든 유저
 
         long todoId = 1L;
-        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
 
         long managerUserId = 2L;
         User managerUser = new User("b@b.com", "password", UserRole.USER);  // 매니저로 등록할 유저
@@ -109,16 +126,131 @@ class ManagerServiceTest {
 
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoOwnerCache.getOwnerId(todoId)).willReturn(authUser.getId());
         given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
-        given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(managerJdbcRepository.insertAll(todoId, List.of(managerUserId))).willReturn(List.of(10L));
 
         // when
         ManagerSaveResponse response = managerService.saveManager(authUser, todoId, managerSaveRequest);
 
         // then
         assertNotNull(response);
+        assertEquals(10L, response.getId());
         assertEquals(managerUser.getId(), response.getUser().getId());
         assertEquals(managerUser.getEmail(), response.getUser().getEmail());
     }
+
+    @Test
+    void 이미_등록된_담당자는_다시_등록할_수_없다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", User.fromAuthUser(authUser));
+
+        long managerUserId = 2L;
+        User managerUser = new User("b@b.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(managerUser, "id", managerUserId);
+
+        given(todoOwnerCache.getOwnerId(todoId)).willReturn(authUser.getId());
+        given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+        given(managerRepository.findUserIdsByTodoIdAndUserIdIn(todoId, List.of(managerUserId))).willReturn(List.of(managerUserId));
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.saveManager(authUser, todoId, new ManagerSaveRequest(managerUserId)));
+        assertEquals("이미 등록된 담당자입니다.", exception.getMessage());
+        verify(managerJdbcRepository, never()).insertAll(anyLong(), anyList());
+    }
+
+    @Test
+    void 담당자_일괄_등록은_유저별_결과를_요청_순서대로_돌려준다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", User.fromAuthUser(authUser));
+
+        User newUser = userWithId(2L, "b@b.com");
+        User assignedUser = userWithId(3L, "c@c.com");
+        User otherNewUser = userWithId(5L, "e@e.com");
+
+        // 2: 신규, 3: 이미 담당자, 4: 없는 유저, 1: 작성자 본인, 2: 중복, 5: 신규
+        ManagerBulkSaveRequest request = new ManagerBulkSaveRequest(List.of(2L, 3L, 4L, 1L, 2L, 5L));
+
+        given(todoOwnerCache.getOwnerId(todoId)).willReturn(authUser.getId());
+        given(userRepository.findAllById(anyCollection())).willReturn(List.of(newUser, assignedUser, otherNewUser));
+        given(managerRepository.findUserIdsByTodoIdAndUserIdIn(eq(todoId), anyCollection())).willReturn(List.of(3L));
+        given(managerJdbcRepository.insertAll(todoId, List.of(2L, 5L))).willReturn(List.of(10L, 11L));
+
+        // when
+        List<ManagerBulkSaveResponse> results = managerService.saveManagers(authUser, todoId, request);
+
+        // then
+        assertEquals(6, results.size());
+        assertEquals(ManagerAssignStatus.ASSIGNED, results.get(0).getStatus());
+        assertEquals(10L, results.get(0).getManagerId());
+        assertEquals("b@b.com", results.get(0).getUser().getEmail());
+        assertEquals(ManagerAssignStatus.ALREADY_ASSIGNED, results.get(1).getStatus());
+        assertEquals(ManagerAssignStatus.USER_NOT_FOUND, results.get(2).getStatus());
+        assertNull(results.get(2).getUser());
+        assertEquals(ManagerAssignStatus.OWNER_NOT_ALLOWED, results.get(3).getStatus());
+        assertEquals(ManagerAssignStatus.DUPLICATED, results.get(4).getStatus());
+        assertEquals(ManagerAssignStatus.ASSIGNED, results.get(5).getStatus());
+        assertEquals(11L, results.get(5).getManagerId());
+        verify(managerRepository, never()).save(any(Manager.class));
+    }
+
+    @Test
+    void 담당자_일괄_등록은_일정_작성자만_할_수_있다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        given(todoOwnerCache.getOwnerId(todoId)).willReturn(9L);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.saveManagers(authUser, todoId, new ManagerBulkSaveRequest(List.of(2L))));
+        assertEquals("일정을 생성한 유저만 담당자를 지정할 수 있습니다.", exception.getMessage());
+        verify(managerJdbcRepository, never()).insertAll(anyLong(), anyList());
+    }
+
+    @Test
+    void 담당자_삭제는_조건부_DELETE_한_번으로_처리한다() {
+        // given
+        long userId = 1L;
+        long todoId = 1L;
+        long managerId = 10L;
+        given(todoOwnerCache.getOwnerId(todoId)).willReturn(userId);
+        given(managerRepository.deleteByIdAndTodoId(managerId, todoId)).willReturn(1);
+
+        // when
+        managerService.deleteManager(userId, todoId, managerId);
+
+        // then
+        verify(managerRepository, never()).findById(anyLong());
+        verify(managerRepository, never()).existsById(anyLong());
+        verify(userRepository, never()).findById(anyLong());
+        verify(todoRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void 다른_일정의_담당자는_삭제할_수_없다() {
+        // given
+        long userId = 1L;
+        long todoId = 1L;
+        long managerId = 10L;
+        given(todoOwnerCache.getOwnerId(todoId)).willReturn(userId);
+        given(managerRepository.deleteByIdAndTodoId(managerId, todoId)).willReturn(0);
+        given(managerRepository.existsById(managerId)).willReturn(true);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.deleteManager(userId, todoId, managerId));
+        assertEquals("해당 일정에 등록된 담당자가 아닙니다.", exception.getMessage());
+    }
+
+    private User userWithId(long id, String email) {
+        User user = new User(email, "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
 }
@@ -0,0 +1,128 @@
+package org.example.expert.domain.todo.controller;
+
+import org.example.expert.domain.common.dto.BulkResponse;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TodoControllerTest {
+
+    @Mock
+    private TodoService todoService;
+
+    @InjectMocks
+    private TodoController todoController;
+
+    private MockMvc mockMvc;
+
+    private final long todoId = 1L;
+    private final LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+    private final ResourceVersion version = ResourceVersion.of(todoId + "-" + modifiedAt, modifiedAt);
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(todoController).build();
+        lenient().when(todoService.getTodoVersion(todoId)).thenReturn(version);
+    }
+
+    @Test
+    @DisplayName("ETag 가 없는 첫 조회는 200 과 함께 ETag, Last-Modified 헤더를 내려준다")
+    void getTodo_FirstRequest() throws Exception {
+        // given
+        given(todoService.getTodo(todoId)).willReturn(todoResponse());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/todos/{todoId}", todoId))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertEquals(version.getEtag(), result.getResponse().getHeader(HttpHeaders.ETAG));
+        assertNotNull(result.getResponse().getHeader(HttpHeaders.LAST_MODIFIED));
+        assertTrue(result.getResponse().getContentAsByteArray().length > 0);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 일치하면 본문 조회 없이 304 를 반환한다")
+    void getTodo_NotModifiedByEtag() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(get("/todos/{todoId}", todoId)
+                        .header(HttpHeaders.IF_NONE_MATCH, version.getEtag()))
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        // then: 실제로 아끼는 SQL 수는 EndpointSqlStatementCountTest 에서 확인한다
+        assertEquals(0, result.getResponse().getContentAsByteArray().length);
+        verify(todoService, never()).getTodo(todoId);
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since 가 최신이면 304 를 반환한다")
+    void getTodo_NotModifiedBySince() throws Exception {
+        // when
+        mockMvc.perform(get("/todos/{todoId}", todoId)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, version.getLastModified()))
+                .andExpect(status().isNotModified());
+
+        // then
+        verify(todoService, never()).getTodo(todoId);
+    }
+
+    @Test
+    @DisplayName("ETag 가 바뀌었으면 200 으로 새 본문을 내려준다")
+    void getTodo_Modified() throws Exception {
+        // given
+        given(todoService.getTodo(todoId)).willReturn(todoResponse());
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}", todoId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk());
+        verify(todoService).getTodo(todoId);
+    }
+
+    @Test
+    @DisplayName("ids 파라미터가 있으면 페이지 조회 대신 일괄 조회로 매핑된다")
+    void getTodosByIds_Mapping() throws Exception {
+        // given
+        given(todoService.getTodosByIds(List.of(3L, 1L)))
+                .willReturn(new BulkResponse<>(List.of(todoResponse()), List.of(3L)));
+
+        // when & then
+        mockMvc.perform(get("/todos").param("ids", "3,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.missingIds[0]").value(3));
+        verify(todoService, never()).getTodos(anyInt(), anyInt());
+    }
+
+    private TodoResponse todoResponse() {
+        return new TodoResponse(todoId, "title", "contents", "Sunny",
+                new UserResponse(1L, "test@test.com"), modifiedAt, modifiedAt);
+    }
+}
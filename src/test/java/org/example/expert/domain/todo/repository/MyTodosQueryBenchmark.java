@@ -0,0 +1,116 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+/**
+ * GET /users/me/todos 첫 페이지 쿼리 지연시간 (managers 수백만 건)
+ *
+ * 벽시계 시간과 함께 스레드 CPU 시간도 잰다. CPU 가 하나뿐인 환경에서는 다른 스레드(JIT, GC, H2)에 밀린 시간이
+ * 벽시계 p99 에 섞이므로, 쿼리 자체의 비용은 CPU 시간으로 본다.
+ * 담당 일정이 많은 사용자(HEAVY_USER_TODOS 건)도 따로 잰다. 정렬 키가 managers 인덱스에 있으므로 페이지 크기만큼만 읽어야 한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MyTodosQueryBenchmark {
+
+    private static final int USERS = 100_000;
+    private static final int TODOS = 500_000;
+    private static final int EXTRA_MANAGERS = 1_500_000;
+    private static final int QUERIES = 5_000;
+    private static final int CHUNK = 100_000;
+    private static final int HEAVY_USER_TODOS = 10_000;
+    private static final long HEAVY_USER_ID = USERS + 1;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Test
+    void first_page_latency() {
+        seed();
+        Random random = new Random(42);
+        Pageable limit = PageRequest.of(0, 21);
+
+        for (int i = 0; i < 1_000; i++) {
+            todoRepository.findFirstPageByMemberId((long) random.nextInt(USERS) + 1, limit);
+        }
+
+        Long managers = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM managers", Long.class);
+        measure("my-todos", managers, limit, () -> (long) random.nextInt(USERS) + 1);
+        measure("my-todos-heavy-user", managers, limit, () -> HEAVY_USER_ID);
+    }
+
+    private void measure(String name, long managers, Pageable limit, LongSupplier userIds) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long[] latencies = new long[QUERIES];
+        long[] cpuTimes = new long[QUERIES];
+        long rows = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            long userId = userIds.getAsLong();
+            long cpuBegin = threads.getCurrentThreadCpuTime();
+            long begin = System.nanoTime();
+            List<Todo> page = todoRepository.findFirstPageByMemberId(userId, limit);
+            latencies[i] = System.nanoTime() - begin;
+            cpuTimes[i] = threads.getCurrentThreadCpuTime() - cpuBegin;
+            rows += page.size();
+        }
+        Arrays.sort(latencies);
+        Arrays.sort(cpuTimes);
+
+        System.out.printf("[%s] managers=%d queries=%d avgRows=%.1f p50=%dus p99=%dus max=%dus cpuP50=%dus cpuP99=%dus%n",
+                name, managers, QUERIES, (double) rows / QUERIES,
+                latencies[QUERIES / 2] / 1_000, latencies[QUERIES * 99 / 100] / 1_000, latencies[QUERIES - 1] / 1_000,
+                cpuTimes[QUERIES / 2] / 1_000, cpuTimes[QUERIES * 99 / 100] / 1_000);
+    }
+
+    private void seed() {
+        jdbcTemplate.update("INSERT INTO users (email, password, user_role, created_at, modified_at) " +
+                "SELECT CONCAT('user', X, '@test.com'), 'password', 'USER', NOW(), NOW() FROM SYSTEM_RANGE(1, ?)", USERS);
+        for (int from = 1; from <= TODOS; from += CHUNK) {
+            int to = Math.min(from + CHUNK - 1, TODOS);
+            jdbcTemplate.update("INSERT INTO todos (title, contents, weather, user_id, version, created_at, modified_at) " +
+                    "SELECT CONCAT('title', X), 'contents', 'Sunny', MOD(X, ?) + 1, 0, NOW(), " +
+                    "DATEADD('SECOND', -MOD(X * 7919, 1000000), NOW()) FROM SYSTEM_RANGE(?, ?)", USERS, from, to);
+            // 작성자 본인 (Todo 생성자가 등록하는 것과 같다)
+            jdbcTemplate.update("INSERT INTO managers (todo_id, user_id, todo_modified_at) SELECT id, user_id, modified_at " +
+                    "FROM todos WHERE id BETWEEN ? AND ?", from, to);
+        }
+        // 추가 담당자: todo 마다 작성자가 아닌 서로 다른 유저 3명
+        for (int from = 1; from <= EXTRA_MANAGERS; from += CHUNK) {
+            int to = Math.min(from + CHUNK - 1, EXTRA_MANAGERS);
+            jdbcTemplate.update("INSERT INTO managers (todo_id, user_id, todo_modified_at) " +
+                    "SELECT t.id, MOD(MOD(X, ?) + 1 + (X / ?) * 7 + 1, ?) + 1, t.modified_at " +
+                    "FROM SYSTEM_RANGE(?, ?) JOIN todos t ON t.id = MOD(X, ?) + 1",
+                    USERS, TODOS, USERS, from, to, TODOS);
+        }
+        // 담당 일정이 HEAVY_USER_TODOS 건인 사용자
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, created_at, modified_at) " +
+                "VALUES (?, 'heavy@test.com', 'password', 'USER', NOW(), NOW())", HEAVY_USER_ID);
+        jdbcTemplate.update("INSERT INTO managers (todo_id, user_id, todo_modified_at) " +
+                "SELECT t.id, ?, t.modified_at FROM SYSTEM_RANGE(1, ?) JOIN todos t ON t.id = X * ?",
+                HEAVY_USER_ID, HEAVY_USER_TODOS, TODOS / HEAVY_USER_TODOS);
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoVersionInfo;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceConfig.class)
+class TodoRepositoryTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private TestEntityManager em;
+
+    private User owner;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        owner = em.persist(new User("owner@test.com", "password", UserRole.USER));
+        todo = em.persist(new Todo("title", "contents", "Sunny", owner));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 버전이_일치하면_요청한_컬럼만_수정하고_버전을_올린다() {
+        // when
+        int updated = todoRepository.updateIfVersionMatches(
+                todo.getId(), owner.getId(), 0L, "new title", null, LocalDateTime.now(), 1L);
+
+        // then
+        assertEquals(1, updated);
+        Todo reloaded = em.find(Todo.class, todo.getId());
+        assertEquals("new title", reloaded.getTitle());
+        assertEquals("contents", reloaded.getContents());
+        assertEquals(1L, reloaded.getVersion());
+    }
+
+    @Test
+    void 버전이_다르면_수정하지_않는다() {
+        // when
+        int updated = todoRepository.updateIfVersionMatches(
+                todo.getId(), owner.getId(), 7L, "new title", null, LocalDateTime.now(), 1L);
+
+        // then
+        assertEquals(0, updated);
+        TodoVersionInfo info = todoRepository.findVersionInfoById(todo.getId()).orElseThrow();
+        assertEquals(0L, info.getVersion());
+        assertEquals(owner.getId(), info.getOwnerId());
+    }
+
+    @Test
+    void 작성자가_아니면_수정하지_않는다() {
+        // when
+        int updated = todoRepository.updateIfVersionMatches(
+                todo.getId(), owner.getId() + 1, 0L, "new title", null, LocalDateTime.now(), 1L);
+
+        // then
+        assertEquals(0, updated);
+    }
+
+    @Test
+    void 작성자이거나_담당자인_일정을_수정일_내림차순_keyset_으로_조회한다() {
+        // given: owner 가 작성한 todo, other 가 작성하고 owner 를 담당자로 등록한 todo, 관계없는 todo
+        User other = em.persist(new User("other@test.com", "password", UserRole.USER));
+        Todo assigned = em.persist(new Todo("assigned", "contents", "Sunny", other));
+        em.persist(new Manager(em.find(User.class, owner.getId()), assigned));
+        em.persist(new Todo("unrelated", "contents", "Sunny", other));
+        em.flush();
+        em.clear();
+
+        // when
+        List<Todo> firstPage = todoRepository.findFirstPageByMemberId(owner.getId(), PageRequest.of(0, 1));
+        Todo last = firstPage.get(0);
+        List<Todo> secondPage = todoRepository.findPageByMemberIdBefore(
+                owner.getId(), last.getModifiedAt(), last.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertEquals(1, firstPage.size());
+        assertEquals(assigned.getId(), last.getId());
+        assertEquals("other@test.com", last.getUser().getEmail());
+        assertEquals(List.of(todo.getId()), secondPage.stream().map(Todo::getId).toList());
+    }
+
+    @Test
+    void 수정한_일정은_담당자_정렬_키도_바뀌어_첫_페이지로_올라온다() {
+        // given: 나중에 만든 assigned 가 먼저 나온다
+        User other = em.persist(new User("other@test.com", "password", UserRole.USER));
+        Todo assigned = em.persist(new Todo("assigned", "contents", "Sunny", other));
+        em.persist(new Manager(em.find(User.class, owner.getId()), assigned));
+        em.flush();
+        em.clear();
+
+        // when: 먼저 만든 todo 를 수정한다 (TodoService.updateTodo 와 같은 순서)
+        LocalDateTime modifiedAt = LocalDateTime.now().plusSeconds(1);
+        todoRepository.updateIfVersionMatches(todo.getId(), owner.getId(), 0L, "new title", null, modifiedAt, 1L);
+        managerRepository.updateTodoModifiedAt(todo.getId(), modifiedAt);
+
+        // then
+        List<Todo> page = todoRepository.findFirstPageByMemberId(owner.getId(), PageRequest.of(0, 10));
+        assertEquals(List.of(todo.getId(), assigned.getId()), page.stream().map(Todo::getId).toList());
+    }
+}
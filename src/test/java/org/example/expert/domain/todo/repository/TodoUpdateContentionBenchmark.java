@@ -0,0 +1,139 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 한 Todo 를 여러 명이 동시에 수정할 때의 처리량 / 충돌률 비교
+ * - conditional: UPDATE ... WHERE id=? AND version=? 한 번 (+ 충돌 시 버전 재조회)
+ * - naive: findById 후 dirty checking flush (SELECT + 전체 컬럼 UPDATE)
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoUpdateContentionBenchmark {
+
+    private static final int EDITORS = 32;
+    private static final int EDITS_PER_EDITOR = 50;
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void conditional_update() throws Exception {
+        User owner = userRepository.save(new User("cond@test.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        AtomicLong conflicts = new AtomicLong();
+        long elapsed = runEditors(editor -> {
+            long version = tx.execute(s -> todoRepository.findVersionInfoById(todo.getId()).orElseThrow().getVersion());
+            for (int i = 0; i < EDITS_PER_EDITOR; ) {
+                long expected = version;
+                int updated = tx.execute(s -> todoRepository.updateIfVersionMatches(
+                        todo.getId(), owner.getId(), expected, "title-" + editor, null, LocalDateTime.now(), 0L));
+                if (updated == 1) {
+                    version = expected + 1;
+                    i++;
+                } else {
+                    conflicts.incrementAndGet();
+                    version = tx.execute(s -> todoRepository.findVersionInfoById(todo.getId()).orElseThrow().getVersion());
+                }
+            }
+        });
+
+        long finalVersion = todoRepository.findVersionInfoById(todo.getId()).orElseThrow().getVersion();
+        report("conditional", elapsed, conflicts.get());
+        assertEquals((long) EDITORS * EDITS_PER_EDITOR, finalVersion); // lost update 없음
+    }
+
+    @Test
+    void naive_load_modify_flush() throws Exception {
+        User owner = userRepository.save(new User("naive@test.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        AtomicLong conflicts = new AtomicLong();
+        long elapsed = runEditors(editor -> {
+            for (int i = 0; i < EDITS_PER_EDITOR; ) {
+                String title = "title-" + editor + "-" + i; // 같은 값이면 dirty 가 아니라 UPDATE 가 생략된다
+                try {
+                    tx.executeWithoutResult(s -> todoRepository.findById(todo.getId()).orElseThrow()
+                            .update(title, "contents"));
+                    i++;
+                } catch (ObjectOptimisticLockingFailureException e) {
+                    conflicts.incrementAndGet();
+                }
+            }
+        });
+
+        long finalVersion = todoRepository.findVersionInfoById(todo.getId()).orElseThrow().getVersion();
+        report("naive", elapsed, conflicts.get());
+        assertEquals((long) EDITORS * EDITS_PER_EDITOR, finalVersion);
+    }
+
+    private long runEditors(Editor editor) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(EDITORS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(EDITORS);
+        for (int e = 0; e < EDITORS; e++) {
+            int editorId = e;
+            pool.submit(() -> {
+                try {
+                    start.await();
+                    editor.edit(editorId);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdownNow();
+        return elapsed;
+    }
+
+    private void report(String name, long elapsedNanos, long conflicts) {
+        long edits = (long) EDITORS * EDITS_PER_EDITOR;
+        System.out.printf("[todo-update-contention] %-11s editors=%d edits=%d conflicts=%d elapsed=%dms throughput=%.0f edits/s%n",
+                name, EDITORS, edits, conflicts, elapsedNanos / 1_000_000, edits / (elapsedNanos / 1e9));
+    }
+
+    @FunctionalInterface
+    private interface Editor {
+        void edit(int editorId) throws InterruptedException;
+    }
+}
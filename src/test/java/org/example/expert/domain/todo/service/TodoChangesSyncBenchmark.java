@@ -0,0 +1,137 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.cache.ResourceVersionCache;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.cache.TodoOwnerCache;
+import org.example.expert.domain.todo.cache.TodoResponseCache;
+import org.example.expert.domain.todo.dto.response.TodoChangesResponse;
+import org.example.expert.domain.todo.repository.TodoChangeJdbcRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 일정 10,000 건 중 1% 가 바뀐 뒤 다시 맞추는 비용: 처음부터 전체 동기화 vs since 커서 델타 동기화
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({PersistenceConfig.class, TodoService.class, TodoChangeJdbcRepository.class,
+        TodoOwnerCache.class, TodoResponseCache.class, ResourceVersionCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoChangesSyncBenchmark {
+
+    private static final int USERS = 100;
+    private static final int TODOS = 10_000;
+    private static final int UPDATES = 50;
+    private static final int DELETES = 50;
+    private static final int PAGE_SIZE = 500;
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private TodoChangeJdbcRepository todoChangeJdbcRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void full_resync_vs_delta() throws Exception {
+        long firstTodoId = seed();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 클라이언트는 여기까지 받아 두었다
+        String cursor = sync(null, new long[3]);
+
+        // 1% 변경: 수정 50 건 + 삭제 50 건
+        for (int i = 0; i < UPDATES; i++) {
+            long todoId = firstTodoId + i * 97L;
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                    "UPDATE todos SET title = 'edited', change_seq = ? WHERE id = ?",
+                    todoChangeJdbcRepository.nextSequence(), todoId));
+        }
+        for (int i = 0; i < DELETES; i++) {
+            long todoId = firstTodoId + i * 97L + 13;
+            Long ownerId = jdbcTemplate.queryForObject("SELECT user_id FROM todos WHERE id = ?", Long.class, todoId);
+            todoService.deleteTodo(new AuthUser(ownerId, "owner@sync.test", UserRole.USER), todoId);
+        }
+
+        for (int round = 0; round < 3; round++) {
+            sync(null, new long[3]);
+            sync(cursor, new long[3]);
+        }
+
+        long[] full = new long[3];
+        long[] delta = new long[3];
+        statistics.clear();
+        long begin = System.nanoTime();
+        sync(null, full);
+        full[2] = System.nanoTime() - begin;
+        long fullStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        begin = System.nanoTime();
+        sync(cursor, delta);
+        delta[2] = System.nanoTime() - begin;
+        long deltaStatements = statistics.getPrepareStatementCount();
+
+        System.out.printf("[todo-sync] full: items=%d bytes=%d statements=%d time=%dms%n",
+                full[0], full[1], fullStatements, full[2] / 1_000_000);
+        System.out.printf("[todo-sync] delta: items=%d bytes=%d statements=%d time=%dms (bytes x%.0f smaller)%n",
+                delta[0], delta[1], deltaStatements, delta[2] / 1_000_000, (double) full[1] / delta[1]);
+    }
+
+    /**
+     * hasMore 가 false 가 될 때까지 받아 온다. stats[0] 에 항목 수, stats[1] 에 JSON 바이트를 더한다.
+     */
+    private String sync(String since, long[] stats) throws Exception {
+        String cursor = since;
+        TodoChangesResponse response;
+        do {
+            response = todoService.getTodoChanges(cursor, PAGE_SIZE);
+            stats[0] += response.getChanged().size() + response.getDeletedIds().size();
+            stats[1] += objectMapper.writeValueAsBytes(response).length;
+            cursor = response.getNextCursor();
+        } while (response.isHasMore());
+        return cursor;
+    }
+
+    private long seed() {
+        jdbcTemplate.update("INSERT INTO users (email, password, user_role, created_at, modified_at) " +
+                "SELECT CONCAT('sync', X, '@sync.test'), 'password', 'USER', NOW(), NOW() FROM SYSTEM_RANGE(1, ?)", USERS);
+        Long firstUserId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users WHERE email LIKE 'sync%@sync.test'", Long.class);
+        Long lastSeq = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(change_seq), 0) FROM todos", Long.class);
+        jdbcTemplate.update("INSERT INTO todos (title, contents, weather, user_id, version, change_seq, created_at, modified_at) " +
+                        "SELECT CONCAT('title', X), 'contents contents contents', 'Sunny', ? + MOD(X, ?), 0, ? + X, NOW(), NOW() " +
+                        "FROM SYSTEM_RANGE(1, ?)", firstUserId, USERS, lastSeq, TODOS);
+        // 카운터를 seed 한 순번 뒤로 맞춘다
+        todoChangeJdbcRepository.nextSequence();
+        jdbcTemplate.update("UPDATE todo_change_sequence SET last_seq = ? WHERE id = 1", lastSeq + TODOS);
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM todos WHERE title = 'title1'", Long.class);
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.cache.ResourceVersionCache;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.cache.TodoOwnerCache;
+import org.example.expert.domain.todo.cache.TodoResponseCache;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoChangesResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoChangeJdbcRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 델타 동기화: 생성/수정/삭제가 변경 순번 순서로 한 번씩만 내려온다
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PersistenceConfig.class, TodoService.class, TodoChangeJdbcRepository.class,
+        TodoOwnerCache.class, TodoResponseCache.class, ResourceVersionCache.class})
+class TodoChangesTest {
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private TestEntityManager em;
+    @MockBean
+    private WeatherClient weatherClient;
+    @MockBean
+    private TodoViewProjector todoViewProjector;
+
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() {
+        User user = em.persist(new User("changes@test.com", "password", UserRole.USER));
+        authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+    }
+
+    @Test
+    void 커서_이후의_생성_수정_삭제를_순번_순서로_나눠_내려준다() {
+        // given: 지금까지의 변경을 모두 받아 둔 커서
+        String cursor = drain(null);
+
+        long first = todoService.saveTodo(authUser, new TodoSaveRequest("first", "contents")).getId();
+        long second = todoService.saveTodo(authUser, new TodoSaveRequest("second", "contents")).getId();
+        long third = todoService.saveTodo(authUser, new TodoSaveRequest("third", "contents")).getId();
+        todoService.updateTodo(authUser, first, null, new TodoUpdateRequest("first-edited", null));
+        todoService.deleteTodo(authUser, second);
+        em.flush();
+        em.clear();
+
+        // when: 2 개씩
+        TodoChangesResponse page1 = todoService.getTodoChanges(cursor, 2);
+        TodoChangesResponse page2 = todoService.getTodoChanges(page1.getNextCursor(), 2);
+
+        // then: 순번 third(3), first(4, 수정), second(5, 삭제). second 는 삭제로만, first 는 수정된 내용으로 한 번만 내려온다
+        assertEquals(List.of(third, first), ids(page1.getChanged()));
+        assertEquals("first-edited", page1.getChanged().get(1).getTitle());
+        assertEquals(List.of(), page1.getDeletedIds());
+        assertTrue(page1.isHasMore());
+
+        assertEquals(List.of(), page2.getChanged());
+        assertEquals(List.of(second), page2.getDeletedIds());
+        assertFalse(page2.isHasMore());
+
+        TodoChangesResponse empty = todoService.getTodoChanges(page2.getNextCursor(), 2);
+        assertTrue(empty.getChanged().isEmpty());
+        assertTrue(empty.getDeletedIds().isEmpty());
+        assertEquals(page2.getNextCursor(), empty.getNextCursor());
+    }
+
+    private String drain(String since) {
+        String cursor = since;
+        TodoChangesResponse response;
+        do {
+            response = todoService.getTodoChanges(cursor, 500);
+            cursor = response.getNextCursor();
+        } while (response.isHasMore());
+        return cursor;
+    }
+
+    private List<Long> ids(List<TodoResponse> responses) {
+        List<Long> ids = new ArrayList<>();
+        responses.forEach(response -> ids.add(response.getId()));
+        return ids;
+    }
+}
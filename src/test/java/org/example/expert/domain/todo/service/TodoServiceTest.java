@@ -1,13 +1,30 @@
 package org.example.expert.domain.todo.service;
 
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.cache.ResourceVersionCache;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.BulkResponse;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.cache.TodoOwnerCache;
+import org.example.expert.domain.todo.cache.TodoResponseCache;
+import org.example.expert.domain.todo.dto.TodoActivityTime;
+import org.example.expert.domain.todo.dto.TodoCount;
+import org.example.expert.domain.todo.dto.TodoVersionInfo;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoListResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoView;
+import org.example.expert.domain.todo.repository.TodoChangeJdbcRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTombstoneRepository;
+import org.example.expert.domain.todo.repository.TodoViewRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.DisplayName;
@@ -15,19 +32,30 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +67,36 @@ class TodoServiceTest {
     @Mock
     private WeatherClient weatherClient;
 
+    @Mock
+    private TodoOwnerCache todoOwnerCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TodoViewRepository todoViewRepository;
+
+    @Mock
+    private TodoViewProjector todoViewProjector;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ManagerRepository managerRepository;
+
+    @Mock
+    private TodoResponseCache todoResponseCache;
+
+    @Mock
+    private TodoChangeJdbcRepository todoChangeJdbcRepository;
+
+    @Mock
+    private TodoTombstoneRepository todoTombstoneRepository;
+
+    @Spy
+    private ResourceVersionCache resourceVersionCache = new ResourceVersionCache(100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+
     @InjectMocks
     private TodoService todoService;
 
@@ -52,6 +110,7 @@ class TodoServiceTest {
 
         User user = User.fromAuthUser(authUser);
         Todo savedTodo = new Todo("Test Title", "Test Contents", weather, user);
+        ReflectionTestUtils.setField(savedTodo, "id", 1L);
 
         given(weatherClient.getTodayWeather()).willReturn(weather);
         given(todoRepository.save(any(Todo.class))).willReturn(savedTodo);
@@ -66,6 +125,7 @@ class TodoServiceTest {
         assertEquals(weather, response.getWeather());
         verify(weatherClient).getTodayWeather();
         verify(todoRepository).save(any(Todo.class));
+        verify(todoOwnerCache).putAfterCommit(1L, authUser.getId());
     }
 
     @Test
@@ -85,7 +145,7 @@ class TodoServiceTest {
         given(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).willReturn(todoPage);
 
         // when
-        Page<TodoResponse> result = todoService.getTodos(page, size);
+        Page<TodoListResponse> result = todoService.getTodos(page, size);
 
         // then
         assertNotNull(result);
@@ -95,12 +155,110 @@ class TodoServiceTest {
         verify(todoRepository).findAllByOrderByModifiedAtDesc(pageable);
     }
 
+    @Test
+    @DisplayName("todo_view 를 끄면 원본 테이블에서 페이지 단위로 댓글/담당자 수를 집계한다")
+    void getTodos_CountsFromSourceTables() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        User user = new User("test@test.com", "password", UserRole.USER);
+        Todo todo = new Todo("Title", "Contents", "Sunny", user);
+        ReflectionTestUtils.setField(todo, "id", 1L);
+
+        given(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).willReturn(new PageImpl<>(List.of(todo), pageable, 1));
+        given(commentRepository.countByTodoIdIn(List.of(1L))).willReturn(List.of(new TodoCount(1L, 3L)));
+        given(managerRepository.countByTodoIdIn(List.of(1L))).willReturn(List.of(new TodoCount(1L, 2L)));
+
+        // when
+        TodoListResponse response = todoService.getTodos(1, 10).getContent().get(0);
+
+        // then
+        assertEquals(3L, response.getCommentCount());
+        assertEquals(2L, response.getManagerCount());
+        verify(todoViewRepository, never()).findAllByOrderByModifiedAtDescTodoIdDesc(any());
+    }
+
+    @Test
+    @DisplayName("todo_view 를 못 쓸 때도 마지막 활동 시각은 일정 수정과 최근 댓글 중 늦은 시각이다")
+    void getTodos_LastActivityFromSourceTables() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        User user = new User("test@test.com", "password", UserRole.USER);
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        Todo commented = new Todo("Commented", "Contents", "Sunny", user);
+        ReflectionTestUtils.setField(commented, "id", 1L);
+        ReflectionTestUtils.setField(commented, "modifiedAt", modifiedAt);
+        Todo quiet = new Todo("Quiet", "Contents", "Sunny", user);
+        ReflectionTestUtils.setField(quiet, "id", 2L);
+        ReflectionTestUtils.setField(quiet, "modifiedAt", modifiedAt);
+
+        given(todoRepository.findAllByOrderByModifiedAtDesc(pageable))
+                .willReturn(new PageImpl<>(List.of(commented, quiet), pageable, 2));
+        given(commentRepository.findLatestCreatedAtByTodoIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(new TodoActivityTime(1L, modifiedAt.plusHours(1))));
+
+        // when
+        List<TodoListResponse> responses = todoService.getTodos(1, 10).getContent();
+
+        // then
+        assertEquals(modifiedAt.plusHours(1), responses.get(0).getLastActivityAt());
+        assertEquals(modifiedAt, responses.get(1).getLastActivityAt());
+    }
+
+    @Test
+    @DisplayName("todo_view 가 켜져 있으면 읽기 모델만 조회한다")
+    void getTodos_FromReadModel() {
+        // given
+        given(todoViewProjector.isReady()).willReturn(true);
+        Pageable pageable = PageRequest.of(0, 10);
+        TodoView view = new TodoView();
+        ReflectionTestUtils.setField(view, "todoId", 1L);
+        ReflectionTestUtils.setField(view, "ownerEmail", "test@test.com");
+        ReflectionTestUtils.setField(view, "commentCount", 5L);
+        given(todoViewRepository.findAllByOrderByModifiedAtDescTodoIdDesc(pageable)).willReturn(new PageImpl<>(List.of(view), pageable, 1));
+
+        // when
+        TodoListResponse response = todoService.getTodos(1, 10).getContent().get(0);
+
+        // then
+        assertEquals(1L, response.getId());
+        assertEquals("test@test.com", response.getUser().getEmail());
+        assertEquals(5L, response.getCommentCount());
+        verify(todoRepository, never()).findAllByOrderByModifiedAtDesc(any());
+        verify(commentRepository, never()).countByTodoIdIn(any());
+    }
+
+    @Test
+    @DisplayName("ids 일괄 조회 - 캐시에 없는 id 만 IN 쿼리로 읽고 요청 순서대로 돌려준다")
+    void getTodosByIds_Success() {
+        // given
+        ReflectionTestUtils.setField(todoService, "bulkMaxIds", 10);
+        ReflectionTestUtils.setField(todoService, "bulkChunkSize", 10);
+        User user = new User("test@test.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 9L);
+        Todo todo = new Todo("Title 1", "Contents", "Sunny", user);
+        ReflectionTestUtils.setField(todo, "id", 1L);
+        TodoResponse cached = new TodoResponse(2L, "Title 2", "Contents", "Sunny", null, null, null);
+
+        given(todoResponseCache.getAllPresent(List.of(2L, 1L, 3L))).willReturn(Map.of(2L, cached));
+        given(todoRepository.findAllByIdInWithUser(List.of(1L, 3L))).willReturn(List.of(todo));
+
+        // when
+        BulkResponse<TodoResponse> result = todoService.getTodosByIds(List.of(2L, 1L, 3L));
+
+        // then
+        assertEquals(List.of(2L, 1L), result.getContent().stream().map(TodoResponse::getId).toList());
+        assertEquals(List.of(3L), result.getMissingIds());
+        verify(todoResponseCache).put(any(TodoResponse.class));
+        verify(todoOwnerCache).put(1L, 9L);
+    }
+
     @Test
     @DisplayName("Todo 단건 조회 성공")
     void getTodo_Success() {
         // given
         long todoId = 1L;
         User user = new User("test@test.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
         Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
 
         given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.of(todo));
@@ -128,4 +286,135 @@ class TodoServiceTest {
                 () -> todoService.getTodo(todoId));
         assertEquals("Todo not found", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Todo 버전 조회는 캐시되어 두 번째 조회부터 DB 를 타지 않는다")
+    void getTodoVersion_Cached() {
+        // given
+        long todoId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        given(todoRepository.findVersionInfoById(todoId))
+                .willReturn(Optional.of(new TodoVersionInfo(todoId, 3L, 1L, modifiedAt)));
+
+        // when
+        ResourceVersion first = todoService.getTodoVersion(todoId);
+        ResourceVersion second = todoService.getTodoVersion(todoId);
+
+        // then
+        assertEquals(first.getEtag(), second.getEtag());
+        assertEquals("\"3\"", first.getEtag());
+        verify(todoRepository, times(1)).findVersionInfoById(todoId);
+    }
+
+    @Test
+    @DisplayName("Todo 버전 조회 실패 - 존재하지 않는 Todo")
+    void getTodoVersion_TodoNotFound() {
+        // given
+        given(todoRepository.findVersionInfoById(anyLong())).willReturn(Optional.empty());
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodoVersion(999L));
+        assertEquals("Todo not found", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Todo 수정 성공 - 조건부 UPDATE 한 번으로 끝나고 다음 버전을 돌려준다")
+    void updateTodo_Success() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        TodoUpdateRequest request = new TodoUpdateRequest("New Title", null);
+        given(todoRepository.updateIfVersionMatches(eq(todoId), eq(1L), eq(3L), eq("New Title"), isNull(), any(), anyLong()))
+                .willReturn(1);
+
+        // when
+        ResourceVersion version = todoService.updateTodo(authUser, todoId, 3L, request);
+
+        // then
+        assertEquals("\"4\"", version.getEtag());
+        verify(todoRepository, never()).findVersionInfoById(anyLong());
+        verify(todoRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Todo 수정 실패 - 버전이 다르면 PreconditionFailedException")
+    void updateTodo_VersionConflict() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        TodoUpdateRequest request = new TodoUpdateRequest("New Title", "New Contents");
+        given(todoRepository.updateIfVersionMatches(anyLong(), anyLong(), any(), any(), any(), any(), anyLong())).willReturn(0);
+        given(todoRepository.findVersionInfoById(todoId))
+                .willReturn(Optional.of(new TodoVersionInfo(todoId, 5L, 1L, LocalDateTime.now())));
+
+        // when & then
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> todoService.updateTodo(authUser, todoId, 3L, request));
+        assertEquals("다른 사용자가 먼저 수정했습니다. 현재 버전: 5", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Todo 수정 실패 - 작성자가 아니면 InvalidRequestException")
+    void updateTodo_NotOwner() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(2L, "other@test.com", UserRole.USER);
+        TodoUpdateRequest request = new TodoUpdateRequest("New Title", null);
+        given(todoRepository.updateIfVersionMatches(anyLong(), anyLong(), any(), any(), any(), any(), anyLong())).willReturn(0);
+        given(todoRepository.findVersionInfoById(todoId))
+                .willReturn(Optional.of(new TodoVersionInfo(todoId, 3L, 1L, LocalDateTime.now())));
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.updateTodo(authUser, todoId, 3L, request));
+        assertEquals("일정을 생성한 유저만 수정할 수 있습니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Todo 수정 실패 - 변경할 항목이 없음")
+    void updateTodo_NothingToUpdate() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.updateTodo(authUser, 1L, 3L, new TodoUpdateRequest(null, null)));
+        assertEquals("변경할 항목이 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Todo 삭제 성공 - 댓글/담당자를 지우고 변경 순번으로 tombstone 을 남긴다")
+    void deleteTodo_Success() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        given(todoOwnerCache.getOwnerId(todoId)).willReturn(1L);
+        given(todoRepository.deleteByIdAndOwnerId(todoId, 1L)).willReturn(1);
+        given(todoChangeJdbcRepository.nextSequence()).willReturn(42L);
+
+        // when
+        todoService.deleteTodo(authUser, todoId);
+
+        // then
+        verify(commentRepository).deleteAllByTodoId(todoId);
+        verify(managerRepository).deleteAllByTodoId(todoId);
+        verify(todoTombstoneRepository).save(argThat(tombstone ->
+                tombstone.getTodoId() == todoId && tombstone.getChangeSeq() == 42L));
+        verify(todoOwnerCache).evict(todoId);
+    }
+
+    @Test
+    @DisplayName("Todo 삭제 실패 - 작성자가 아니면 InvalidRequestException")
+    void deleteTodo_NotOwner() {
+        // given
+        AuthUser authUser = new AuthUser(2L, "other@test.com", UserRole.USER);
+        given(todoOwnerCache.getOwnerId(1L)).willReturn(1L);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.deleteTodo(authUser, 1L));
+        assertEquals("일정을 생성한 유저만 삭제할 수 있습니다.", exception.getMessage());
+        verify(todoRepository, never()).deleteByIdAndOwnerId(anyLong(), anyLong());
+    }
+}
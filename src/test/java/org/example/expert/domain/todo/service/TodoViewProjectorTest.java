@@ -0,0 +1,143 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.activity.event.TodoActivityEvent;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoView;
+import org.example.expert.domain.todo.repository.TodoViewJdbcRepository;
+import org.example.expert.domain.todo.repository.TodoViewRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceConfig.class)
+class TodoViewProjectorTest {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private TodoViewRepository todoViewRepository;
+    @Autowired
+    private TestEntityManager em;
+
+    private TodoViewProjector projector;
+    private User owner;
+    private User member;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        // 스케줄러 없이 flush() 를 직접 호출한다
+        projector = new TodoViewProjector(new TodoViewJdbcRepository(jdbcTemplate), transactionManager,
+                true, Duration.ofMinutes(1), 2);
+        owner = em.persist(new User("owner@test.com", "password", UserRole.USER));
+        member = em.persist(new User("member@test.com", "password", UserRole.USER));
+        todo = em.persist(new Todo("title", "contents", "Sunny", owner));
+        em.flush();
+    }
+
+    @Test
+    void 이벤트가_들어온_일정만_다시_계산한다() {
+        // given
+        em.persist(new Comment("c1", owner, todo));
+        em.persist(new Comment("c2", member, todo));
+        em.persist(new Manager(member, todo));
+        em.flush();
+
+        LocalDateTime managerAddedAt = LocalDateTime.now().plusMinutes(5);
+        projector.onActivity(new TodoActivityEvent(TodoActivityEvent.Type.COMMENT_CREATED, todo.getId(), 1L, owner.getId()));
+        projector.onActivity(new TodoActivityEvent(TodoActivityEvent.Type.COMMENT_CREATED, todo.getId(), 2L, member.getId()));
+        TodoActivityEvent managerAdded = new TodoActivityEvent(TodoActivityEvent.Type.MANAGER_ADDED, todo.getId(), 3L, owner.getId());
+        ReflectionTestUtils.setField(managerAdded, "occurredAt", managerAddedAt);
+        projector.onActivity(managerAdded);
+
+        // when: 같은 일정의 이벤트 3건은 한 번의 갱신으로 합쳐진다
+        int refreshed = projector.flush();
+
+        // then
+        assertEquals(1, refreshed);
+        em.clear();
+        TodoView view = todoViewRepository.findById(todo.getId()).orElseThrow();
+        assertEquals("owner@test.com", view.getOwnerEmail());
+        assertEquals(2, view.getCommentCount());
+        assertEquals(2, view.getManagerCount()); // 작성자 + member
+        assertEquals(managerAddedAt.withNano(0), view.getLastActivityAt().withNano(0));
+        assertEquals(0, projector.flush());
+    }
+
+    @Test
+    void rebuild_는_원본_테이블에서_전체를_다시_만든다() {
+        // given: 이벤트 없이 들어간 기존 데이터
+        Todo other = em.persist(new Todo("other", "contents", "Rainy", member));
+        Todo third = em.persist(new Todo("third", "contents", "Rainy", member));
+        em.persist(new Comment("c1", owner, other));
+        em.flush();
+
+        // when
+        int rebuilt = projector.rebuild();
+
+        // then: 다른 테스트가 커밋한 일정도 함께 재구성된다
+        Long todoCount = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM todos", Long.class);
+        assertEquals(todoCount, rebuilt);
+        assertEquals(todoCount, todoViewRepository.count());
+        em.clear();
+        List<TodoView> views = todoViewRepository.findAllByOrderByModifiedAtDescTodoIdDesc(PageRequest.of(0, 3)).getContent();
+        assertEquals(List.of(third.getId(), other.getId(), todo.getId()), views.stream().map(TodoView::getTodoId).toList());
+        assertEquals(1, todoViewRepository.findById(other.getId()).orElseThrow().getCommentCount());
+    }
+
+    @Test
+    void 기동_시_todo_view_가_비어_있으면_재구성하고_나서야_목록에_쓴다() {
+        // given: 기능 도입 전 데이터 (이벤트 없음, todo_view 비어 있음)
+        jdbcTemplate.getJdbcTemplate().update("DELETE FROM todo_view");
+        assertFalse(projector.isReady());
+
+        // when
+        boolean rebuilt = projector.catchUp();
+
+        // then
+        assertTrue(rebuilt);
+        assertTrue(projector.isReady());
+        assertEquals(jdbcTemplate.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM todos", Long.class),
+                todoViewRepository.count());
+        assertFalse(projector.catchUp());
+    }
+
+    @Test
+    void 비정상_종료로_잃은_변경도_원본과_어긋나면_다시_맞춘다() {
+        // given: 재구성 뒤 이벤트 없이 들어간 댓글 (dirty 유실)
+        projector.rebuild();
+        em.persist(new Comment("lost", member, todo));
+        em.flush();
+
+        // when
+        boolean rebuilt = projector.catchUp();
+
+        // then
+        assertTrue(rebuilt);
+        em.clear();
+        assertEquals(1, todoViewRepository.findById(todo.getId()).orElseThrow().getCommentCount());
+    }
+}
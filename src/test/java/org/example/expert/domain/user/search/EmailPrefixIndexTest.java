@@ -0,0 +1,81 @@
+package org.example.expert.domain.user.search;
+
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmailPrefixIndexTest {
+
+    @Test
+    void prefix_검색은_대소문자를_무시하고_이메일_순으로_limit_개를_돌려준다() {
+        // given
+        EmailPrefixIndex index = new EmailPrefixIndex(100);
+        index.replaceBase(new SortedEmails.Builder()
+                .add(1L, "bob@test.com")
+                .add(2L, "Alice@test.com")
+                .add(3L, "alex@test.com")
+                .add(4L, "al@test.com")
+                .add(5L, "carol@test.com")
+                .build());
+
+        // when & then
+        assertEquals(List.of(4L, 3L, 2L), ids(index.search("AL", 10)));
+        assertEquals(List.of(4L, 3L), ids(index.search("al", 2)));
+        assertEquals("Alice@test.com", index.search("ali", 10).get(0).getEmail());
+        assertTrue(index.search("z", 10).isEmpty());
+    }
+
+    @Test
+    void 적재_이후_가입한_유저는_병합_전에도_검색되고_병합_후에도_중복되지_않는다() {
+        // given
+        EmailPrefixIndex index = new EmailPrefixIndex(3);
+        index.replaceBase(new SortedEmails.Builder()
+                .add(1L, "ab@test.com")
+                .add(2L, "ad@test.com")
+                .build());
+
+        // when: 병합 전 (pending 2건, 하나는 base 와 같은 유저)
+        index.add(3L, "ac@test.com");
+        index.add(1L, "ab@test.com");
+
+        // then
+        assertEquals(List.of(1L, 3L, 2L), ids(index.search("a", 10)));
+
+        // when: 세 번째 가입에서 base 와 병합
+        index.add(4L, "aa@test.com");
+
+        // then
+        assertEquals(List.of(4L, 1L, 3L, 2L), ids(index.search("a", 10)));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void 많은_이메일도_정렬되어_prefix_범위가_연속된다() {
+        // given
+        SortedEmails.Builder builder = new SortedEmails.Builder(4, 16);
+        for (int i = 9_999; i >= 0; i--) {
+            builder.add(i, "user" + i + "@test.com");
+        }
+        EmailPrefixIndex index = new EmailPrefixIndex(100);
+        index.replaceBase(builder.build());
+
+        // when
+        List<UserResponse> result = index.search("user12", 20);
+
+        // then: '0' < '@' 이므로 user1200@, user1201@ ... 순
+        assertEquals(20, result.size());
+        assertEquals("user1200@test.com", result.get(0).getEmail());
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i).getEmail().startsWith("user12"));
+            assertTrue(result.get(i - 1).getEmail().compareTo(result.get(i).getEmail()) < 0);
+        }
+    }
+
+    private List<Long> ids(List<UserResponse> responses) {
+        return responses.stream().map(UserResponse::getId).toList();
+    }
+}
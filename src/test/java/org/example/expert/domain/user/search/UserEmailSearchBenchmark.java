@@ -0,0 +1,117 @@
+package org.example.expert.domain.user.search;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.repository.UserJdbcRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 이메일 prefix 검색 지연시간: 메모리 인덱스 vs LIKE 'prefix%'
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserEmailSearchBenchmark {
+
+    private static final int USERS = 2_000_000;
+    private static final int CHUNK = 200_000;
+    private static final int INDEX_QUERIES = 200_000;
+    private static final int SQL_QUERIES = 2_000;
+    private static final int LIMIT = 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void prefix_search_latency() {
+        seed();
+
+        UserEmailSearchIndex searchIndex = new UserEmailSearchIndex(new UserJdbcRepository(namedParameterJdbcTemplate), true, 4096);
+        long loadBegin = System.nanoTime();
+        searchIndex.rebuild();
+        long loadMillis = (System.nanoTime() - loadBegin) / 1_000_000;
+
+        Random random = new Random(42);
+        String[] prefixes = new String[INDEX_QUERIES];
+        for (int i = 0; i < prefixes.length; i++) {
+            prefixes[i] = randomPrefix(random);
+        }
+
+        for (int i = 0; i < 50_000; i++) {
+            searchIndex.search(prefixes[i], LIMIT);
+        }
+        long[] indexLatencies = new long[INDEX_QUERIES];
+        for (int i = 0; i < INDEX_QUERIES; i++) {
+            long begin = System.nanoTime();
+            searchIndex.search(prefixes[i], LIMIT);
+            indexLatencies[i] = System.nanoTime() - begin;
+        }
+        report("index", indexLatencies);
+
+        for (int i = 0; i < 200; i++) {
+            userRepository.findResponsesByEmailLike(prefixes[i] + "%", PageRequest.of(0, LIMIT));
+        }
+        long[] sqlLatencies = new long[SQL_QUERIES];
+        for (int i = 0; i < SQL_QUERIES; i++) {
+            long begin = System.nanoTime();
+            List<UserResponse> rows = userRepository.findResponsesByEmailLike(prefixes[i] + "%", PageRequest.of(0, LIMIT));
+            sqlLatencies[i] = System.nanoTime() - begin;
+            if (rows.size() != searchIndex.search(prefixes[i], LIMIT).size()) {
+                throw new IllegalStateException("index/sql mismatch for prefix " + prefixes[i]);
+            }
+        }
+        report("sql-like", sqlLatencies);
+
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        System.out.printf("[user-search] users=%d indexLoad=%dms heapUsed=%dMB%n",
+                USERS, loadMillis, (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+    }
+
+    // 접두 1~4자: 짧을수록 후보가 많다
+    private String randomPrefix(Random random) {
+        int length = 1 + random.nextInt(4);
+        StringBuilder prefix = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            prefix.append("0123456789abcdef".charAt(random.nextInt(16)));
+        }
+        return prefix.toString();
+    }
+
+    private void report(String name, long[] latencies) {
+        Arrays.sort(latencies);
+        int n = latencies.length;
+        System.out.printf("[user-search] %-8s queries=%d p50=%dns p99=%dns p999=%dns max=%dns%n",
+                name, n, latencies[n / 2], latencies[n * 99 / 100], latencies[n * 999 / 1000], latencies[n - 1]);
+    }
+
+    private void seed() {
+        for (int from = 1; from <= USERS; from += CHUNK) {
+            int to = Math.min(from + CHUNK - 1, USERS);
+            jdbcTemplate.update("INSERT INTO users (email, password, user_role, created_at, modified_at) " +
+                    "SELECT CONCAT(SUBSTRING(LOWER(RAWTOHEX(HASH('SHA-256', CAST(X AS VARCHAR)))), 1, 8), '.', X, " +
+                    "'@search', MOD(X, 50), '.test'), 'password', 'USER', NOW(), NOW() FROM SYSTEM_RANGE(?, ?)", from, to);
+        }
+    }
+}
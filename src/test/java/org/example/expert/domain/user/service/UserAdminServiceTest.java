@@ -0,0 +1,73 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.audit.entity.AdminAuditLog;
+import org.example.expert.domain.audit.enums.AdminAuditAction;
+import org.example.expert.domain.audit.repository.AdminAuditLogRepository;
+import org.example.expert.domain.common.dto.BulkOperationResponse;
+import org.example.expert.domain.user.cache.UserResponseCache;
+import org.example.expert.domain.user.dto.request.UserRoleBulkChangeRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PersistenceConfig.class, UserAdminService.class})
+class UserAdminServiceTest {
+
+    @Autowired
+    private UserAdminService userAdminService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AdminAuditLogRepository adminAuditLogRepository;
+    @Autowired
+    private TestEntityManager em;
+    @MockBean
+    private UserResponseCache userResponseCache;
+
+    @Test
+    void 권한_일괄_변경은_chunk_마다_UPDATE_하고_없는_id_를_알려준다() {
+        // given
+        ReflectionTestUtils.setField(userAdminService, "bulkChunkSize", 2);
+        User first = em.persist(new User("role1@test.com", "password", UserRole.USER));
+        User second = em.persist(new User("role2@test.com", "password", UserRole.USER));
+        User third = em.persist(new User("role3@test.com", "password", UserRole.USER));
+        em.flush();
+        em.clear();
+        long auditsBefore = adminAuditLogRepository.count();
+
+        // when
+        BulkOperationResponse response = userAdminService.changeUserRoles(1L, new UserRoleBulkChangeRequest(
+                List.of(first.getId(), second.getId(), third.getId(), Long.MAX_VALUE, first.getId()), "admin"));
+
+        // then
+        assertEquals(3, response.getAffectedCount());
+        assertEquals(2, response.getBatchCount());
+        assertEquals(List.of(Long.MAX_VALUE), response.getMissingIds());
+        userRepository.findAllById(List.of(first.getId(), second.getId(), third.getId()))
+                .forEach(user -> assertEquals(UserRole.ADMIN, user.getUserRole()));
+        verify(userResponseCache).evict(third.getId());
+
+        List<AdminAuditLog> audits = adminAuditLogRepository.findAll();
+        assertEquals(auditsBefore + 2, audits.size());
+        AdminAuditLog last = audits.get(audits.size() - 1);
+        assertEquals(AdminAuditAction.USER_BULK_ROLE_CHANGE, last.getAction());
+        assertEquals("role=ADMIN", last.getCriteria());
+        assertEquals(String.valueOf(third.getId()), last.getTargetIds());
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.RecentWriters;
+import org.example.expert.domain.audit.repository.AdminAuditLogRepository;
+import org.example.expert.domain.user.cache.UserResponseCache;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserJdbcRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 유저 N 명 가입 처리량: /auth/signup 경로(existsByEmail → encode → save, 건마다 트랜잭션) vs 일괄 가입
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserProvisioningBenchmark {
+
+    private static final int USERS = 400;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AdminAuditLogRepository adminAuditLogRepository;
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void serial_signup_vs_bulk_provision() throws Exception {
+        PasswordEncoder passwordEncoder = new PasswordEncoder();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long begin = System.nanoTime();
+        for (int i = 0; i < USERS; i++) {
+            String email = "serial" + i + "@provision.test";
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!userRepository.existsByEmail(email)) {
+                    userRepository.save(new User(email, passwordEncoder.encode("Password1"), UserRole.USER));
+                }
+            });
+        }
+        report("serial", System.nanoTime() - begin);
+
+        UserProvisioningService service = new UserProvisioningService(userRepository, new UserJdbcRepository(jdbcTemplate),
+                passwordEncoder, mock(UserResponseCache.class), adminAuditLogRepository,
+                mock(ApplicationEventPublisher.class), new RecentWriters(Duration.ofSeconds(5)), Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(), transactionManager, 500, 0);
+        StringBuilder csv = new StringBuilder("email,password,userRole\n");
+        for (int i = 0; i < USERS; i++) {
+            csv.append("bulk").append(i).append("@provision.test,Password1,USER\n");
+        }
+
+        begin = System.nanoTime();
+        service.provision(1L, UserProvisioningService.Format.CSV,
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), OutputStream.nullOutputStream());
+        report("bulk", System.nanoTime() - begin);
+        service.stop();
+    }
+
+    private void report(String name, long elapsed) {
+        System.out.printf("[user-provision] %-6s cores=%d users=%d elapsed=%dms throughput=%.1f users/s%n",
+                name, Runtime.getRuntime().availableProcessors(), USERS, elapsed / 1_000_000, USERS / (elapsed / 1e9));
+    }
+}
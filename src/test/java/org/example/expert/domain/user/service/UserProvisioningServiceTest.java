@@ -0,0 +1,127 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.RecentWriters;
+import org.example.expert.domain.audit.repository.AdminAuditLogRepository;
+import org.example.expert.domain.user.cache.UserResponseCache;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserJdbcRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PersistenceConfig.class)
+class UserProvisioningServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AdminAuditLogRepository adminAuditLogRepository;
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private TestEntityManager em;
+
+    private UserProvisioningService userProvisioningService;
+
+    @BeforeEach
+    void setUp() {
+        userProvisioningService = new UserProvisioningService(userRepository, new UserJdbcRepository(jdbcTemplate),
+                new PasswordEncoder(), mock(UserResponseCache.class), adminAuditLogRepository,
+                mock(ApplicationEventPublisher.class), new RecentWriters(Duration.ofSeconds(5)), Validation.buildDefaultValidatorFactory().getValidator(),
+                objectMapper, transactionManager, 2, 2);
+    }
+
+    @Test
+    void CSV_행마다_결과를_입력_순서대로_내려준다() throws Exception {
+        // given
+        em.persist(new User("provision-exists@test.com", "password", UserRole.USER));
+        em.flush();
+        long auditsBefore = adminAuditLogRepository.count();
+        String csv = """
+                email,password,userRole
+                provision-a@test.com,Pass,word1,USER
+                not-an-email,Password1,USER
+                PROVISION-A@test.com,Password1,USER
+                provision-exists@test.com,Password1,USER
+                provision-b@test.com,Password1,OWNER
+
+                provision-c@test.com,Password1,admin
+                """;
+
+        // when
+        List<JsonNode> results = provision(UserProvisioningService.Format.CSV, csv);
+
+        // then
+        assertEquals(List.of("CREATED", "INVALID", "DUPLICATED", "ALREADY_EXISTS", "INVALID", "CREATED"),
+                results.stream().map(result -> result.get("status").asText()).toList());
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), results.stream().map(result -> result.get("line").asInt()).toList());
+        assertEquals("유효하지 않은 UserRole", results.get(4).get("message").asText());
+
+        User created = userRepository.findById(results.get(0).get("userId").asLong()).orElseThrow();
+        assertTrue(new PasswordEncoder().matches("Pass,word1", created.getPassword()));
+        assertEquals(UserRole.ADMIN, userRepository.findByEmail("provision-c@test.com").orElseThrow().getUserRole());
+        // 가입이 있었던 chunk 만 감사 기록 (1~2행, 5~6행)
+        assertEquals(auditsBefore + 2, adminAuditLogRepository.count());
+    }
+
+    @Test
+    void NDJSON_도_같은_방식으로_처리한다() throws Exception {
+        // given
+        String ndjson = """
+                {"email":"provision-nd1@test.com","password":"Password1","userRole":"USER"}
+                {"email":"provision-nd2@test.com","password":"Password1"}
+                {broken
+                """;
+
+        // when
+        List<JsonNode> results = provision(UserProvisioningService.Format.NDJSON, ndjson);
+
+        // then
+        assertEquals(List.of("CREATED", "INVALID", "INVALID"),
+                results.stream().map(result -> result.get("status").asText()).toList());
+        assertEquals("형식이 올바르지 않습니다.", results.get(2).get("message").asText());
+    }
+
+    private List<JsonNode> provision(UserProvisioningService.Format format, String body) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        userProvisioningService.provision(1L, format,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        return results;
+    }
+}
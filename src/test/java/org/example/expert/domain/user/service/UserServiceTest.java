@@ -1,24 +1,37 @@
 package org.example.expert.domain.user.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.dto.BulkResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.cache.UserResponseCache;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.search.UserEmailSearchIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +43,14 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private UserEmailSearchIndex userEmailSearchIndex;
+
+    @Spy
+    private UserResponseCache userResponseCache = new UserResponseCache(100, 100, Duration.ofSeconds(30), Duration.ofSeconds(5), meterRegistry);
+
     @InjectMocks
     private UserService userService;
 
@@ -38,16 +59,56 @@ class UserServiceTest {
     void getUser_Success() {
         // given
         long userId = 1L;
-        User user = new User("test@test.com", "encodedPassword", UserRole.USER);
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(userRepository.findResponseById(userId)).willReturn(Optional.of(new UserResponse(userId, "test@test.com")));
 
         // when
         UserResponse result = userService.getUser(userId);
 
         // then
         assertNotNull(result);
-        assertEquals(user.getEmail(), result.getEmail());
-        verify(userRepository).findById(userId);
+        assertEquals("test@test.com", result.getEmail());
+        verify(userRepository).findResponseById(userId);
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("사용자 조회 - 두 번째 조회부터는 캐시에서 나오고 hit 가 기록된다")
+    void getUser_CacheHit() {
+        // given
+        long userId = 1L;
+        given(userRepository.findResponseById(userId)).willReturn(Optional.of(new UserResponse(userId, "test@test.com")));
+
+        // when
+        userService.getUser(userId);
+        userService.getUser(userId);
+
+        // then
+        verify(userRepository, times(1)).findResponseById(userId);
+        assertEquals(1, meterRegistry.get("cache.user-response.lookup").tag("result", "hit").timer().count());
+        assertEquals(1, meterRegistry.get("cache.user-response.lookup").tag("result", "miss").timer().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "userResponse").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("사용자 조회 - 없는 id 는 negative 캐시에 남아 DB 를 다시 조회하지 않고, evict 하면 다시 조회한다")
+    void getUser_NegativeCache() {
+        // given
+        long userId = 999L;
+        given(userRepository.findResponseById(userId)).willReturn(Optional.empty());
+
+        // when
+        assertThrows(InvalidRequestException.class, () -> userService.getUser(userId));
+        assertThrows(InvalidRequestException.class, () -> userService.getUser(userId));
+
+        // then
+        verify(userRepository, times(1)).findResponseById(userId);
+        assertEquals(1, meterRegistry.get("cache.user-response.lookup").tag("result", "negative-hit").timer().count());
+
+        // 가입 등으로 evict 되면 다시 조회한다
+        given(userRepository.findResponseById(userId)).willReturn(Optional.of(new UserResponse(userId, "new@test.com")));
+        userResponseCache.evict(userId);
+        assertEquals("new@test.com", userService.getUser(userId).getEmail());
+        verify(userRepository, times(2)).findResponseById(userId);
     }
 
     @Test
@@ -55,7 +116,7 @@ class UserServiceTest {
     void getUser_UserNotFound() {
         // given
         long userId = 999L;
-        given(userRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(userRepository.findResponseById(anyLong())).willReturn(Optional.empty());
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
@@ -142,4 +203,80 @@ class UserServiceTest {
                 () -> userService.changePassword(userId, request));
         assertEquals("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("ids 일괄 조회 - 캐시에 있는 id 는 쿼리하지 않고, 요청 순서를 유지하며 없는 id 를 알려준다")
+    void getUsersByIds_Success() {
+        // given
+        ReflectionTestUtils.setField(userService, "bulkMaxIds", 10);
+        ReflectionTestUtils.setField(userService, "bulkChunkSize", 2);
+        userResponseCache.put(new UserResponse(2L, "cached@test.com"));
+        given(userRepository.findResponsesByIdIn(List.of(3L, 1L))).willReturn(List.of(new UserResponse(1L, "a@test.com")));
+        given(userRepository.findResponsesByIdIn(List.of(4L))).willReturn(List.of(new UserResponse(4L, "d@test.com")));
+
+        // when
+        BulkResponse<UserResponse> result = userService.getUsersByIds(List.of(3L, 2L, 1L, 2L, 4L));
+
+        // then: 2 는 캐시, 나머지는 2개씩 IN 쿼리
+        assertEquals(List.of(2L, 1L, 4L), result.getContent().stream().map(UserResponse::getId).toList());
+        assertEquals(List.of(3L), result.getMissingIds());
+        verify(userRepository, times(2)).findResponsesByIdIn(anyCollection());
+
+        // 다시 요청하면 조회된 id 는 캐시에서, 없던 id 는 negative 캐시에서 나온다
+        userService.getUsersByIds(List.of(1L, 4L, 3L));
+        verify(userRepository, times(2)).findResponsesByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("ids 일괄 조회 실패 - 최대 개수 초과")
+    void getUsersByIds_TooManyIds() {
+        // given
+        ReflectionTestUtils.setField(userService, "bulkMaxIds", 2);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                userService.getUsersByIds(List.of(1L, 2L, 3L)));
+        assertEquals("ids 는 최대 2개까지 요청할 수 있습니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("이메일 검색 - 인덱스가 준비되면 인덱스에서 조회하고 limit 은 최대값으로 자른다")
+    void searchUsers_FromIndex() {
+        // given
+        ReflectionTestUtils.setField(userService, "searchMaxLimit", 5);
+        List<UserResponse> hits = List.of(new UserResponse(1L, "abc@test.com"));
+        given(userEmailSearchIndex.isReady()).willReturn(true);
+        given(userEmailSearchIndex.search("ab", 5)).willReturn(hits);
+
+        // when
+        List<UserResponse> result = userService.searchUsers("ab", 100);
+
+        // then
+        assertEquals(hits, result);
+        verify(userRepository, never()).findResponsesByEmailLike(any(), any());
+    }
+
+    @Test
+    @DisplayName("이메일 검색 - 인덱스 적재 전에는 LIKE 패턴을 escape 해서 DB 로 조회한다")
+    void searchUsers_FallbackToDatabase() {
+        // given
+        ReflectionTestUtils.setField(userService, "searchMaxLimit", 50);
+        given(userEmailSearchIndex.isReady()).willReturn(false);
+        given(userRepository.findResponsesByEmailLike("a!_b!%%", PageRequest.of(0, 3))).willReturn(List.of());
+
+        // when
+        List<UserResponse> result = userService.searchUsers("a_b%", 3);
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(userRepository).findResponsesByEmailLike("a!_b!%%", PageRequest.of(0, 3));
+    }
+
+    @Test
+    @DisplayName("이메일 검색 실패 - prefix 가 비어 있음")
+    void searchUsers_BlankPrefix() {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> userService.searchUsers(" ", null));
+        assertEquals("prefix 는 1자 이상이어야 합니다.", exception.getMessage());
+    }
 }
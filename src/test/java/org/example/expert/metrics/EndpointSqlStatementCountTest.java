@@ -0,0 +1,203 @@
+package org.example.expert.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * 엔드포인트별 요청 스레드 SQL 수 (X-Sql-Count). 값이 바뀌면 의도한 변경인지 확인하고 갱신한다.
+ * 캐시 영향을 없애려고 테스트마다 새 유저/일정으로 처음 호출한 값을 잰다.
+ * 백그라운드 스레드(댓글 배치 INSERT, 일정 뷰 반영, 감사 기록)와 스트리밍 응답(SSE, 유저 일괄 등록)의 SQL 은 들어가지 않는다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EndpointSqlStatementCountTest {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong(System.nanoTime());
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private Account owner;
+    private Account member;
+    private Account admin;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        owner = signup("USER");
+        member = signup("USER");
+        admin = signup("ADMIN");
+    }
+
+    @Test
+    void auth() throws Exception {
+        String email = "sql-count-" + SEQUENCE.incrementAndGet() + "@test.com";
+        assertSql(2, post("/auth/signup").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"Password1\",\"userRole\":\"USER\"}"));
+        assertSql(1, post("/auth/signin").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"Password1\"}"));
+    }
+
+    @Test
+    void users() throws Exception {
+        assertSql(1, as(owner, get("/users/" + member.id)));
+        assertSql(1, as(owner, get("/users").param("ids", owner.id + "," + member.id)));
+        assertSql(0, as(owner, get("/users/search").param("prefix", "sql-count-")));
+        assertSql(2, as(owner, put("/users").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"oldPassword\":\"Password1\",\"newPassword\":\"Password2\"}")));
+    }
+
+    @Test
+    void todos() throws Exception {
+        long todoId = saveTodo(owner);
+
+        assertSql(4, as(owner, post("/todos").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"title\",\"contents\":\"contents\"}")));
+        assertSql(2, as(owner, get("/todos/" + todoId)));
+        assertSql(0, as(owner, get("/todos").param("ids", String.valueOf(todoId))));
+        assertSql(1, as(owner, get("/todos").param("page", "1").param("size", "100")));
+        assertSql(2, as(owner, get("/todos/changes").param("size", "10")));
+        assertSql(1, as(owner, get("/users/me/todos")));
+
+        MvcResult current = mockMvc.perform(as(owner, get("/todos/" + todoId))).andReturn();
+        assertSql(4, as(owner, patch("/todos/" + todoId).contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, current.getResponse().getHeader(HttpHeaders.ETAG))
+                .content("{\"title\":\"changed\",\"contents\":\"changed\"}")));
+        assertSql(7, as(owner, delete("/todos/" + todoId)));
+    }
+
+    @Test
+    void managers() throws Exception {
+        long todoId = saveTodo(owner);
+        Account another = signup("USER");
+
+        assertSql(3, as(owner, post("/todos/" + todoId + "/managers").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"managerUserId\":" + member.id + "}")));
+        assertSql(3, as(owner, post("/todos/" + todoId + "/managers/bulk").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"managerUserIds\":[" + another.id + "]}")));
+        MvcResult managers = mockMvc.perform(as(owner, get("/todos/" + todoId + "/managers"))).andReturn();
+        assertSql(2, managers);
+        long managerId = objectMapper.readTree(managers.getResponse().getContentAsString()).get(0).get("id").asLong();
+        assertSql(1, as(owner, delete("/todos/" + todoId + "/managers/" + managerId)));
+    }
+
+    @Test
+    void comments() throws Exception {
+        long todoId = saveTodo(owner);
+        long commentId = saveComment(owner, todoId);
+
+        assertSql(0, as(owner, post("/todos/" + todoId + "/comments").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"contents\":\"comment\"}")));
+        assertSql(2, as(owner, get("/todos/" + todoId + "/comments")));
+        assertSql(2, as(admin, delete("/admin/comments/" + commentId)));
+        long second = saveComment(owner, todoId);
+        assertSql(3, as(admin, post("/admin/comments/bulk-delete").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"commentIds\":[" + second + "]}")));
+        assertSql(1, as(admin, delete("/admin/users/" + member.id + "/comments")));
+        assertSql(3, as(admin, delete("/admin/todos/" + todoId + "/comments")));
+    }
+
+    @Test
+    void admin() throws Exception {
+        assertSql(2, as(admin, patch("/admin/users/" + member.id).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"role\":\"ADMIN\"}")));
+        assertSql(2, as(admin, patch("/admin/users/roles").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userIds\":[" + member.id + "," + owner.id + "],\"role\":\"USER\"}")));
+        assertSql(0, as(admin, get("/admin/audit")));
+        assertSql(3, as(admin, post("/admin/todo-view/rebuild")));
+    }
+
+    @Test
+    void conditionalGet() throws Exception {
+        long todoId = saveTodo(owner);
+        saveComment(owner, todoId);
+
+        // 첫 조회로 ETag 를 받아 두고 버전 캐시를 채운다. 304 는 본문도, 본문 조회 SQL 도 없어야 한다
+        for (String uri : new String[]{"/todos/" + todoId, "/todos/" + todoId + "/comments", "/todos/" + todoId + "/managers"}) {
+            MvcResult full = mockMvc.perform(as(owner, get(uri))).andReturn();
+            assertTrue(full.getResponse().getContentAsByteArray().length > 0, uri);
+            if (uri.endsWith("s")) {
+                // 목록은 삭제가 Last-Modified 를 앞으로 옮기지 않으므로 ETag 만 준다
+                assertNull(full.getResponse().getHeader(HttpHeaders.LAST_MODIFIED), uri);
+            }
+
+            MvcResult notModified = mockMvc.perform(as(owner, get(uri))
+                    .header(HttpHeaders.IF_NONE_MATCH, full.getResponse().getHeader(HttpHeaders.ETAG))).andReturn();
+            assertEquals(304, notModified.getResponse().getStatus(), uri);
+            assertEquals(0, notModified.getResponse().getContentAsByteArray().length, uri);
+            assertEquals("0", notModified.getResponse().getHeader(SqlStatementFilter.COUNT_HEADER), uri);
+        }
+    }
+
+    private void assertSql(int expected, MockHttpServletRequestBuilder request) throws Exception {
+        assertSql(expected, mockMvc.perform(request).andReturn());
+    }
+
+    private void assertSql(int expected, MvcResult result) {
+        String endpoint = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+        assertTrue(result.getResponse().getStatus() < 300, endpoint + " " + result.getResponse().getStatus());
+        assertEquals(String.valueOf(expected), result.getResponse().getHeader(SqlStatementFilter.COUNT_HEADER), endpoint);
+    }
+
+    private MockHttpServletRequestBuilder as(Account account, MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, account.token);
+    }
+
+    private Account signup(String role) throws Exception {
+        String email = "sql-count-" + SEQUENCE.incrementAndGet() + "@test.com";
+        MvcResult result = mockMvc.perform(post("/auth/signup").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"Password1\",\"userRole\":\"" + role + "\"}"))
+                .andReturn();
+        String token = objectMapper.readTree(result.getResponse().getContentAsString()).get("bearerToken").asText();
+        String payload = jwtUtil.substringToken(token).split("\\.")[1];
+        long id = objectMapper.readTree(Base64.getUrlDecoder().decode(payload)).get("sub").asLong();
+        return new Account(id, token);
+    }
+
+    private long saveTodo(Account account) throws Exception {
+        MvcResult result = mockMvc.perform(as(account, post("/todos").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"title\",\"contents\":\"contents\"}"))).andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private long saveComment(Account account, long todoId) throws Exception {
+        MvcResult result = mockMvc.perform(as(account, post("/todos/" + todoId + "/comments")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"contents\":\"comment\"}"))).andReturn();
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        return body.get("id").asLong();
+    }
+
+    private record Account(long id, String token) {
+    }
+}
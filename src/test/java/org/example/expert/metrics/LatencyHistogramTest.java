@@ -0,0 +1,86 @@
+package org.example.expert.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void 버킷_경계는_연속이고_상대_오차가_8분의_1_이내다() {
+        long previousUpper = -1;
+        for (int index = 0; index < LatencyHistogram.BUCKETS; index++) {
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            assertEquals(index, LatencyHistogram.bucketIndex(previousUpper + 1));
+            assertEquals(index, LatencyHistogram.bucketIndex(upper));
+            previousUpper = upper;
+        }
+        for (long value : new long[]{9, 1_000, 123_456, 7_654_321_000L}) {
+            long upper = LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(value));
+            assertTrue(upper >= value && upper - value <= value / 8);
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    void 분위수와_최댓값_평균을_계산한다() {
+        // given: 1us ~ 1000us 균등
+        LatencyHistogram histogram = new LatencyHistogram(1);
+        for (int micros = 1; micros <= 1_000; micros++) {
+            histogram.record(micros * 1_000L);
+        }
+
+        // when
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // then
+        assertEquals(1_000, snapshot.count());
+        assertEquals(1_000_000, snapshot.maxNanos());
+        assertEquals(500_500, snapshot.meanNanos(), 0.001);
+        assertNear(500_000, snapshot.percentileNanos(0.5));
+        assertNear(990_000, snapshot.percentileNanos(0.99));
+        assertEquals(1_000_000, snapshot.percentileNanos(0.999));
+        assertEquals(0, new LatencyHistogram(1).snapshot().percentileNanos(0.99));
+    }
+
+    @Test
+    void 여러_스레드가_동시에_기록해도_유실되지_않는다() throws InterruptedException {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram(4);
+        int threads = 8;
+        int perThread = 50_000;
+
+        // when
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    histogram.record(100 + offset);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // then
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals((long) threads * perThread, snapshot.count());
+        assertEquals(107, snapshot.maxNanos());
+        long expectedSum = 0;
+        for (int t = 0; t < threads; t++) {
+            expectedSum += (100L + t) * perThread;
+        }
+        assertEquals(expectedSum, snapshot.totalNanos());
+    }
+
+    private void assertNear(long expected, long actual) {
+        assertTrue(actual >= expected && actual - expected <= expected / 8, "expected ~" + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.aop.LatencyTracked;
+import org.example.expert.aop.MethodLatencyAspect;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+/**
+ * 지연시간 측정 비용: 히스토그램 record() 단독, 그리고 같은 프록시에 측정 aspect 를 켰을 때와 껐을 때의 호출 비용 차이
+ * 목표는 호출당 1us 미만
+ */
+@Tag("benchmark")
+class MethodLatencyBenchmark {
+
+    private static final int CALLS = 5_000_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void measurement_overhead_per_call() {
+        LatencyHistogram histogram = new LatencyHistogram(Math.min(16, Runtime.getRuntime().availableProcessors()));
+        long sink = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long begin = System.nanoTime();
+            for (int i = 0; i < CALLS; i++) {
+                histogram.record(i & 0xFFFF);
+            }
+            long elapsed = System.nanoTime() - begin;
+            if (round == ROUNDS - 1) {
+                System.out.printf("[method-latency] record(): %.1fns/call%n", (double) elapsed / CALLS);
+            }
+        }
+
+        Target enabled = proxy(new MethodLatencyRegistry(true, 0, new SimpleMeterRegistry()));
+        Target disabled = proxy(new MethodLatencyRegistry(false, 0, new SimpleMeterRegistry()));
+        double enabledNanos = 0;
+        double disabledNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long begin = System.nanoTime();
+            for (int i = 0; i < CALLS; i++) {
+                sink += disabled.work(i);
+            }
+            disabledNanos = (double) (System.nanoTime() - begin) / CALLS;
+
+            begin = System.nanoTime();
+            for (int i = 0; i < CALLS; i++) {
+                sink += enabled.work(i);
+            }
+            enabledNanos = (double) (System.nanoTime() - begin) / CALLS;
+        }
+        System.out.printf("[method-latency] proxied call: disabled=%.1fns enabled=%.1fns overhead=%.1fns/call (sink=%d)%n",
+                disabledNanos, enabledNanos, enabledNanos - disabledNanos, sink % 10);
+    }
+
+    private Target proxy(MethodLatencyRegistry registry) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Target());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MethodLatencyAspect(registry));
+        return factory.getProxy();
+    }
+
+    @LatencyTracked
+    static class Target {
+
+        public long work(int value) {
+            return value * 31L;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.expert.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.ReadWriteRoutingDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 복제본 라우팅을 켜도 GET 경로의 로컬 캐시가 채워지는지 (X-Sql-Count).
+ * 같은 H2 메모리 DB 를 복제본 URL 로도 써서 복제 지연 없이 읽기 전용 트랜잭션만 복제본 풀로 보낸다.
+ * 쓰기로 비운 키는 복제 지연 한도(200ms) 동안 복제본 값으로 채우지 않으므로 한도가 지난 뒤에 잰다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "db.replica.enabled=true",
+        "db.replica.urls=jdbc:h2:mem:replica-cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "db.replica.read-your-writes-window=200ms"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReplicaCachedReadTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private DataSource dataSource;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @Test
+    void 복제본에서_읽어도_두_번째_유저_조회와_조건부_GET_은_DB_에_가지_않는다() throws Exception {
+        // given
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        assertTrue(dataSource.isWrapperFor(ReadWriteRoutingDataSource.class));
+        String owner = signup("replica-owner@test.com");
+        long memberId = userId(signup("replica-member@test.com"));
+        MvcResult saved = mockMvc.perform(post("/todos").header(HttpHeaders.AUTHORIZATION, owner)
+                .contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"title\",\"contents\":\"contents\"}")).andReturn();
+        long todoId = objectMapper.readTree(saved.getResponse().getContentAsString()).get("id").asLong();
+        Thread.sleep(300);
+
+        // when & then: 유저 조회는 처음 한 번만 DB 에서 읽는다
+        assertSql("1", mockMvc.perform(get("/users/" + memberId).header(HttpHeaders.AUTHORIZATION, owner)).andReturn());
+        assertSql("0", mockMvc.perform(get("/users/" + memberId).header(HttpHeaders.AUTHORIZATION, owner)).andReturn());
+
+        // 조건부 GET 은 캐시된 버전으로 304 를 준다
+        MvcResult full = mockMvc.perform(get("/todos/" + todoId).header(HttpHeaders.AUTHORIZATION, owner)).andReturn();
+        assertEquals(200, full.getResponse().getStatus());
+        MvcResult notModified = mockMvc.perform(get("/todos/" + todoId).header(HttpHeaders.AUTHORIZATION, owner)
+                .header(HttpHeaders.IF_NONE_MATCH, full.getResponse().getHeader(HttpHeaders.ETAG))).andReturn();
+        assertEquals(304, notModified.getResponse().getStatus());
+        assertSql("0", notModified);
+    }
+
+    private void assertSql(String expected, MvcResult result) {
+        assertEquals(expected, result.getResponse().getHeader(SqlStatementFilter.COUNT_HEADER), result.getRequest().getRequestURI());
+    }
+
+    private String signup(String email) throws Exception {
+        MockHttpServletRequestBuilder request = post("/auth/signup").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"Password1\",\"userRole\":\"USER\"}");
+        MvcResult result = mockMvc.perform(request).andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("bearerToken").asText();
+    }
+
+    private long userId(String token) throws Exception {
+        String payload = jwtUtil.substringToken(token).split("\\.")[1];
+        return objectMapper.readTree(Base64.getUrlDecoder().decode(payload)).get("sub").asLong();
+    }
+}
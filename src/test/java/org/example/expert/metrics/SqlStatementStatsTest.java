@@ -0,0 +1,50 @@
+package org.example.expert.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementStatsTest {
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementStats.end();
+    }
+
+    @Test
+    void IN_목록_길이와_숫자_리터럴만_다른_SQL_은_같은_모양으로_센다() {
+        assertEquals("select * from users where id in (?) limit ?",
+                SqlStatementStats.shapeOf("select * from users where id in (?, ?, ?) limit 10"));
+        assertEquals(SqlStatementStats.shapeOf("select * from todos where id in (?,?)"),
+                SqlStatementStats.shapeOf("select * from todos where id in ( ? )"));
+    }
+
+    @Test
+    void 기준을_넘게_반복된_SQL_만_N_플러스_1_의심으로_돌려준다() {
+        // given
+        SqlStatementStats stats = SqlStatementStats.begin();
+
+        // when: 댓글 목록 1번 + 작성자 조회 12번, batch 는 모양을 세지 않는다
+        execute(stats, "select * from comments where todo_id=?", false);
+        for (int i = 0; i < 12; i++) {
+            execute(stats, "select * from users where id=?", false);
+        }
+        for (int i = 0; i < 20; i++) {
+            execute(stats, "insert into comments (contents) values (?)", true);
+        }
+
+        // then
+        assertEquals(33, stats.getCount());
+        assertSame(stats, SqlStatementStats.current());
+        assertEquals(Map.of("select * from users where id=?", 12), stats.repeatedShapes(10));
+        assertTrue(stats.repeatedShapes(12).isEmpty());
+    }
+
+    private void execute(SqlStatementStats stats, String sql, boolean batch) {
+        stats.beforeExecute();
+        stats.afterExecute(sql, batch);
+    }
+}